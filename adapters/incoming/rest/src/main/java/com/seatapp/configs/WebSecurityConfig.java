@@ -4,6 +4,7 @@ import com.seatapp.filters.AdminFilter;
 import com.seatapp.filters.JwtAuthorizationFilter;
 import com.seatapp.services.UserService;
 import com.seatapp.usermanagement.services.JwtService;
+import com.seatapp.usermanagement.services.JwtTokenCache;
 import com.seatapp.usermanagement.services.JwtUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
@@ -44,7 +45,11 @@ class WebSecurityConfig extends WebSecurityConfigurerAdapter {
      */
     private final JwtService jwtServiceImpl;
     /**
-     * The service to authenticate the JWT token.
+     * The cache of the verified JWT tokens.
+     */
+    private final JwtTokenCache jwtTokenCache;
+    /**
+     * The service which gives the current role of a user.
      */
     private final UserService userService;
 
@@ -53,10 +58,12 @@ class WebSecurityConfig extends WebSecurityConfigurerAdapter {
                       final OAuth2UserService<OidcUserRequest,
                               OidcUser> oidcUserService,
                       final JwtService jwtServiceImpl,
+                      final JwtTokenCache jwtTokenCache,
                       final UserService userService) {
         this.userDetailsService = userDetailsService;
         this.oidcUserService = oidcUserService;
         this.jwtServiceImpl = jwtServiceImpl;
+        this.jwtTokenCache = jwtTokenCache;
         this.userService = userService;
     }
 
@@ -109,13 +116,13 @@ class WebSecurityConfig extends WebSecurityConfigurerAdapter {
                 .addFilter(new JwtAuthorizationFilter(
                         authenticationManager(),
                         jwtServiceImpl,
-                        userDetailsService,
+                        jwtTokenCache,
                         "/api/login/",
                         "/actuator/",
                         "/api/admin/login"))
                 .addFilter(new AdminFilter(authenticationManager(),
                         jwtServiceImpl,
-                        userService, "POST /api/seats",
+                        jwtTokenCache, userService, "POST /api/seats",
                         "DELETE /api/seats",
                         "GET /api/admin/healthcheck", "PATCH /api/users"))
                 .authorizeRequests()
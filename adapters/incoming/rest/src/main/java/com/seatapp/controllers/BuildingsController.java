@@ -2,12 +2,18 @@ package com.seatapp.controllers;
 
 import com.seatapp.controllers.dtos.BuildingDto;
 import com.seatapp.controllers.dtos.FloorDto;
+import com.seatapp.controllers.dtos.FloorGeometryDto;
 import com.seatapp.controllers.dtos.SelectedBuildingFloorDto;
 import com.seatapp.domain.Building;
+import com.seatapp.domain.DayOccupancy;
 import com.seatapp.domain.Floor;
+import com.seatapp.domain.FloorGeometry;
 import com.seatapp.services.BuildingService;
+import com.seatapp.services.FloorGeometryService;
+import com.seatapp.services.OccupancyService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,6 +24,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
 import java.time.LocalDate;
@@ -33,13 +41,42 @@ public class BuildingsController {
     private final BuildingService buildingService;
 
     /**
-     * Creates a controller with the specified service.
+     * Represents the cache of the floor geometry.
+     */
+    private final FloorGeometryService floorGeometryService;
+
+    /**
+     * Represents the occupancy of the seats per day.
+     */
+    private final OccupancyService occupancyService;
+
+    /**
+     * Represents the streams of the seat statuses.
+     */
+    private final SeatStatusBroadcaster seatStatusBroadcaster;
+
+    /**
+     * Creates a controller with the specified services.
      *
-     * @param buildingService represents the building service
+     * @param buildingService       represents the building service
+     * @param floorGeometryService  represents the cache
+     *                              of the floor geometry
+     * @param occupancyService      represents the occupancy
+     *                              of the seats per day
+     * @param seatStatusBroadcaster represents the streams
+     *                              of the seat statuses
      */
     @Autowired
-    public BuildingsController(final BuildingService buildingService) {
+    public BuildingsController(final BuildingService buildingService,
+                               final FloorGeometryService
+                                       floorGeometryService,
+                               final OccupancyService occupancyService,
+                               final SeatStatusBroadcaster
+                                       seatStatusBroadcaster) {
         this.buildingService = buildingService;
+        this.floorGeometryService = floorGeometryService;
+        this.occupancyService = occupancyService;
+        this.seatStatusBroadcaster = seatStatusBroadcaster;
     }
 
     /**
@@ -145,11 +182,66 @@ public class BuildingsController {
                     .getByIdAndFloorId(buildingId, floorId);
             buildingDto = SelectedBuildingFloorDto.build(building);
         } else {
+            long occupancyVersion = occupancyService.getVersion();
             Building building = buildingService
                     .getByIdAndFloorIdAndDate(buildingId, floorId, date);
-            buildingDto = SelectedBuildingFloorDto.build(building, date);
+            DayOccupancy occupancy = occupancyService.getDayOccupancy(date,
+                    building.getFloors().stream()
+                            .flatMap(floor -> floor.getSeats().stream())
+                            .toList(),
+                    occupancyVersion);
+            buildingDto = SelectedBuildingFloorDto.build(building,
+                    occupancy);
         }
 
         return ResponseEntity.ok(buildingDto);
     }
+
+    /**
+     * Get the walls of a floor and the position and size of its seats,
+     * without the reservations. The geometry rarely changes, so it is
+     * sent with an ETag and a matching If-None-Match gets a 304.
+     *
+     * @param buildingId the building id of the floor
+     * @param floorId    the floor id
+     * @param webRequest the request with the If-None-Match header
+     * @return Returns a responseEntity with the HttpStatus
+     * and the geometry of the floor.
+     */
+    @GetMapping("{buildingId}/floors/{floorId}/geometry")
+    public ResponseEntity<FloorGeometryDto> getFloorGeometry(
+            @PathVariable final long buildingId,
+            @PathVariable final long floorId,
+            final WebRequest webRequest) {
+        FloorGeometry geometry = floorGeometryService
+                .getGeometry(buildingId, floorId);
+        String eTag = "\"" + floorId + "-" + geometry.getVersion() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(eTag)
+                .body(FloorGeometryDto.build(geometry.getBuilding()));
+    }
+
+    /**
+     * Streams the status of the seats of a floor on a day.
+     * The first event holds every seat of the floor, the next events
+     * the seats whose status changed by a reservation, check in,
+     * cancel or change of availability.
+     *
+     * @param buildingId the building id of the floor
+     * @param floorId    the floor id
+     * @param date       the day of the statuses
+     * @return the stream of the seat statuses
+     */
+    @GetMapping(value = "{buildingId}/floors/{floorId}/status",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatStatus(
+            @PathVariable final long buildingId,
+            @PathVariable final long floorId,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @RequestParam final LocalDate date) {
+        return seatStatusBroadcaster.subscribe(buildingId, floorId, date);
+    }
 }
@@ -0,0 +1,64 @@
+package com.seatapp.controllers;
+
+import com.seatapp.controllers.dtos.FreeSeatDto;
+import com.seatapp.services.FloorService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * This is an api to search the seats of a floor.
+ */
+@CrossOrigin
+@RestController
+@RequestMapping("/api/floors")
+public class FloorsController {
+    /**
+     * Represents the floor service that is called.
+     */
+    private final FloorService floorService;
+
+    /**
+     * Creates the controller with a specified service.
+     *
+     * @param floorService the floorService
+     */
+    @Autowired
+    public FloorsController(final FloorService floorService) {
+        this.floorService = floorService;
+    }
+
+    /**
+     * Get the seats of the floor which are free during the period,
+     * the seats with the longest free time around it first.
+     *
+     * @param floorId the floor id
+     * @param from    the start of the period
+     * @param to      the end of the period, on the same day
+     * @return Returns a responseEntity with the HttpStatus
+     * and the free seats.
+     */
+    @GetMapping("{floorId}/free")
+    public ResponseEntity<List<FreeSeatDto>> getFreeSeats(
+            @PathVariable final long floorId,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @RequestParam final LocalDateTime from,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @RequestParam final LocalDateTime to) {
+        List<FreeSeatDto> freeSeats = floorService
+                .findFreeSeats(floorId, from, to).stream()
+                .map(FreeSeatDto::build)
+                .toList();
+
+        return ResponseEntity.ok(freeSeats);
+    }
+}
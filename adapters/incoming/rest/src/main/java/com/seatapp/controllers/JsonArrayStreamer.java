@@ -0,0 +1,72 @@
+package com.seatapp.controllers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes a json array to the response one element at a time,
+ * so the elements are never held in memory together.
+ */
+@Component
+public class JsonArrayStreamer {
+    /**
+     * Represents the writer of the elements, configured like
+     * the object mapper of the application. It does not flush
+     * after every element, the response stream is buffered.
+     */
+    private final ObjectWriter writer;
+
+    /**
+     * Creates the streamer.
+     *
+     * @param objectMapper the object mapper of the application
+     */
+    @Autowired
+    public JsonArrayStreamer(final ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Creates a response body which writes the elements given
+     * by the source to a json array while the source produces them.
+     *
+     * @param source gives each element to the consumer it receives
+     * @return the response body
+     */
+    public StreamingResponseBody stream(
+            final Consumer<Consumer<Object>> source) {
+        return outputStream -> {
+            try (JsonGenerator generator =
+                         writer.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                source.accept(element -> write(generator, element));
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    /**
+     * Writes one element of the array.
+     *
+     * @param generator the generator of the json array
+     * @param element   the element
+     */
+    private void write(final JsonGenerator generator, final Object element) {
+        try {
+            writer.writeValue(generator, element);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
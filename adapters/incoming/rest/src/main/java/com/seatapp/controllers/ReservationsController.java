@@ -1,9 +1,9 @@
 package com.seatapp.controllers;
 
+import com.seatapp.controllers.dtos.PageDto;
 import com.seatapp.controllers.dtos.UserReservationDto;
-import com.seatapp.domain.Seat;
+import com.seatapp.domain.SeatReservation;
 import com.seatapp.services.ReservationService;
-import com.seatapp.services.SeatService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -29,23 +30,15 @@ public class ReservationsController {
      */
     private final ReservationService reservationService;
 
-    /**
-     * Represents the seat service.
-     */
-    private final SeatService seatService;
-
     /**
      * Creates a controller with the specified service.
      *
      * @param reservationService the reservation service
-     * @param seatService        the seat service
      */
     @Autowired
     public ReservationsController(
-            final ReservationService reservationService,
-            final SeatService seatService) {
+            final ReservationService reservationService) {
         this.reservationService = reservationService;
-        this.seatService = seatService;
     }
 
     /**
@@ -66,29 +59,48 @@ public class ReservationsController {
     }
 
     /**
-     * /**
-     * Takes all the seats from the database with the
-     * reservations by the user who reserved them.
-     * The seats will be converted to a UserReservationDto.
+     * Takes the upcoming reservations of the user
+     * who reserved them from the database.
+     * The reservations will be converted to a UserReservationDto.
+     * They come from the service in start time order,
+     * so they are not sorted again.
      *
      * @param token this contains the email of the user
      *              who send the request
      * @return Returns a responseEntity with the HttpStatus
-     * and the found seats.
+     * and the found reservations.
      */
     @GetMapping("users")
     public ResponseEntity<List<UserReservationDto>>
     getReservationsOfTheUser(
             final UsernamePasswordAuthenticationToken token) {
-        List<Seat> foundSeats = seatService
+        List<SeatReservation> foundReservations = reservationService
                 .getAllByUser(token.getName());
 
-        List<UserReservationDto> dtoList =
-                UserReservationDto.buildList(foundSeats);
-
-        dtoList.sort((o1, o2) -> o1.getStartDateTime()
-                .isBefore(o2.getStartDateTime()) ? 1 : 0);
+        return ResponseEntity.ok(
+                UserReservationDto.buildList(foundReservations));
+    }
 
-        return ResponseEntity.ok(dtoList);
+    /**
+     * Takes a page of the upcoming reservations of the user
+     * who reserved them from the database, in start time order.
+     *
+     * @param token this contains the email of the user
+     *              who send the request
+     * @param limit the maximum amount of reservations of the page
+     * @param after the next cursor of the previous page,
+     *              absent for the first page
+     * @return Returns a responseEntity with the HttpStatus
+     * and the page of reservations.
+     */
+    @GetMapping(value = "users", params = "limit")
+    public ResponseEntity<PageDto<UserReservationDto>>
+    getReservationsPageOfTheUser(
+            final UsernamePasswordAuthenticationToken token,
+            @RequestParam final int limit,
+            @RequestParam(required = false) final String after) {
+        return ResponseEntity.ok(PageDto.build(reservationService
+                        .getPageByUser(token.getName(), after, limit),
+                UserReservationDto::build));
     }
 }
@@ -0,0 +1,569 @@
+package com.seatapp.controllers;
+
+import com.seatapp.controllers.dtos.SeatDto;
+import com.seatapp.controllers.dtos.SeatStatusChangeDto;
+import com.seatapp.controllers.dtos.SeatStatusDto;
+import com.seatapp.domain.Building;
+import com.seatapp.domain.DayOccupancy;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.SeatChange;
+import com.seatapp.services.BuildingService;
+import com.seatapp.services.OccupancyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams the status of the seats of a floor on a day to the
+ * subscribed clients. A change of a seat never waits for the clients:
+ * it marks the floors of the changed day, which are loaded again
+ * on their own small pool of threads, and only the seats whose status
+ * changed are sent. The events of a client wait in a bounded queue and
+ * are sent on another pool, so a slow client never holds up the loads.
+ * A client whose queue is full has fallen behind and is closed,
+ * it gets the current statuses when it subscribes again.
+ * A send blocks while the client does not read, so the send pool gets
+ * an extra thread when all of its threads are busy, and a client whose
+ * send is in flight past a deadline is evicted: its send is interrupted
+ * and nothing is queued for it anymore.
+ */
+@Component
+public class SeatStatusBroadcaster {
+    /**
+     * The name of the events with the statuses of the seats.
+     */
+    static final String EVENT_NAME = "seats";
+
+    /**
+     * The seconds after which an idle extra thread of the send pool
+     * is stopped.
+     */
+    private static final long IDLE_SECONDS = 60;
+
+    /**
+     * The logger of the broadcaster.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(SeatStatusBroadcaster.class);
+
+    /**
+     * Represents the building service.
+     */
+    private final BuildingService buildingService;
+
+    /**
+     * Represents the occupancy of the seats per day.
+     */
+    private final OccupancyService occupancyService;
+
+    /**
+     * Represents the threads which load the floors again.
+     */
+    private final ExecutorService refreshExecutor;
+
+    /**
+     * Represents the threads which send the statuses to the clients.
+     */
+    private final ExecutorService sendExecutor;
+
+    /**
+     * Represents the thread which evicts the stalled clients.
+     */
+    private final ScheduledExecutorService watchdog =
+            Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * Represents the maximum amount of events waiting for a client.
+     */
+    private final int queueSize;
+
+    /**
+     * Represents the time after which a stream is closed
+     * and the client has to subscribe again.
+     */
+    private final long timeoutMillis;
+
+    /**
+     * Represents the time a send may be in flight
+     * before its client is evicted.
+     */
+    private final long sendTimeoutMillis;
+
+    /**
+     * Represents the subscribed floors on a day.
+     */
+    private final Map<FloorDay, Group> groups = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the broadcaster.
+     *
+     * @param buildingService    the building service
+     * @param occupancyService   the occupancy of the seats per day
+     * @param threads            the amount of threads kept to send
+     *                           the statuses
+     * @param refreshThreads     the amount of threads which load
+     *                           the floors
+     * @param queueSize          the maximum amount of events waiting
+     *                           for a client
+     * @param timeoutMinutes     the minutes after which a stream
+     *                           is closed
+     * @param sendTimeoutSeconds the seconds a send may be in flight
+     *                           before its client is evicted
+     */
+    @Autowired
+    public SeatStatusBroadcaster(final BuildingService buildingService,
+                                 final OccupancyService occupancyService,
+                                 @Value("${seat.status.threads:4}")
+                                 final int threads,
+                                 @Value("${seat.status.refresh.threads:2}")
+                                 final int refreshThreads,
+                                 @Value("${seat.status.queue.size:16}")
+                                 final int queueSize,
+                                 @Value("${seat.status.timeout.minutes:30}")
+                                 final long timeoutMinutes,
+                                 @Value("${seat.status.send.seconds:10}")
+                                 final long sendTimeoutSeconds) {
+        this.buildingService = buildingService;
+        this.occupancyService = occupancyService;
+        this.sendExecutor = new ThreadPoolExecutor(threads,
+                Integer.MAX_VALUE, IDLE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>());
+        this.refreshExecutor = Executors.newFixedThreadPool(refreshThreads);
+        this.queueSize = queueSize;
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        this.sendTimeoutMillis = TimeUnit.SECONDS.toMillis(
+                sendTimeoutSeconds);
+    }
+
+    /**
+     * Starts looking for the stalled clients.
+     */
+    @PostConstruct
+    void start() {
+        watchdog.scheduleWithFixedDelay(this::evictStalled,
+                sendTimeoutMillis, sendTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Subscribes to the status of the seats of a floor on a day.
+     * The first event holds the status of every seat of the floor,
+     * the next events only the seats whose status changed.
+     * The subscriber is registered before the floor is loaded,
+     * so a change made during the load is sent to it afterwards.
+     *
+     * @param buildingId the building id of the floor
+     * @param floorId    the floor id
+     * @param date       the day
+     * @return the stream of the statuses
+     */
+    public SseEmitter subscribe(final long buildingId, final long floorId,
+                                final LocalDate date) {
+        return subscribe(buildingId, floorId, date,
+                new SseEmitter(timeoutMillis));
+    }
+
+    /**
+     * Subscribes a stream to the status of the seats
+     * of a floor on a day.
+     *
+     * @param buildingId the building id of the floor
+     * @param floorId    the floor id
+     * @param date       the day
+     * @param emitter    the stream to the client
+     * @return the stream of the statuses
+     */
+    SseEmitter subscribe(final long buildingId, final long floorId,
+                         final LocalDate date, final SseEmitter emitter) {
+        FloorDay key = new FloorDay(buildingId, floorId, date);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> unsubscribe(key, subscriber));
+        emitter.onTimeout(() -> unsubscribe(key, subscriber));
+        emitter.onError(e -> unsubscribe(key, subscriber));
+        Group group = groups.compute(key, (floorDay, subscribed) -> {
+            Group added = subscribed == null ? new Group(floorDay)
+                    : subscribed;
+            added.add(subscriber);
+            return added;
+        });
+        Map<Long, SeatStatusDto> loaded = null;
+        if (!group.hasStatuses()) {
+            try {
+                loaded = loadStatuses(key);
+            } catch (RuntimeException e) {
+                unsubscribe(key, subscriber);
+                throw e;
+            }
+        }
+        group.sendAll(subscriber, loaded);
+        return emitter;
+    }
+
+    /**
+     * Marks the subscribed floors on the days the change affects,
+     * they are loaded again on the threads of the broadcaster.
+     *
+     * @param change the change of a seat
+     */
+    @EventListener
+    public void onSeatChange(final SeatChange change) {
+        groups.values().stream()
+                .filter(group -> group.isAffectedBy(change))
+                .forEach(Group::refreshLater);
+    }
+
+    /**
+     * Closes the streams and stops the threads.
+     */
+    @PreDestroy
+    void shutdown() {
+        groups.values().forEach(Group::complete);
+        watchdog.shutdownNow();
+        refreshExecutor.shutdownNow();
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * Evicts the clients whose send is in flight past the deadline.
+     */
+    private void evictStalled() {
+        long now = System.nanoTime();
+        groups.values().forEach(group -> group.subscribers.forEach(
+                subscriber -> subscriber.evictIfStalled(now)));
+    }
+
+    /**
+     * Removes the subscriber, and the floor on the day
+     * once it has no subscribers left.
+     *
+     * @param key        the floor on the day
+     * @param subscriber the subscriber
+     */
+    private void unsubscribe(final FloorDay key,
+                             final Subscriber subscriber) {
+        groups.computeIfPresent(key, (floorDay, group) ->
+                group.remove(subscriber) ? null : group);
+    }
+
+    /**
+     * Loads the status of every seat of the floor on the day.
+     *
+     * @param key the floor on the day
+     * @return the statuses by seat id
+     */
+    private Map<Long, SeatStatusDto> loadStatuses(final FloorDay key) {
+        long occupancyVersion = occupancyService.getVersion();
+        Building building = buildingService.getByIdAndFloorIdAndDate(
+                key.buildingId(), key.floorId(), key.date());
+        List<Seat> seats = building.getFloors().stream()
+                .flatMap(floor -> floor.getSeats().stream())
+                .toList();
+        DayOccupancy occupancy = occupancyService.getDayOccupancy(
+                key.date(), seats, occupancyVersion);
+        Map<Long, SeatStatusDto> statuses = new HashMap<>();
+        seats.forEach(seat -> statuses.put(seat.getId(),
+                SeatDto.findSeatStatus(seat, occupancy.getOfSeat(seat))));
+        return statuses;
+    }
+
+    /**
+     * The key of a floor on a day.
+     *
+     * @param buildingId the building id of the floor
+     * @param floorId    the floor id
+     * @param date       the day
+     */
+    private record FloorDay(long buildingId, long floorId, LocalDate date) {
+    }
+
+    /**
+     * The subscribers of a floor on a day,
+     * with the statuses they were last sent.
+     */
+    private final class Group {
+        /**
+         * The floor on the day.
+         */
+        private final FloorDay key;
+
+        /**
+         * The subscribers.
+         */
+        private final Set<Subscriber> subscribers =
+                ConcurrentHashMap.newKeySet();
+
+        /**
+         * Tells if a load of the floor is waiting to run.
+         */
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        /**
+         * The statuses last sent, by seat id,
+         * null until the floor is loaded.
+         */
+        private volatile Map<Long, SeatStatusDto> statuses;
+
+        /**
+         * Creates the group of a floor on a day.
+         *
+         * @param key the floor on the day
+         */
+        Group(final FloorDay key) {
+            this.key = key;
+        }
+
+        /**
+         * Adds a subscriber, it is sent the changes from now on.
+         *
+         * @param subscriber the subscriber
+         */
+        synchronized void add(final Subscriber subscriber) {
+            subscribers.add(subscriber);
+        }
+
+        /**
+         * Checks if the floor was loaded.
+         *
+         * @return true if the statuses are known
+         */
+        boolean hasStatuses() {
+            return statuses != null;
+        }
+
+        /**
+         * Sends the statuses of every seat to a subscriber.
+         *
+         * @param subscriber the subscriber
+         * @param loaded     the statuses by seat id loaded for the
+         *                   subscriber, used when none are known yet
+         */
+        synchronized void sendAll(final Subscriber subscriber,
+                                  final Map<Long, SeatStatusDto> loaded) {
+            if (statuses == null) {
+                statuses = loaded;
+            }
+            subscriber.offer(statuses);
+        }
+
+        /**
+         * Removes a subscriber.
+         *
+         * @param subscriber the subscriber
+         * @return true if no subscribers are left
+         */
+        synchronized boolean remove(final Subscriber subscriber) {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty();
+        }
+
+        /**
+         * Checks if the change can affect the statuses of the group.
+         *
+         * @param change the change of a seat
+         * @return true if the floor has to be loaded again
+         */
+        boolean isAffectedBy(final SeatChange change) {
+            Map<Long, SeatStatusDto> sent = statuses;
+            return change.affectsDay(key.date())
+                    && (sent == null || sent.containsKey(change.getSeatId()));
+        }
+
+        /**
+         * Loads the floor again on a thread of the broadcaster,
+         * unless a load is already waiting to run.
+         */
+        void refreshLater() {
+            if (dirty.compareAndSet(false, true)) {
+                refreshExecutor.execute(this::refresh);
+            }
+        }
+
+        /**
+         * Loads the floor again and sends the changed statuses.
+         */
+        private void refresh() {
+            dirty.set(false);
+            Map<Long, SeatStatusDto> loaded;
+            try {
+                loaded = loadStatuses(key);
+            } catch (RuntimeException e) {
+                LOGGER.warn("The seats of floor {} could not be loaded",
+                        key.floorId(), e);
+                complete();
+                return;
+            }
+            synchronized (this) {
+                Map<Long, SeatStatusDto> changed = new HashMap<>();
+                loaded.forEach((seatId, status) -> {
+                    if (statuses == null || status != statuses.get(seatId)) {
+                        changed.put(seatId, status);
+                    }
+                });
+                statuses = loaded;
+                if (!changed.isEmpty()) {
+                    subscribers.forEach(subscriber ->
+                            subscriber.offer(changed));
+                }
+            }
+        }
+
+        /**
+         * Closes the streams of the subscribers.
+         */
+        void complete() {
+            subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        }
+    }
+
+    /**
+     * A client with the events which were not sent to it yet.
+     */
+    private final class Subscriber {
+        /**
+         * The stream to the client.
+         */
+        private final SseEmitter emitter;
+
+        /**
+         * The events waiting to be sent, as statuses by seat id.
+         */
+        private final BlockingQueue<Map<Long, SeatStatusDto>> queue =
+                new ArrayBlockingQueue<>(queueSize);
+
+        /**
+         * Tells if a thread is sending the queued events.
+         */
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        /**
+         * Tells if the client was closed for falling behind.
+         */
+        private volatile boolean closed;
+
+        /**
+         * The thread of the send in flight, null when none is.
+         */
+        private Thread sender;
+
+        /**
+         * The start of the send in flight, in nanoseconds.
+         */
+        private long sendStarted;
+
+        /**
+         * Creates a subscriber.
+         *
+         * @param emitter the stream to the client
+         */
+        Subscriber(final SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queues statuses to be sent and starts sending them
+         * unless a thread is already sending. The client is closed
+         * when its queue is full.
+         *
+         * @param statuses the statuses by seat id
+         */
+        void offer(final Map<Long, SeatStatusDto> statuses) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(statuses)) {
+                closed = true;
+                queue.clear();
+                emitter.complete();
+                return;
+            }
+            if (sending.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        /**
+         * Sends the queued events until none are left.
+         */
+        private void drain() {
+            do {
+                Map<Long, SeatStatusDto> statuses = queue.poll();
+                while (statuses != null && !closed) {
+                    send(statuses);
+                    statuses = queue.poll();
+                }
+                sending.set(false);
+            } while (!closed && !queue.isEmpty()
+                    && sending.compareAndSet(false, true));
+        }
+
+        /**
+         * Sends statuses to the client,
+         * a client which can not be reached is closed.
+         *
+         * @param statuses the statuses by seat id
+         */
+        private void send(final Map<Long, SeatStatusDto> statuses) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                sender = Thread.currentThread();
+                sendStarted = System.nanoTime();
+            }
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME)
+                        .data(SeatStatusChangeDto.build(statuses)));
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            } finally {
+                synchronized (this) {
+                    sender = null;
+                    // An eviction which came too late must not
+                    // interrupt the next send of the thread.
+                    Thread.interrupted();
+                }
+            }
+            if (closed) {
+                emitter.complete();
+            }
+        }
+
+        /**
+         * Evicts the client when its send is in flight past the
+         * deadline. The send is interrupted rather than completed,
+         * as completing the stream waits for the send to finish.
+         *
+         * @param now the current time in nanoseconds
+         */
+        synchronized void evictIfStalled(final long now) {
+            if (sender != null && now - sendStarted
+                    > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis)) {
+                closed = true;
+                queue.clear();
+                sender.interrupt();
+            }
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package com.seatapp.controllers;
 
+import com.seatapp.controllers.dtos.PageDto;
 import com.seatapp.controllers.dtos.ReservationDto;
 import com.seatapp.controllers.dtos.SeatDto;
+import com.seatapp.domain.DayOccupancy;
 import com.seatapp.domain.Floor;
 import com.seatapp.domain.Reservation;
 import com.seatapp.domain.Seat;
+import com.seatapp.domain.SlotOccupancy;
 import com.seatapp.domain.User;
 import com.seatapp.services.FloorService;
+import com.seatapp.services.OccupancyService;
 import com.seatapp.services.SeatService;
 import com.seatapp.services.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -22,6 +28,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.time.LocalDate;
@@ -49,20 +57,36 @@ public class SeatsController {
      */
     private final FloorService floorService;
 
+    /**
+     * Represents the occupancy of the seats per day.
+     */
+    private final OccupancyService occupancyService;
+
+    /**
+     * Represents the writer of streamed json arrays.
+     */
+    private final JsonArrayStreamer jsonArrayStreamer;
+
     /**
      * Creates the controller with a specified service.
      *
-     * @param seatService  the seatService
-     * @param userService  the userService
-     * @param floorService the floorService
+     * @param seatService       the seatService
+     * @param userService       the userService
+     * @param floorService      the floorService
+     * @param occupancyService  the occupancyService
+     * @param jsonArrayStreamer the jsonArrayStreamer
      */
     @Autowired
     public SeatsController(final SeatService seatService,
                            final UserService userService,
-                           final FloorService floorService) {
+                           final FloorService floorService,
+                           final OccupancyService occupancyService,
+                           final JsonArrayStreamer jsonArrayStreamer) {
         this.seatService = seatService;
         this.userService = userService;
         this.floorService = floorService;
+        this.occupancyService = occupancyService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     /**
@@ -84,6 +108,31 @@ public class SeatsController {
                 + createdSeat.getId())).build();
     }
 
+    /**
+     * Creates many seats on a floor at once.
+     *
+     * @param floorId  the id of the floor the seats are placed on.
+     * @param seatDtos are Dtos containing the names and
+     *                 the positions of the seats.
+     * @return Returns a responseEntity with the HttpStatus
+     * and the ids of the created seats in the same order.
+     */
+    @PostMapping("floors/{floorId}")
+    public ResponseEntity<List<Long>> createSeats(
+            @PathVariable final long floorId,
+            @RequestBody final List<SeatDto> seatDtos) {
+        List<Seat> createdSeats = seatService.createSeats(floorId,
+                seatDtos.stream()
+                        .map(seatDto -> new Seat(seatDto.getName(),
+                                seatDto.getXCoordinates(),
+                                seatDto.getYCoordinates(),
+                                seatDto.getWidth(),
+                                seatDto.getHeight()))
+                        .toList());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(createdSeats.stream().map(Seat::getId).toList());
+    }
+
     /**
      * Deletes a seat with a certain id.
      *
@@ -142,6 +191,38 @@ public class SeatsController {
         return ResponseEntity.ok(seatDtos);
     }
 
+    /**
+     * Takes a page of the seats from the database, ordered by their id.
+     *
+     * @param limit the maximum amount of seats of the page.
+     * @param after the next cursor of the previous page,
+     *              absent for the first page.
+     * @return Returns a responseEntity with the HttpStatus and the page.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageDto<SeatDto>> getSeatsPage(
+            @RequestParam final int limit,
+            @RequestParam(required = false) final String after) {
+        return ResponseEntity.ok(PageDto.build(
+                seatService.getPage(after, limit), SeatDto::build));
+    }
+
+    /**
+     * Streams all the seats from the database,
+     * the seats are written while they are read.
+     * A request with a limit gets a page instead.
+     *
+     * @return Returns a responseEntity with the HttpStatus and the found seats.
+     */
+    @GetMapping(params = {"stream=true", "!limit"})
+    public ResponseEntity<StreamingResponseBody> streamSeats() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(consumer ->
+                        seatService.forEachSeat(seat ->
+                                consumer.accept(SeatDto.build(seat)))));
+    }
+
     /**
      * Takes all the seats from the database with the
      * reservations from the given date.
@@ -153,17 +234,44 @@ public class SeatsController {
     public ResponseEntity<List<SeatDto>> getSeatsWithReservationsByDate(
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
             @PathVariable final LocalDate date) {
+        long occupancyVersion = occupancyService.getVersion();
         List<Seat> foundSeats = seatService
                 .getAllWithReservationsByDate(date);
+        DayOccupancy occupancy = occupancyService.getDayOccupancy(date,
+                foundSeats, occupancyVersion);
 
         List<SeatDto> seatDtos = foundSeats.stream()
                 .map(seat -> SeatDto.build(seat,
-                        date.atTime(0, 0),
-                        date.plusDays(1).atTime(0, 0)))
+                        occupancy.getOfSeat(seat)))
                 .toList();
         return ResponseEntity.ok(seatDtos);
     }
 
+    /**
+     * Streams all the seats from the database with the
+     * reservations from the given date,
+     * the seats are written while they are read.
+     * The status of each seat is computed from its own reservations,
+     * so the occupancy of the day is not built for all the seats.
+     *
+     * @param date the date where you want reservations from.
+     * @return Returns a responseEntity with the HttpStatus and the found seats.
+     */
+    @GetMapping(value = "reservations/date/{date}", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody>
+    streamSeatsWithReservationsByDate(
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @PathVariable final LocalDate date) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(consumer ->
+                        seatService.forEachSeatWithReservationsByDate(date,
+                                seat -> consumer.accept(SeatDto.build(seat,
+                                        SlotOccupancy.ofDay(
+                                                seat.getReservations(),
+                                                date))))));
+    }
+
     /**
      * Reserves an existing seat.
      *
@@ -185,10 +293,10 @@ public class SeatsController {
                 reservationDto.getStartDateTime(),
                 reservationDto.getEndDateTime(),
                 user);
-        Seat seat = seatService.reserve(seatId, reservation);
+        Reservation savedReservation = seatService.reserve(seatId,
+                reservation);
 
-        int lastIndex = seat.getReservations().size() - 1;
-        return ResponseEntity.ok(seat.getReservations().get(lastIndex).getId());
+        return ResponseEntity.ok(savedReservation.getId());
     }
 
     /**
@@ -1,9 +1,11 @@
 package com.seatapp.controllers;
 
+import com.seatapp.controllers.dtos.PageDto;
 import com.seatapp.controllers.dtos.UserDto;
 import com.seatapp.domain.User;
 import com.seatapp.services.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -12,6 +14,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -27,14 +31,22 @@ public class UserController {
      */
     private final UserService userService;
 
+    /**
+     * Represents the writer of streamed json arrays.
+     */
+    private final JsonArrayStreamer jsonArrayStreamer;
+
     /**
      * Creates the controller with a specified service.
      *
-     * @param userService the userService
+     * @param userService       the userService
+     * @param jsonArrayStreamer the jsonArrayStreamer
      */
     @Autowired
-    public UserController(final UserService userService) {
+    public UserController(final UserService userService,
+                          final JsonArrayStreamer jsonArrayStreamer) {
         this.userService = userService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     /**
@@ -69,4 +81,36 @@ public class UserController {
                 .toList();
         return ResponseEntity.ok(userDtos);
     }
+
+    /**
+     * Gets a page of the users from database, ordered by their email.
+     *
+     * @param limit the maximum amount of users of the page
+     * @param after the next cursor of the previous page,
+     *              absent for the first page
+     * @return a page of users
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageDto<UserDto>> getUsersPage(
+            @RequestParam final int limit,
+            @RequestParam(required = false) final String after) {
+        return ResponseEntity.ok(PageDto.build(
+                userService.getPage(after, limit), UserDto::build));
+    }
+
+    /**
+     * Streams all the users from database,
+     * the users are written while they are read.
+     * A request with a limit gets a page instead.
+     *
+     * @return a json array of users
+     */
+    @GetMapping(params = {"stream=true", "!limit"})
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(consumer ->
+                        userService.forEachUser(user ->
+                                consumer.accept(UserDto.build(user)))));
+    }
 }
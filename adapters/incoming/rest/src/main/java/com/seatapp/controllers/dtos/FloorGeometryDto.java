@@ -0,0 +1,72 @@
+package com.seatapp.controllers.dtos;
+
+import com.seatapp.domain.Building;
+import com.seatapp.domain.Floor;
+import com.seatapp.exceptions.EntityNotFoundException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FloorGeometryDto {
+    /**
+     * Represents the building id.
+     */
+    private Long buildingId;
+
+    /**
+     * Represents the building name.
+     */
+    private String buildingName;
+
+    /**
+     * Represents the floor id.
+     */
+    private Long floorId;
+
+    /**
+     * Represents the floor name.
+     */
+    private String floorName;
+
+    /**
+     * Represents the floor points for creating the walls in a svg.
+     */
+    private List<PointDto> floorPoints;
+
+    /**
+     * Represents the position and size of the seats on the floor.
+     */
+    private List<SeatGeometryDto> seats;
+
+    /**
+     * This method converts a building with one floor
+     * to a floorGeometryDto.
+     *
+     * @param building the to be converted building
+     * @return a floor geometry dto
+     */
+    public static FloorGeometryDto build(final Building building) {
+        Floor floor = building.getFloors().stream().findFirst()
+                .orElseThrow(() ->
+                        new EntityNotFoundException(
+                                "Floor does not exist"));
+
+        return new FloorGeometryDto(building.getId(),
+                building.getName(),
+                floor.getId(),
+                floor.getName(),
+                floor.getPoints().stream()
+                        .map(PointDto::build)
+                        .toList(),
+                floor.getSeats().stream()
+                        .map(SeatGeometryDto::build)
+                        .toList());
+    }
+}
@@ -0,0 +1,51 @@
+package com.seatapp.controllers.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.seatapp.domain.FreeSeat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeSeatDto {
+    /**
+     * Represents the seat id.
+     */
+    private Long id;
+
+    /**
+     * Represents the seats' name.
+     */
+    private String name;
+
+    /**
+     * Represents the start of the free time around the searched period.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime freeFrom;
+
+    /**
+     * Represents the end of the free time around the searched period.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime freeUntil;
+
+    /**
+     * This method converts a free seat to a freeSeatDto.
+     *
+     * @param freeSeat the to be converted free seat
+     * @return a free seat dto
+     */
+    public static FreeSeatDto build(final FreeSeat freeSeat) {
+        return new FreeSeatDto(freeSeat.getSeat().getId(),
+                freeSeat.getSeat().getName(),
+                freeSeat.getFreeFrom(),
+                freeSeat.getFreeUntil());
+    }
+}
@@ -0,0 +1,47 @@
+package com.seatapp.controllers.dtos;
+
+import com.seatapp.domain.KeysetPage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a listing with the cursor of the next page.
+ *
+ * @param <T> the type of the items
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PageDto<T> {
+    /**
+     * Represents the items of the page.
+     */
+    private List<T> items;
+
+    /**
+     * Represents the cursor to pass as after for the next page,
+     * null on the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * This method converts a page to a pageDto.
+     *
+     * @param page  the to be converted page
+     * @param toDto converts an item of the page to its dto
+     * @param <S>   the type of the items of the page
+     * @param <T>   the type of the dtos
+     * @return a page dto
+     */
+    public static <S, T> PageDto<T> build(final KeysetPage<S> page,
+                                          final Function<S, T> toDto) {
+        return new PageDto<>(page.getItems().stream().map(toDto).toList(),
+                page.getNextCursor());
+    }
+}
@@ -1,14 +1,13 @@
 package com.seatapp.controllers.dtos;
 
-import com.seatapp.domain.Reservation;
 import com.seatapp.domain.Seat;
+import com.seatapp.domain.SlotOccupancy;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -106,8 +105,22 @@ public class SeatDto {
     public static SeatDto build(final Seat seat,
                                 final LocalDateTime startDateTime,
                                 final LocalDateTime endDateTime) {
-        SeatStatusDto status = findSeatStatus(seat,
-                startDateTime, endDateTime);
+        return build(seat, SlotOccupancy.of(seat.getReservations(),
+                startDateTime, endDateTime));
+    }
+
+    /**
+     * This method converts a seat to a seatDto with the status
+     * given by the occupancy of the seat.
+     *
+     * @param seat      the to be converted seat
+     * @param occupancy the occupancy of the seat during the period
+     *                  for which the status is given
+     * @return a seat dto
+     */
+    public static SeatDto build(final Seat seat,
+                                final SlotOccupancy occupancy) {
+        SeatStatusDto status = findSeatStatus(seat, occupancy);
 
         return new SeatDto(seat.getId(),
                 seat.getName(),
@@ -125,75 +138,23 @@ public class SeatDto {
     /**
      * Gives back the status of the seat.
      *
-     * @param seat          the seat for which the status will be determined
-     * @param startDateTime the startDateTime to see from
-     *                      when the status of the seat is available
-     * @param endDateTime   the endDateTime to see until when
-     *                      the status of the seats is available
+     * @param seat      the seat for which the status will be determined
+     * @param occupancy the occupancy of the seat during the period
+     *                  for which the status is given
      * @return this return the status of the seat in a SeatStatusDto
      */
-    private static SeatStatusDto findSeatStatus(
+    public static SeatStatusDto findSeatStatus(
             final Seat seat,
-            final LocalDateTime startDateTime,
-            final LocalDateTime endDateTime) {
+            final SlotOccupancy occupancy) {
         if (!seat.isAvailable()) {
             return SeatStatusDto.UNAVAILABLE;
         }
-
-        if (seat.getReservations().isEmpty()) {
+        if (occupancy.isEmpty()) {
             return SeatStatusDto.AVAILABLE;
         }
-
-        List<Reservation> reservations =
-                sortReservationsOnStartDateTime(seat.getReservations());
-        LocalDateTime newStartDateTime = startDateTime;
-        for (Reservation reservation : reservations) {
-            if (startTimeBetweenReservation(newStartDateTime, reservation)) {
-                newStartDateTime = reservation.getEndDateTime();
-            } else {
-                return SeatStatusDto.PARTIALLY_BOOKED;
-            }
-
-            if (newStartDateTime.isEqual(endDateTime)) {
-                return SeatStatusDto.FULLY_BOOKED;
-            }
+        if (occupancy.isFull()) {
+            return SeatStatusDto.FULLY_BOOKED;
         }
-
         return SeatStatusDto.PARTIALLY_BOOKED;
     }
-
-    /**
-     * Sorts the reservation on the start date time.
-     *
-     * @param reservations the reservations which
-     *                     should be sorted
-     * @return the sorted reservations
-     */
-    private static List<Reservation> sortReservationsOnStartDateTime(
-            final List<Reservation> reservations) {
-        List<Reservation> newReservations =
-                new ArrayList<>(reservations);
-        newReservations
-                .sort((o1, o2) -> o1.getStartDateTime()
-                        .isBefore(o2.getStartDateTime()) ? 1 : 0);
-        return newReservations;
-    }
-
-    /**
-     * Checks if the start time is at the start or between
-     * a reservation.
-     *
-     * @param startDateTime the start time to check up on
-     * @param reservation   the reservation closest to
-     *                      the start time
-     * @return a boolean if the start time is at the start
-     * or between the reservation
-     */
-    private static boolean startTimeBetweenReservation(
-            final LocalDateTime startDateTime,
-            final Reservation reservation) {
-        return startDateTime.isEqual(reservation.getStartDateTime())
-                || startDateTime.isAfter(reservation.getStartDateTime())
-                && startDateTime.isBefore(reservation.getEndDateTime());
-    }
 }
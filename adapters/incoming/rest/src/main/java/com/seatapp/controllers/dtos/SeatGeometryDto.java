@@ -0,0 +1,62 @@
+package com.seatapp.controllers.dtos;
+
+import com.seatapp.domain.Seat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatGeometryDto {
+    /**
+     * Represents the seat id.
+     */
+    private Long id;
+
+    /**
+     * Represents the seats' name.
+     */
+    private String name;
+
+    /**
+     * Represents the x coordinates in centimeter
+     * for generating the svg.
+     */
+    private int xCoordinates;
+
+    /**
+     * Represents the y coordinates in centimeter
+     * for generating the svg.
+     */
+    private int yCoordinates;
+
+    /**
+     * Represents the width in centimeter
+     * for generating the svg.
+     */
+    private int width;
+
+    /**
+     * Represents the height in centimeter
+     * for generating the svg.
+     */
+    private int height;
+
+    /**
+     * This method converts a seat to a seatGeometryDto.
+     *
+     * @param seat the to be converted seat
+     * @return a seat geometry dto
+     */
+    public static SeatGeometryDto build(final Seat seat) {
+        return new SeatGeometryDto(seat.getId(),
+                seat.getName(),
+                seat.getXCoordinates(),
+                seat.getYCoordinates(),
+                seat.getWidth(),
+                seat.getHeight());
+    }
+}
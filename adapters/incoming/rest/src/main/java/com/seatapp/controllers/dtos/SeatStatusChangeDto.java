@@ -0,0 +1,39 @@
+package com.seatapp.controllers.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatStatusChangeDto {
+    /**
+     * Represents the id of the seat.
+     */
+    private long seatId;
+
+    /**
+     * Represents the new status of the seat.
+     */
+    private SeatStatusDto seatStatus;
+
+    /**
+     * This method converts the statuses by seat id to seatStatusChangeDtos.
+     *
+     * @param statuses the statuses by seat id
+     * @return the seat status change dtos
+     */
+    public static List<SeatStatusChangeDto> build(
+            final Map<Long, SeatStatusDto> statuses) {
+        return statuses.entrySet().stream()
+                .map(entry -> new SeatStatusChangeDto(entry.getKey(),
+                        entry.getValue()))
+                .toList();
+    }
+}
@@ -1,6 +1,7 @@
 package com.seatapp.controllers.dtos;
 
 import com.seatapp.domain.Building;
+import com.seatapp.domain.DayOccupancy;
 import com.seatapp.domain.Floor;
 import com.seatapp.exceptions.EntityNotFoundException;
 import lombok.AllArgsConstructor;
@@ -8,7 +9,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.time.LocalDate;
 import java.util.List;
 
 @Getter
@@ -71,12 +71,14 @@ public class SelectedBuildingFloorDto {
     /**
      * This method converts a building to a buildingDto.
      *
-     * @param building the to be converted building
-     * @param date     the date for determining the seat status
+     * @param building  the to be converted building
+     * @param occupancy the occupancy of the seats during the day
+     *                  for determining the seat status
      * @return a building dto
      */
     public static SelectedBuildingFloorDto build(final Building building,
-                                                 final LocalDate date) {
+                                                 final DayOccupancy
+                                                         occupancy) {
         Floor floor = building.getFloors().stream().findFirst()
                 .orElseThrow(() ->
                         new EntityNotFoundException(
@@ -91,8 +93,7 @@ public class SelectedBuildingFloorDto {
                         .toList(),
                 floor.getSeats().stream()
                         .map(seat -> SeatDto.build(seat,
-                                date.atTime(0, 0),
-                                date.plusDays(1).atTime(0, 0)))
+                                occupancy.getOfSeat(seat)))
                         .toList());
     }
 }
@@ -2,14 +2,13 @@ package com.seatapp.controllers.dtos;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.seatapp.domain.Reservation;
-import com.seatapp.domain.Seat;
+import com.seatapp.domain.SeatReservation;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -46,37 +45,32 @@ public class UserReservationDto {
     /**
      * This method converts a reservation to a reservationDto.
      *
-     * @param reservation the to be converted reservation
-     * @param seat the seat on which the reservation is placed
+     * @param seatReservation the to be converted reservation
+     *                        with the seat on which it is placed
      * @return a reservation dto
      */
-    public static UserReservationDto build(final Reservation reservation,
-                                           final Seat seat) {
+    public static UserReservationDto build(
+            final SeatReservation seatReservation) {
+        Reservation reservation = seatReservation.getReservation();
         return new UserReservationDto(
                 reservation.getId(),
                 reservation.getStartDateTime(),
                 reservation.getEndDateTime(),
-                seat.getName(),
+                seatReservation.getSeatName(),
                 reservation.isCheckedIn());
     }
 
     /**
-     * This method converts a list of seats with reservations
+     * This method converts a list of reservations with their seat
      * to a userReservationDto.
      *
-     * @param seats the list of seats with reservations
+     * @param seatReservations the list of reservations with their seat
      * @return a list of userReservationDto
      */
     public static List<UserReservationDto> buildList(
-            final List<Seat> seats) {
-        List<UserReservationDto> userReservationDtos =
-                new ArrayList<>();
-        for (Seat seat : seats) {
-            for (Reservation reservation : seat.getReservations()) {
-                userReservationDtos.
-                        add(UserReservationDto.build(reservation, seat));
-            }
-        }
-        return userReservationDtos;
+            final List<SeatReservation> seatReservations) {
+        return seatReservations.stream()
+                .map(UserReservationDto::build)
+                .toList();
     }
 }
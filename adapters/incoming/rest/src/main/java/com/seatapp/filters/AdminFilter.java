@@ -1,20 +1,29 @@
 package com.seatapp.filters;
 
 import com.seatapp.domain.Role;
-import com.seatapp.domain.User;
+import com.seatapp.exceptions.EntityNotFoundException;
 import com.seatapp.services.UserService;
+import com.seatapp.usermanagement.VerifiedToken;
 import com.seatapp.usermanagement.services.JwtService;
+import com.seatapp.usermanagement.services.JwtTokenCache;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class AdminFilter extends BasicAuthenticationFilter {
     /**
@@ -23,71 +32,146 @@ public class AdminFilter extends BasicAuthenticationFilter {
     private final JwtService jwtService;
 
     /**
-     * The service that contains the users.
+     * The cache of the verified JWT tokens.
+     */
+    private final JwtTokenCache jwtTokenCache;
+
+    /**
+     * The service which gives the current role of a user.
      */
     private final UserService userService;
 
     /**
-     * First the http method with a space and then
-     * the path on which the filtering will be done.
-     * <p>
-     * Example: POST /api/seats
+     * The path patterns on which the filtering will be done,
+     * compiled once per http method. A pattern also matches
+     * every path below it.
      */
-    private final List<String> includedHttpMethodAndPathForFiltering;
+    private final Map<HttpMethod, List<PathPattern>> includedPatterns;
 
     /**
      * Creates the admin filter.
-     *  @param authenticationManager            represents
+     *
+     * @param authenticationManager            represents
      *                                         the authorization manager
      * @param jwtService                       the service which handles the
      *                                         authentication and creation of
      *                                         the JWT tokens
-     * @param userService
+     * @param jwtTokenCache                    the cache of the verified
+     *                                         JWT tokens
+     * @param userService                      the service which gives
+     *                                         the current role of a user
      * @param incHttpMethodAndPathForFiltering first the http method with
      *                                         a space and then
      *                                         the paths on which the filtering
      *                                         will be done
      *                                         <p>
+     *                                         Example: POST /api/seats
      */
     public AdminFilter(
             final AuthenticationManager authenticationManager,
             final JwtService jwtService,
+            final JwtTokenCache jwtTokenCache,
             final UserService userService,
             final String... incHttpMethodAndPathForFiltering) {
         super(authenticationManager);
         this.jwtService = jwtService;
+        this.jwtTokenCache = jwtTokenCache;
         this.userService = userService;
-        this.includedHttpMethodAndPathForFiltering =
-                Arrays.stream(incHttpMethodAndPathForFiltering).toList();
+        this.includedPatterns =
+                compilePatterns(incHttpMethodAndPathForFiltering);
     }
 
-    @Override
-    protected final void doFilterInternal(final HttpServletRequest request,
-                                          final HttpServletResponse response,
-                                          final FilterChain filterChain)
-            throws IOException, ServletException {
-        String url = request.getRequestURL().toString();
-
-        boolean includedInFilter = false;
-
-        for (String httpMethodAndPath : includedHttpMethodAndPathForFiltering) {
+    /**
+     * Compiles the http methods and paths to path patterns.
+     *
+     * @param httpMethodsAndPaths first the http method with a space
+     *                            and then the path
+     * @return the path patterns by http method
+     */
+    private static Map<HttpMethod, List<PathPattern>> compilePatterns(
+            final String... httpMethodsAndPaths) {
+        PathPatternParser parser = new PathPatternParser();
+        Map<HttpMethod, List<PathPattern>> patterns =
+                new EnumMap<>(HttpMethod.class);
+        for (String httpMethodAndPath : httpMethodsAndPaths) {
             String[] httpMethodAndPathSplit = httpMethodAndPath.split(" ");
-            String httpMethod = httpMethodAndPathSplit[0];
+            HttpMethod httpMethod = HttpMethod.valueOf(
+                    httpMethodAndPathSplit[0]);
             String path = httpMethodAndPathSplit[1];
+            patterns.computeIfAbsent(httpMethod, m -> new ArrayList<>())
+                    .add(parser.parse(path + "/**"));
+        }
+        return patterns;
+    }
 
-            if (url.contains(path) && request.getMethod().equals(httpMethod)) {
-                includedInFilter = true;
-                break;
-            }
+    /**
+     * Checks if the request is on one of the filtered paths.
+     *
+     * @param request the request
+     * @return if the request has to be done by an admin
+     */
+    private boolean isIncluded(final HttpServletRequest request) {
+        HttpMethod httpMethod = HttpMethod.resolve(request.getMethod());
+        List<PathPattern> patterns = includedPatterns.get(httpMethod);
+        if (patterns == null) {
+            return false;
         }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI()
+                .substring(request.getContextPath().length()));
+        return patterns.stream().anyMatch(p -> p.matches(path));
+    }
+
+    /**
+     * Gives the verified token of the request. The token verified by
+     * the JwtAuthorizationFilter is used when there is one.
+     *
+     * @param request the request
+     * @return the verified token or empty when there is no valid token
+     */
+    private Optional<VerifiedToken> getVerifiedToken(
+            final HttpServletRequest request) {
+        Object verified = request.getAttribute(
+                JwtAuthorizationFilter.VERIFIED_TOKEN_ATTRIBUTE);
+        if (verified instanceof VerifiedToken verifiedToken) {
+            return Optional.of(verifiedToken);
+        }
+        String jwt = jwtService.parseJwt(request);
+        return jwt == null
+                ? Optional.empty()
+                : jwtTokenCache.getVerifiedToken(jwt);
+    }
 
-        if (includedInFilter) {
-            String jwt = jwtService.parseJwt(request);
-            String email = jwtService.getEmailFromJwtToken(jwt);
+    /**
+     * Checks if the user of a token is an admin. The role of the token
+     * has to be admin and the user still has to be an admin, so a user
+     * who is no longer an admin loses the rights before the token
+     * expires. The user is read through the cache of the users,
+     * which drops a user when it is saved.
+     *
+     * @param verifiedToken the verified token
+     * @return if the user is an admin
+     */
+    private boolean isAdmin(final VerifiedToken verifiedToken) {
+        if (verifiedToken.getRole() != Role.ADMIN) {
+            return false;
+        }
+        try {
+            return userService.getByEmail(verifiedToken.getEmail())
+                    .getRole() == Role.ADMIN;
+        } catch (EntityNotFoundException e) {
+            return false;
+        }
+    }
 
-            User user = userService.getByEmail(email);
+    @Override
+    protected final void doFilterInternal(final HttpServletRequest request,
+                                          final HttpServletResponse response,
+                                          final FilterChain filterChain)
+            throws IOException, ServletException {
+        if (isIncluded(request)) {
+            Optional<VerifiedToken> verifiedToken = getVerifiedToken(request);
 
-            if (!user.getRole().equals(Role.ADMIN)) {
+            if (verifiedToken.isEmpty() || !isAdmin(verifiedToken.get())) {
                 response.setStatus(HttpStatus.UNAUTHORIZED.value());
                 return;
             }
@@ -1,7 +1,9 @@
 package com.seatapp.filters;
 
+import com.seatapp.usermanagement.JwtUserDetails;
+import com.seatapp.usermanagement.VerifiedToken;
 import com.seatapp.usermanagement.services.JwtService;
-import com.seatapp.usermanagement.services.JwtUserDetailsService;
+import com.seatapp.usermanagement.services.JwtTokenCache;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,16 +19,24 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
+    /**
+     * The name of the request attribute
+     * that holds the verified token of the request.
+     */
+    public static final String VERIFIED_TOKEN_ATTRIBUTE =
+            VerifiedToken.class.getName();
+
     /**
      * The service to authenticate and create JWT tokens.
      */
     private final JwtService jwtService;
     /**
-     * The service to handle the login of user with JWT tokens.
+     * The cache of the verified JWT tokens.
      */
-    private final JwtUserDetailsService userDetailsService;
+    private final JwtTokenCache jwtTokenCache;
     /**
      * The paths given will be excluded from the filter
      * if the url contains these paths.
@@ -41,20 +51,19 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
      * @param jwtService          the service which handles the
      *                                authentication and creation of
      *                                the JWT tokens
-     * @param userDetailsService      the service that handles the calls
-     *                                of the user with JWT tokens
+     * @param jwtTokenCache           the cache of the verified
+     *                                JWT tokens
      * @param excludedPathsFromFilter the paths on which the filter will
      *                                be excluded from the filter when
      *                                it is contained in the url
      */
     public JwtAuthorizationFilter(final AuthenticationManager authManager,
                                   final JwtService jwtService,
-                                  final
-                                  JwtUserDetailsService userDetailsService,
+                                  final JwtTokenCache jwtTokenCache,
                                   final String... excludedPathsFromFilter) {
         super(authManager);
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.jwtTokenCache = jwtTokenCache;
         this.excludedPathsFromFilter =
                 Arrays.stream(excludedPathsFromFilter).toList();
     }
@@ -70,14 +79,17 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
 
         if (!hasExcludedPath) {
             String jwt = jwtService.parseJwt(request);
-            if (jwt == null || !jwtService.validateJwtToken(jwt)) {
+            Optional<VerifiedToken> verifiedToken = jwt == null
+                    ? Optional.empty()
+                    : jwtTokenCache.getVerifiedToken(jwt);
+            if (verifiedToken.isEmpty()) {
                 response.setStatus(HttpStatus.UNAUTHORIZED.value());
                 return;
             } else {
-                String email = jwtService.getEmailFromJwtToken(jwt);
-
+                request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE,
+                        verifiedToken.get());
                 UserDetails userDetails =
-                        userDetailsService.loadUserByUsername(email);
+                        JwtUserDetails.build(verifiedToken.get());
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails, null,
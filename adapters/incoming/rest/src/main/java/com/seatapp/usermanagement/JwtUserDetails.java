@@ -56,14 +56,35 @@ public class JwtUserDetails implements UserDetails {
      * @return a JwtUserDetails created from the user
      */
     public static JwtUserDetails build(final User user) {
-        List<SimpleGrantedAuthority> authorities = Stream.of("Admin")
-                .map(SimpleGrantedAuthority::new)
-                .toList();
-
         return new JwtUserDetails(
                 user.getEmail(),
                 user.getPassword(),
-                authorities);
+                buildAuthorities());
+    }
+
+    /**
+     * Build the JwtUserDetails from a verified JWT token,
+     * without looking up the user.
+     *
+     * @param token the verified token of the user
+     * @return a JwtUserDetails without password created from the token
+     */
+    public static JwtUserDetails build(final VerifiedToken token) {
+        return new JwtUserDetails(
+                token.getEmail(),
+                null,
+                buildAuthorities());
+    }
+
+    /**
+     * Build the authorities of a JWT user.
+     *
+     * @return the authorities
+     */
+    private static List<SimpleGrantedAuthority> buildAuthorities() {
+        return Stream.of("Admin")
+                .map(SimpleGrantedAuthority::new)
+                .toList();
     }
 
     @Override
@@ -0,0 +1,36 @@
+package com.seatapp.usermanagement;
+
+import com.seatapp.domain.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    /**
+     * The email of the user to whom the token was given.
+     */
+    private final String email;
+
+    /**
+     * The role of the user when the token was given.
+     */
+    private final Role role;
+
+    /**
+     * The moment on which the token expires.
+     */
+    private final Instant expiration;
+
+    /**
+     * Checks if the token is expired.
+     *
+     * @param now the current moment
+     * @return if the token is expired on the given moment
+     */
+    public boolean isExpiredAt(final Instant now) {
+        return !now.isBefore(expiration);
+    }
+}
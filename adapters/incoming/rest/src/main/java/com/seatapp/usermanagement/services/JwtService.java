@@ -1,9 +1,11 @@
 package com.seatapp.usermanagement.services;
 
 import com.seatapp.domain.Role;
+import com.seatapp.usermanagement.VerifiedToken;
 import org.springframework.security.core.Authentication;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.Optional;
 
 public interface JwtService {
     /**
@@ -39,6 +41,14 @@ public interface JwtService {
      */
     boolean validateJwtToken(String token);
 
+    /**
+     * Verifies the JWT token and reads its content in one pass.
+     *
+     * @param token the JWT token
+     * @return the content of the token or empty when it is not valid
+     */
+    Optional<VerifiedToken> verifyJwtToken(String token);
+
     /**
      * retrieves the JWT token out of the http request.
      *
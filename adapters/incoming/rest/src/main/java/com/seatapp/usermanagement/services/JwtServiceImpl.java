@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.seatapp.domain.Role;
 import com.seatapp.services.LoggerService;
 import com.seatapp.services.LoggerServiceImpl;
+import com.seatapp.usermanagement.VerifiedToken;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -22,6 +24,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Locale;
+import java.util.Optional;
 
 
 @Component
@@ -95,8 +98,20 @@ public class JwtServiceImpl implements JwtService {
      */
     @Override
     public Role getRoleFromJwtToken(final String token) {
-        Object authority = Jwts.parser().setSigningKey(jwtSecret)
-                .parseClaimsJws(token).getBody().get("role");
+        return toRole(Jwts.parser().setSigningKey(jwtSecret)
+                .parseClaimsJws(token).getBody().get("role"));
+    }
+
+    /**
+     * Converts the role claim of a JWT token to a role.
+     *
+     * @param authority the role claim, a map with the authority
+     * @return the role or null when the token has no role
+     */
+    private static Role toRole(final Object authority) {
+        if (authority == null) {
+            return null;
+        }
         ObjectMapper objectMapper = new ObjectMapper();
         Map<String, String> authorityMap =
                 objectMapper.convertValue(authority,
@@ -115,9 +130,23 @@ public class JwtServiceImpl implements JwtService {
      */
     @Override
     public boolean validateJwtToken(final String token) {
+        return verifyJwtToken(token).isPresent();
+    }
+
+    /**
+     * Verifies the JWT token and reads its content in one pass.
+     *
+     * @param token the JWT token
+     * @return the content of the token or empty when it is not valid
+     */
+    @Override
+    public Optional<VerifiedToken> verifyJwtToken(final String token) {
         try {
-            Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token);
-            return true;
+            Claims claims = Jwts.parser().setSigningKey(jwtSecret)
+                    .parseClaimsJws(token).getBody();
+            return Optional.of(new VerifiedToken(claims.getSubject(),
+                    toRole(claims.get("role")),
+                    claims.getExpiration().toInstant()));
         } catch (SignatureException e) {
             String message = "Invalid JWT signature: " + e.getMessage();
             loggerService.debug(message);
@@ -136,7 +165,7 @@ public class JwtServiceImpl implements JwtService {
             loggerService.debug(message);
         }
 
-        return false;
+        return Optional.empty();
     }
 
     /**
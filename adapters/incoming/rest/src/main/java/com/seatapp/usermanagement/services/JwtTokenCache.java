@@ -0,0 +1,17 @@
+package com.seatapp.usermanagement.services;
+
+import com.seatapp.usermanagement.VerifiedToken;
+
+import java.util.Optional;
+
+public interface JwtTokenCache {
+    /**
+     * Gives the verified content of a JWT token.
+     * The signature of a token is only verified the first time,
+     * after that the content is kept until the token expires.
+     *
+     * @param token the JWT token
+     * @return the verified token or empty when the token is not valid
+     */
+    Optional<VerifiedToken> getVerifiedToken(String token);
+}
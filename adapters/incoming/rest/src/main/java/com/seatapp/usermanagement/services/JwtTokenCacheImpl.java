@@ -0,0 +1,103 @@
+package com.seatapp.usermanagement.services;
+
+import com.seatapp.usermanagement.VerifiedToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+public class JwtTokenCacheImpl implements JwtTokenCache {
+    /**
+     * The load factor of the map with the tokens.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * The service which verifies the JWT tokens.
+     */
+    private final JwtService jwtService;
+
+    /**
+     * The verified tokens by the hash of the token,
+     * ordered from the least to the most recently used.
+     */
+    private final Map<String, VerifiedToken> tokens;
+
+    /**
+     * Creates the cache of verified JWT tokens.
+     *
+     * @param jwtService the service which verifies the JWT tokens
+     * @param maxSize    the maximum amount of tokens that are kept
+     */
+    @Autowired
+    public JwtTokenCacheImpl(final JwtService jwtService,
+                             @Value("${jwt.cache.size:10000}")
+                             final int maxSize) {
+        this.jwtService = jwtService;
+        this.tokens = new LinkedHashMap<>(maxSize, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<String, VerifiedToken> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gives the verified content of a JWT token.
+     * The signature of a token is only verified the first time,
+     * after that the content is kept until the token expires.
+     *
+     * @param token the JWT token
+     * @return the verified token or empty when the token is not valid
+     */
+    @Override
+    public Optional<VerifiedToken> getVerifiedToken(final String token) {
+        String key = hash(token);
+        Instant now = Instant.now();
+        VerifiedToken verifiedToken;
+        synchronized (tokens) {
+            verifiedToken = tokens.get(key);
+            if (verifiedToken != null && verifiedToken.isExpiredAt(now)) {
+                tokens.remove(key);
+                return Optional.empty();
+            }
+        }
+        if (verifiedToken != null) {
+            return Optional.of(verifiedToken);
+        }
+
+        Optional<VerifiedToken> verified = jwtService.verifyJwtToken(token);
+        verified.ifPresent(v -> {
+            synchronized (tokens) {
+                tokens.put(key, v);
+            }
+        });
+        return verified;
+    }
+
+    /**
+     * Hashes a token so the token itself is not kept in memory.
+     *
+     * @param token the JWT token
+     * @return the SHA-256 hash of the token in hexadecimal
+     */
+    private static String hash(final String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                    digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
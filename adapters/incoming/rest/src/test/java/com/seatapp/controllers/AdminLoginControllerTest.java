@@ -117,6 +117,29 @@ class AdminLoginControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void adminHealthCheckWithDemotedAdmin() throws Exception {
+        String jwt = jwtService.generateToken(
+                new UsernamePasswordAuthenticationToken(
+                        "test", "test", List.of(
+                        new SimpleGrantedAuthority(
+                                "ADMIN"))));
+        when(userRepository.findByEmail("test"))
+                .thenReturn(new User("test", "test",
+                        "testName", Role.USER));
+
+        // Arrange
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        // Act
+        mockMvc
+                .perform(get("/api/admin/healthcheck")
+                        .header("authorization", "Bearer " + jwt))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     void loginAdminWeb() throws Exception {
         // Arrange
@@ -5,12 +5,14 @@ import com.seatapp.controllers.dtos.BuildingDto;
 import com.seatapp.domain.Seat;
 import com.seatapp.domain.Building;
 import com.seatapp.domain.Floor;
+import com.seatapp.domain.FloorGeometry;
 import com.seatapp.domain.Reservation;
 import com.seatapp.domain.User;
 import com.seatapp.domain.Role;
 import com.seatapp.domain.Point;
 import com.seatapp.repositories.UserRepository;
 import com.seatapp.services.BuildingService;
+import com.seatapp.services.FloorGeometryService;
 import com.seatapp.services.UserService;
 import com.seatapp.usermanagement.services.JwtService;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +41,8 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -116,6 +120,12 @@ class BuildingControllerTest {
     @MockBean(name = "buildingServiceImpl")
     private BuildingService buildingService;
 
+    /**
+     * Represents the mocked floor geometry service.
+     */
+    @MockBean(name = "floorGeometryServiceImpl")
+    private FloorGeometryService floorGeometryService;
+
     /**
      * Variable to prevent repetitive strings in code.
      */
@@ -371,4 +381,54 @@ class BuildingControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void getFloorGeometryNotModifiedTest() throws Exception {
+        // Arrange
+        Floor floor = new Floor(2L, FLOOR_NAME1,
+                new ArrayList<>(), List.of(new Seat("Test")));
+        when(floorGeometryService.getGeometry(1L, 2L))
+                .thenReturn(new FloorGeometry(1L, new Building(1L,
+                        BUILDING_NAME1, List.of(floor))));
+        String eTag = "\"2-1\"";
+
+        // Act & Assert
+        mockMvc.perform(get("/api/buildings/1/floors/2/geometry")
+                        .with(authentication(authentication))
+                        .header(authorizationString,
+                                bearerString + jwt)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag));
+        mockMvc.perform(get("/api/buildings/1/floors/2/geometry")
+                        .with(authentication(authentication))
+                        .header(authorizationString,
+                                bearerString + jwt)
+                        .header("If-None-Match", eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void streamSeatStatusTest() throws Exception {
+        // Arrange
+        Seat seat = new Seat("Test");
+        seat.setId(1L);
+        Floor floor = new Floor(2L, FLOOR_NAME1,
+                new ArrayList<>(), List.of(seat));
+        when(buildingService.getByIdAndFloorIdAndDate(
+                1L, 2L, LocalDate.now()))
+                .thenReturn(new Building(1L, BUILDING_NAME1,
+                        List.of(floor)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/buildings/1/floors/2/status?date="
+                                + LocalDate.now())
+                        .with(authentication(authentication))
+                        .header(authorizationString,
+                                bearerString + jwt)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
 }
@@ -2,7 +2,7 @@ package com.seatapp.controllers;
 
 import com.seatapp.domain.Reservation;
 import com.seatapp.domain.Role;
-import com.seatapp.domain.Seat;
+import com.seatapp.domain.SeatReservation;
 import com.seatapp.domain.User;
 import com.seatapp.exceptions.EntityNotFoundException;
 import com.seatapp.repositories.UserRepository;
@@ -25,7 +25,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.Mockito.doThrow;
@@ -33,6 +35,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -87,6 +90,17 @@ class ReservationControllerTest {
                     "User1",
                     "User1", Role.ADMIN);
 
+    /**
+     * The amount of reservations in the large input test.
+     */
+    private static final int MANY_RESERVATIONS = 10_000;
+
+    /**
+     * The step which spreads the start hours of the large input test
+     * out of order, it has no divisor in common with the amount.
+     */
+    private static final int SHUFFLE_STEP = 7_919;
+
     /**
      * Represents the mocked user repository.
      */
@@ -159,18 +173,17 @@ class ReservationControllerTest {
     @Test
     void getReservationsOfTheUser() throws Exception {
         // Arrange
-        Seat seat = new Seat("Test");
-        seat.setReservations(List.of(
+        SeatReservation seatReservation = new SeatReservation(1L, "Test",
                 new Reservation(1L,
                         LocalDateTime.now(),
                         LocalDateTime.now(),
                         false,
                         new User(),
-                        false)));
+                        false));
 
-        when(seatService
+        when(reservationService
                 .getAllByUser(VALID_USER.getEmail()))
-                .thenReturn(List.of(seat));
+                .thenReturn(List.of(seatReservation));
 
         // Act & Assert
         mockMvc.perform(get("/api/reservations/users")
@@ -181,4 +194,37 @@ class ReservationControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void getManyReservationsOfTheUserKeepsTheOrderOfTheService()
+            throws Exception {
+        // Arrange
+        LocalDateTime firstStart = LocalDate.now().plusDays(1).atStartOfDay();
+        List<SeatReservation> seatReservations = new ArrayList<>();
+        for (int i = 0; i < MANY_RESERVATIONS; i++) {
+            LocalDateTime start = firstStart.plusHours(
+                    (long) (i * SHUFFLE_STEP) % MANY_RESERVATIONS);
+            seatReservations.add(new SeatReservation((long) i, "Seat " + i,
+                    new Reservation((long) i, start, start.plusMinutes(1),
+                            false, new User(), false)));
+        }
+
+        when(reservationService
+                .getAllByUser(VALID_USER.getEmail()))
+                .thenReturn(seatReservations);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/reservations/users")
+                        .with(authentication(authentication))
+                        .header(authorizationString,
+                                bearerString + jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(MANY_RESERVATIONS))
+                .andExpect(jsonPath("$[1].seatName").value("Seat 1"))
+                .andExpect(jsonPath("$[" + (MANY_RESERVATIONS - 1)
+                        + "].seatName")
+                        .value("Seat " + (MANY_RESERVATIONS - 1)));
+    }
 }
@@ -6,9 +6,11 @@ import com.seatapp.controllers.dtos.SeatDto;
 import com.seatapp.controllers.dtos.UserDto;
 import com.seatapp.domain.Seat;
 import com.seatapp.domain.Floor;
+import com.seatapp.domain.KeysetPage;
 import com.seatapp.domain.Reservation;
 import com.seatapp.domain.Role;
 import com.seatapp.domain.User;
+import com.seatapp.exceptions.EntityNotFoundException;
 import com.seatapp.repositories.UserRepository;
 import com.seatapp.services.FloorService;
 import com.seatapp.services.SeatService;
@@ -26,6 +28,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.FilterChainProxy;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -33,17 +36,25 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.mockito.Mockito.when;
 
@@ -79,6 +90,10 @@ class SeatControllerTest {
      * An hour used in the tests.
      */
     private static final int DATE_HOUR_14 = 14;
+    /**
+     * The id of the floor on which the seats are created.
+     */
+    private static final long FLOOR_ID = 3L;
 
     /**
      * Username used in the tests.
@@ -226,6 +241,75 @@ class SeatControllerTest {
                 .andExpect(status().isCreated());
     }
 
+    @Test
+    void createSeatsOnFloor() throws Exception {
+        // Arrange
+        List<SeatDto> seatDtos = List.of(
+                new SeatDto(null, "Test1", null, 0, 0, 0, 0, FLOOR_ID,
+                        null, true),
+                new SeatDto(null, "Test2", null, 0, 0, 0, 0, FLOOR_ID,
+                        null, true));
+        when(seatService.createSeats(eq(FLOOR_ID), anyList()))
+                .thenReturn(List.of(
+                        new Seat(1L, "Test1", true, 0, 0, 0, 0,
+                                new ArrayList<>()),
+                        new Seat(2L, "Test2", true, 0, 0, 0, 0,
+                                new ArrayList<>())));
+
+        // Act & Assert
+        mockMvc.perform(post(apiSeatsUrl + "floors/" + FLOOR_ID)
+                        .header(authorizationString,
+                                bearerString + jwt)
+                        .content(objectMapper
+                                .writeValueAsString(seatDtos))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(content().json("[1, 2]"));
+    }
+
+    @Test
+    void createSeatsOnUnknownFloor() throws Exception {
+        // Arrange
+        List<SeatDto> seatDtos = List.of(new SeatDto(null, "Test1", null,
+                0, 0, 0, 0, FLOOR_ID, null, true));
+        when(seatService.createSeats(eq(FLOOR_ID), anyList()))
+                .thenThrow(new EntityNotFoundException(
+                        "This floor does not exist."));
+
+        // Act & Assert
+        mockMvc.perform(post(apiSeatsUrl + "floors/" + FLOOR_ID)
+                        .header(authorizationString,
+                                bearerString + jwt)
+                        .content(objectMapper
+                                .writeValueAsString(seatDtos))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createSeatsOnFloorAsUser() throws Exception {
+        // Arrange
+        String userJwt = jwtService.generateToken(
+                new UsernamePasswordAuthenticationToken(
+                        "NotAdmin@Test.be", "PW",
+                        List.of(new SimpleGrantedAuthority("USER"))));
+        List<SeatDto> seatDtos = List.of(new SeatDto(null, "Test1", null,
+                0, 0, 0, 0, FLOOR_ID, null, true));
+
+        // Act & Assert
+        mockMvc.perform(post(apiSeatsUrl + "floors/" + FLOOR_ID)
+                        .header(authorizationString,
+                                bearerString + userJwt)
+                        .content(objectMapper
+                                .writeValueAsString(seatDtos))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+        verify(seatService, never()).createSeats(anyLong(), anyList());
+    }
+
     @Test
     void createSeatWithNoName() throws Exception {
         mockMvc.perform(post(apiSeatsUrl)
@@ -292,6 +376,57 @@ class SeatControllerTest {
                                 + ", \"name\": \"Test2\"}]"));
     }
 
+    @Test
+    void streamSeats() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Seat> action = invocation.getArgument(0);
+            action.accept(new Seat(1L, "Test1",
+                    true, 0, 0,
+                    0, 0, new ArrayList<>()));
+            action.accept(new Seat(2L, "Test2",
+                    true, 0, 0,
+                    0, 0, new ArrayList<>()));
+            return null;
+        }).when(seatService).forEachSeat(any());
+
+        MvcResult result = mockMvc.perform(get(apiSeatsUrl)
+                        .param("stream", "true")
+                        .with(authentication(authentication))
+                        .header(authorizationString, bearerString
+                                + jwt))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content()
+                        .json("[{\"id\": 1"
+                                + ", \"name\": \"Test1\"},"
+                                + "{\"id\": 2"
+                                + ", \"name\": \"Test2\"}]"));
+    }
+
+    @Test
+    void streamSeatsWithLimitGivesAPage() throws Exception {
+        when(seatService.getPage(null, 1)).thenReturn(KeysetPage.of(
+                List.of(new Seat(1L, "Test1",
+                        true, 0, 0,
+                        0, 0, new ArrayList<>())),
+                1, Seat::getName));
+
+        mockMvc.perform(get(apiSeatsUrl)
+                        .param("stream", "true")
+                        .param("limit", "1")
+                        .with(authentication(authentication))
+                        .header(authorizationString, bearerString
+                                + jwt))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(content()
+                        .json("{\"items\": [{\"id\": 1"
+                                + ", \"name\": \"Test1\"}]}"));
+    }
+
     @Test
     void getSeatsWithEmptyDatabase() throws Exception {
         mockMvc.perform(get(apiSeatsUrl)
@@ -317,10 +452,9 @@ class SeatControllerTest {
                 reservationDto.getStartDateTime(),
                 reservationDto.getEndDateTime(),
                 new User());
+        reservation.setId(1L);
         when(seatService.reserve(eq(1L), any(Reservation.class)))
-                .thenReturn(new Seat(1L, "Test",
-                        true, 0, 0,
-                        0, 0, List.of(reservation)));
+                .thenReturn(reservation);
 
         mockMvc.perform(patch(apiSeatsUrl + 1L
                         + reserveString).with(authentication(authentication))
@@ -0,0 +1,300 @@
+package com.seatapp.controllers;
+
+import com.seatapp.controllers.dtos.SeatStatusChangeDto;
+import com.seatapp.controllers.dtos.SeatStatusDto;
+import com.seatapp.domain.Building;
+import com.seatapp.domain.DayOccupancy;
+import com.seatapp.domain.Floor;
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.SeatChange;
+import com.seatapp.domain.User;
+import com.seatapp.services.BuildingService;
+import com.seatapp.services.OccupancyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SeatStatusBroadcasterTest {
+    /**
+     * The id of the building of the floor.
+     */
+    private static final long BUILDING_ID = 1L;
+
+    /**
+     * The id of the floor.
+     */
+    private static final long FLOOR_ID = 2L;
+
+    /**
+     * The id of the seat which is booked in the tests.
+     */
+    private static final long SEAT_ID = 3L;
+
+    /**
+     * The id of the seat which is unavailable.
+     */
+    private static final long UNAVAILABLE_SEAT_ID = 4L;
+
+    /**
+     * The maximum amount of events waiting for a client.
+     */
+    private static final int QUEUE_SIZE = 16;
+
+    /**
+     * The minutes after which a stream is closed.
+     */
+    private static final long TIMEOUT_MINUTES = 30;
+
+    /**
+     * The seconds a send may be in flight before its client is evicted.
+     */
+    private static final long SEND_SECONDS = 1;
+
+    /**
+     * The seconds to wait for an event.
+     */
+    private static final long WAIT_SECONDS = 10;
+
+    /**
+     * The hour on which the reservations start.
+     */
+    private static final int START_HOUR = 9;
+
+    /**
+     * The hour on which the reservations end.
+     */
+    private static final int END_HOUR = 17;
+
+    /**
+     * The day of the subscriptions.
+     */
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+
+    /**
+     * Represents the mocked building service.
+     */
+    private BuildingService buildingService;
+
+    /**
+     * Represents the broadcaster, with a single thread to send.
+     */
+    private SeatStatusBroadcaster broadcaster;
+
+    /**
+     * The seat which is booked in the tests.
+     */
+    private Seat seat;
+
+    @BeforeEach
+    void setUp() {
+        seat = new Seat("A1");
+        seat.setId(SEAT_ID);
+        Seat unavailable = new Seat("A2");
+        unavailable.setId(UNAVAILABLE_SEAT_ID);
+        unavailable.setAvailable(false);
+        Floor floor = new Floor(FLOOR_ID, "Floor 1", new ArrayList<>(),
+                List.of(seat, unavailable));
+
+        buildingService = mock(BuildingService.class);
+        when(buildingService.getByIdAndFloorIdAndDate(BUILDING_ID, FLOOR_ID,
+                DATE)).thenReturn(new Building(BUILDING_ID, "Building 1",
+                List.of(floor)));
+        OccupancyService occupancyService = mock(OccupancyService.class);
+        when(occupancyService.getDayOccupancy(any(), anyList(), anyLong()))
+                .thenAnswer(invocation -> new DayOccupancy(
+                        invocation.getArgument(0), Map.of()));
+
+        broadcaster = new SeatStatusBroadcaster(buildingService,
+                occupancyService, 1, 1, QUEUE_SIZE, TIMEOUT_MINUTES,
+                SEND_SECONDS);
+        broadcaster.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void firstEventHoldsEveryStatus() throws Exception {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter(0);
+
+        // Act
+        broadcaster.subscribe(BUILDING_ID, FLOOR_ID, DATE, emitter);
+
+        // Assert
+        assertEquals(Map.of(SEAT_ID, SeatStatusDto.AVAILABLE,
+                        UNAVAILABLE_SEAT_ID, SeatStatusDto.UNAVAILABLE),
+                emitter.next());
+    }
+
+    @Test
+    void reserveAndCancelSendOnlyTheChangedSeat() throws Exception {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter(0);
+        broadcaster.subscribe(BUILDING_ID, FLOOR_ID, DATE, emitter);
+        emitter.next();
+        Reservation reservation = new Reservation(
+                DATE.atTime(START_HOUR, 0), DATE.atTime(END_HOUR, 0),
+                new User());
+
+        // Act
+        seat.getReservations().add(reservation);
+        broadcaster.onSeatChange(
+                SeatChange.ofNewReservation(SEAT_ID, reservation));
+        Map<Long, SeatStatusDto> reserved = emitter.next();
+        reservation.setCancelled(true);
+        broadcaster.onSeatChange(
+                SeatChange.ofReservation(SEAT_ID, reservation));
+        Map<Long, SeatStatusDto> cancelled = emitter.next();
+
+        // Assert
+        assertEquals(Map.of(SEAT_ID, SeatStatusDto.PARTIALLY_BOOKED),
+                reserved);
+        assertEquals(Map.of(SEAT_ID, SeatStatusDto.AVAILABLE), cancelled);
+    }
+
+    @Test
+    void changeOnAnotherDayDoesNotLoadTheFloor() throws Exception {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter(0);
+        broadcaster.subscribe(BUILDING_ID, FLOOR_ID, DATE, emitter);
+        emitter.next();
+        LocalDate otherDate = DATE.plusDays(1);
+        Reservation other = new Reservation(
+                otherDate.atTime(START_HOUR, 0),
+                otherDate.atTime(END_HOUR, 0), new User());
+        Reservation sameDay = new Reservation(
+                DATE.atTime(START_HOUR, 0), DATE.atTime(END_HOUR, 0),
+                new User());
+
+        // Act
+        seat.getReservations().add(other);
+        broadcaster.onSeatChange(
+                SeatChange.ofNewReservation(SEAT_ID, other));
+        seat.getReservations().add(sameDay);
+        broadcaster.onSeatChange(
+                SeatChange.ofNewReservation(SEAT_ID, sameDay));
+
+        // Assert
+        assertEquals(Map.of(SEAT_ID, SeatStatusDto.PARTIALLY_BOOKED),
+                emitter.next());
+        verify(buildingService, times(2))
+                .getByIdAndFloorIdAndDate(BUILDING_ID, FLOOR_ID, DATE);
+    }
+
+    @Test
+    void stalledClientIsEvictedWithoutHoldingUpTheOthers()
+            throws Exception {
+        // Arrange
+        RecordingEmitter stalled = new RecordingEmitter(1);
+        RecordingEmitter reading = new RecordingEmitter(0);
+        Reservation reservation = new Reservation(
+                DATE.atTime(START_HOUR, 0), DATE.atTime(END_HOUR, 0),
+                new User());
+
+        // Act
+        broadcaster.subscribe(BUILDING_ID, FLOOR_ID, DATE, stalled);
+        broadcaster.subscribe(BUILDING_ID, FLOOR_ID, DATE, reading);
+        Map<Long, SeatStatusDto> snapshot = reading.next();
+        boolean evicted = stalled.interrupted.await(WAIT_SECONDS,
+                TimeUnit.SECONDS);
+        stalled.stall.countDown();
+        seat.getReservations().add(reservation);
+        broadcaster.onSeatChange(
+                SeatChange.ofNewReservation(SEAT_ID, reservation));
+
+        // Assert
+        assertEquals(Map.of(SEAT_ID, SeatStatusDto.AVAILABLE,
+                UNAVAILABLE_SEAT_ID, SeatStatusDto.UNAVAILABLE), snapshot);
+        assertTrue(evicted);
+        assertEquals(Map.of(SEAT_ID, SeatStatusDto.PARTIALLY_BOOKED),
+                reading.next());
+        assertNull(stalled.events.poll());
+    }
+
+    /**
+     * A stream which keeps the statuses sent to it,
+     * and whose sends block while it is stalled.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        /**
+         * The statuses sent, by seat id.
+         */
+        private final BlockingQueue<Map<Long, SeatStatusDto>> events =
+                new LinkedBlockingQueue<>();
+
+        /**
+         * Holds the sends until it is counted down.
+         */
+        private final CountDownLatch stall;
+
+        /**
+         * Counted down when a send is interrupted.
+         */
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        /**
+         * Creates a stream.
+         *
+         * @param stalls 1 to block the sends, 0 to let them through
+         */
+        RecordingEmitter(final int stalls) {
+            this.stall = new CountDownLatch(stalls);
+        }
+
+        @Override
+        public void send(final SseEventBuilder builder) throws IOException {
+            try {
+                stall.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IOException(e);
+            }
+            Map<Long, SeatStatusDto> statuses = new HashMap<>();
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(List.class::isInstance)
+                    .flatMap(data -> ((List<?>) data).stream())
+                    .map(SeatStatusChangeDto.class::cast)
+                    .forEach(change -> statuses.put(change.getSeatId(),
+                            change.getSeatStatus()));
+            events.add(statuses);
+        }
+
+        /**
+         * Waits for the next statuses sent.
+         *
+         * @return the statuses by seat id
+         * @throws InterruptedException when the wait is interrupted
+         */
+        Map<Long, SeatStatusDto> next() throws InterruptedException {
+            return events.poll(WAIT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+}
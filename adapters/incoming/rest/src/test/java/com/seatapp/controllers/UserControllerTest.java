@@ -24,6 +24,8 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.util.List;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -161,4 +163,23 @@ class UserControllerTest {
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void changeUserRoleAsUser() throws Exception {
+        String userJwt = jwtService.generateToken(
+                new UsernamePasswordAuthenticationToken(
+                        VALID_USER.getEmail(), "PW",
+                        List.of(new SimpleGrantedAuthority("USER"))));
+        UserDto userDto = new UserDto("Test", "Test", Role.ADMIN);
+
+        mockMvc.perform(patch("/api/users/role")
+                .with(authentication(authentication))
+                .header(authorizationString, bearerString
+                        + userJwt).content(objectMapper
+                        .writeValueAsString(userDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+        verify(userService, never()).getByEmail(VALID_USER.getEmail());
+    }
 }
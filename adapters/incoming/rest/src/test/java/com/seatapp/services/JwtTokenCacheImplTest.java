@@ -0,0 +1,69 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Role;
+import com.seatapp.usermanagement.VerifiedToken;
+import com.seatapp.usermanagement.services.JwtServiceImpl;
+import com.seatapp.usermanagement.services.JwtTokenCacheImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class JwtTokenCacheImplTest {
+    /**
+     * Represents the JWT service which verifies the tokens.
+     */
+    @SpyBean
+    private JwtServiceImpl jwtService;
+
+    /**
+     * Represents the cache of verified tokens.
+     */
+    @Autowired
+    private JwtTokenCacheImpl jwtTokenCache;
+
+    @Test
+    void tokenIsVerifiedOnce() {
+        // Arrange
+        String email = "cache@test.be";
+        String jwt = jwtService.generateToken(
+                new UsernamePasswordAuthenticationToken(email, "PW",
+                        List.of(new SimpleGrantedAuthority("ADMIN"))));
+
+        // Act
+        Optional<VerifiedToken> first = jwtTokenCache.getVerifiedToken(jwt);
+        Optional<VerifiedToken> second = jwtTokenCache.getVerifiedToken(jwt);
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertEquals(email, first.get().getEmail());
+        assertEquals(Role.ADMIN, first.get().getRole());
+        assertSame(first.get(), second.orElseThrow());
+        verify(jwtService, times(1)).verifyJwtToken(jwt);
+    }
+
+    @Test
+    void invalidTokenIsNotVerified() {
+        // Act
+        Optional<VerifiedToken> verifiedToken =
+                jwtTokenCache.getVerifiedToken("eyJhbGciOiJIUzUxMiJ9."
+                + "eyJzdWIiOiJUaG9tYXMgVmFuIERlIFdhbGxlIiwiZXhwIjoxNjUyMDc5ODg3"
+                + "LCJpYXQiOjE2NTE5OTM0ODd9.BPwt8xEyEkBUapIQKYpJP"
+                + "dDt80khWQzB7Nm7TsIJhbvjJ5msbRusifMHEzHkc4mDo8Ih0W9g");
+
+        // Assert
+        assertTrue(verifiedToken.isEmpty());
+    }
+}
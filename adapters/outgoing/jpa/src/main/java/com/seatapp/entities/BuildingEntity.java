@@ -5,27 +5,45 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.Entity;
 import javax.persistence.Table;
 import javax.persistence.Id;
 import javax.persistence.GeneratedValue;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.OneToMany;
 import javax.persistence.CascadeType;
 import java.util.List;
 
 @Entity
 @Table(name = "Building")
+@NamedEntityGraph(name = BuildingEntity.SUMMARY_GRAPH,
+        attributeNodes = @NamedAttributeNode("floors"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 public class BuildingEntity {
+    /**
+     * The fetch plan of a building with its floors.
+     * The points and seats of the floors are batch fetched.
+     */
+    public static final String SUMMARY_GRAPH = "Building.summary";
+
     /**
      * Represents the building id.
      */
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "building_seq")
+    @GenericGenerator(name = "building_seq",
+            strategy = PooledSequenceGenerator.STRATEGY,
+            parameters = @Parameter(
+                    name = SequenceStyleGenerator.SEQUENCE_PARAM,
+                    value = "building_seq"))
     private Long id;
 
     /**
@@ -1,32 +1,60 @@
 package com.seatapp.entities;
 
 import com.seatapp.domain.Floor;
+import com.seatapp.domain.Reservation;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.Entity;
 import javax.persistence.Table;
 import javax.persistence.Id;
 import javax.persistence.GeneratedValue;
+import javax.persistence.JoinColumn;
+import javax.persistence.JoinTable;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.OneToMany;
 import javax.persistence.CascadeType;
 import javax.persistence.ElementCollection;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Entity
 @Table(name = "Floor")
+@NamedEntityGraph(name = FloorEntity.PLAN_GRAPH,
+        attributeNodes = @NamedAttributeNode("seats"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 public class FloorEntity {
+    /**
+     * The fetch plan of a floor with its seats.
+     * The points of the floor are batch fetched.
+     */
+    public static final String PLAN_GRAPH = "Floor.plan";
+
+    /**
+     * The table which links the floors to their seats.
+     */
+    public static final String SEATS_TABLE = "floor_seats";
+
     /**
      * Represents the floor id.
      */
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "floor_seq")
+    @GenericGenerator(name = "floor_seq",
+            strategy = PooledSequenceGenerator.STRATEGY,
+            parameters = @Parameter(
+                    name = SequenceStyleGenerator.SEQUENCE_PARAM,
+                    value = "floor_seq"))
     private long id;
 
     /**
@@ -42,8 +70,13 @@ public class FloorEntity {
 
     /**
      * Represents the seats on the floor.
+     * The link table is named so seats can be unlinked
+     * by a single statement on the seat column.
      */
     @OneToMany(cascade = CascadeType.ALL)
+    @JoinTable(name = FloorEntity.SEATS_TABLE,
+            joinColumns = @JoinColumn(name = "floor_id"),
+            inverseJoinColumns = @JoinColumn(name = "seat_id"))
     private List<SeatEntity> seats;
 
     /**
@@ -76,4 +109,24 @@ public class FloorEntity {
                         .map(SeatEntity::toSeat)
                         .toList());
     }
+
+    /**
+     * This method converts a floorEntity to a floor
+     * with the given reservations on its seats instead of their own.
+     *
+     * @param reservationsBySeat the reservations by the id of their seat
+     * @return a floor
+     */
+    public Floor toFloor(
+            final Map<Long, List<Reservation>> reservationsBySeat) {
+        return new Floor(this.getId(), this.getName(),
+                this.getPoints().stream()
+                        .map(PointEntity::toPoint)
+                        .toList(),
+                this.getSeats().stream()
+                        .map(seat -> seat.toSeat(reservationsBySeat
+                                .getOrDefault(seat.getId(),
+                                        new ArrayList<>())))
+                        .toList());
+    }
 }
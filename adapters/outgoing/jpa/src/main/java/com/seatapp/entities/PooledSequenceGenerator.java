@@ -0,0 +1,58 @@
+package com.seatapp.entities;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Generates ids from a database sequence which is incremented
+ * by the allocation size, so one sequence call gives the ids
+ * of many inserted rows. The allocation size is read from the
+ * hibernate setting {@value #ALLOCATION_SIZE_SETTING}.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+    /**
+     * The strategy to use in the generic generator of an entity.
+     */
+    public static final String STRATEGY =
+            "com.seatapp.entities.PooledSequenceGenerator";
+
+    /**
+     * The setting with the amount of ids taken from one sequence call.
+     */
+    public static final String ALLOCATION_SIZE_SETTING =
+            "seatapp.id.allocation_size";
+
+    /**
+     * The amount of ids taken from one sequence call
+     * when the setting is absent.
+     */
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    /**
+     * Configures the sequence with the allocation size from the settings.
+     * The pooled optimizer is used, so the increment of the sequence
+     * in the database is the allocation size.
+     *
+     * @param type            the type of the id
+     * @param params          the parameters of the generator
+     * @param serviceRegistry the service registry of hibernate
+     * @throws MappingException when the generator can not be configured
+     */
+    @Override
+    public void configure(final Type type, final Properties params,
+                          final ServiceRegistry serviceRegistry)
+            throws MappingException {
+        Object allocationSize = serviceRegistry
+                .getService(ConfigurationService.class).getSettings()
+                .get(ALLOCATION_SIZE_SETTING);
+        params.put(INCREMENT_PARAM, allocationSize == null
+                ? String.valueOf(DEFAULT_ALLOCATION_SIZE)
+                : allocationSize.toString());
+        super.configure(type, params, serviceRegistry);
+    }
+}
@@ -5,17 +5,26 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 import javax.persistence.CascadeType;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Reservation")
+@Table(name = "Reservation", indexes = {
+        @Index(name = "idx_reservation_user_start",
+                columnList = "userEntity_email, startDateTime"),
+        @Index(name = "idx_reservation_seat_end",
+                columnList = "seat_id, endDateTime")})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -25,7 +34,12 @@ public class ReservationEntity {
      * Represents the reservations' id.
      */
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "reservation_seq")
+    @GenericGenerator(name = "reservation_seq",
+            strategy = PooledSequenceGenerator.STRATEGY,
+            parameters = @Parameter(
+                    name = SequenceStyleGenerator.SEQUENCE_PARAM,
+                    value = "reservation_seq"))
     private Long id;
 
     /**
@@ -55,6 +69,14 @@ public class ReservationEntity {
             CascadeType.REFRESH})
     private UserEntity userEntity;
 
+    /**
+     * Represents the id of the seat on which the reservation is made.
+     * A reservation inserted on its own writes the column, afterwards
+     * it is only changed through the reservations of the seat.
+     */
+    @Column(name = "seat_id", updatable = false)
+    private Long seatId;
+
     /**
      * Creates reservation with the details.
      *
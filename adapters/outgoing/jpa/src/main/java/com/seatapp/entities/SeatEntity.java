@@ -1,31 +1,56 @@
 package com.seatapp.entities;
 
+import com.seatapp.domain.Reservation;
 import com.seatapp.domain.Seat;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.Entity;
 import javax.persistence.Table;
 import javax.persistence.Id;
 import javax.persistence.GeneratedValue;
+import javax.persistence.JoinColumn;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
 import javax.persistence.CascadeType;
 import java.util.List;
 
 @Entity
 @Table(name = "Seat")
+@NamedEntityGraph(name = SeatEntity.RESERVATIONS_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "reservations",
+                subgraph = "reservations"),
+        subgraphs = @NamedSubgraph(name = "reservations",
+                attributeNodes = @NamedAttributeNode("userEntity")))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 public class SeatEntity {
+    /**
+     * The fetch plan of a seat with its reservations
+     * and the users who made them.
+     */
+    public static final String RESERVATIONS_GRAPH = "Seat.reservations";
+
     /**
      * Represents the seats' id.
      */
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "seat_seq")
+    @GenericGenerator(name = "seat_seq",
+            strategy = PooledSequenceGenerator.STRATEGY,
+            parameters = @Parameter(
+                    name = SequenceStyleGenerator.SEQUENCE_PARAM,
+                    value = "seat_seq"))
     private Long id;
     /**
      * Represents the seats' name.
@@ -62,9 +87,11 @@ public class SeatEntity {
     private int height;
 
     /**
-     * Represents the reservations a seat.
+     * Represents the reservations a seat, in start time order.
      */
     @OneToMany(cascade = CascadeType.ALL)
+    @JoinColumn(name = "seat_id")
+    @OrderBy("startDateTime ASC, id ASC")
     private List<ReservationEntity> reservations;
 
     /**
@@ -91,14 +118,25 @@ public class SeatEntity {
      * @return a seat
      */
     public Seat toSeat() {
+        return toSeat(getReservations().stream()
+                .map(ReservationEntity::toReservation)
+                .toList());
+    }
+
+    /**
+     * This method converts a seatEntity to a seat
+     * with the given reservations instead of its own.
+     *
+     * @param seatReservations the reservations of the seat
+     * @return a seat
+     */
+    public Seat toSeat(final List<Reservation> seatReservations) {
         return new Seat(this.getId(), this.getName(),
                 this.isAvailable(),
                 this.getXCoordinates(),
                 this.getYCoordinates(),
                 this.getWidth(),
                 this.getHeight(),
-                getReservations().stream()
-                        .map(ReservationEntity::toReservation)
-                        .toList());
+                seatReservations);
     }
 }
@@ -3,14 +3,20 @@ package com.seatapp.repositories;
 import com.seatapp.domain.Building;
 import com.seatapp.domain.Floor;
 import com.seatapp.domain.Point;
+import com.seatapp.domain.Reservation;
 import com.seatapp.domain.Seat;
 import com.seatapp.entities.BuildingEntity;
+import com.seatapp.entities.FloorEntity;
+import com.seatapp.entities.ReservationEntity;
 import com.seatapp.exceptions.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -110,15 +116,23 @@ public class BuildingRepositoryImpl implements BuildingRepository {
      */
     private final BuildingRepositoryJpa repository;
 
+    /**
+     * Represents the floor repository.
+     */
+    private final FloorRepositoryJpa floorRepository;
+
     /**
      * Creates the BuildingRepositoryImpl.
      *
-     * @param repository the repository.
+     * @param repository      the repository.
+     * @param floorRepository the floor repository
      */
     @Autowired
     public BuildingRepositoryImpl(
-            final BuildingRepositoryJpa repository) {
+            final BuildingRepositoryJpa repository,
+            final FloorRepositoryJpa floorRepository) {
         this.repository = repository;
+        this.floorRepository = floorRepository;
         initEntities();
     }
 
@@ -224,7 +238,7 @@ public class BuildingRepositoryImpl implements BuildingRepository {
      */
     @Override
     public List<Building> findAll() {
-        List<BuildingEntity> entities = repository.findAll();
+        List<BuildingEntity> entities = repository.findAllWithFloors();
 
         return entities.stream().map(BuildingEntity::toBuilding)
                 .toList();
@@ -239,7 +253,7 @@ public class BuildingRepositoryImpl implements BuildingRepository {
     @Override
     public Building findById(final Long buildingId) {
         Optional<BuildingEntity> optionalEntity =
-                repository.findById(buildingId);
+                repository.findWithFloorsById(buildingId);
         return optionalEntity
                 .map(BuildingEntity::toBuilding)
                 .orElseThrow(() ->
@@ -247,6 +261,70 @@ public class BuildingRepositoryImpl implements BuildingRepository {
                                 "No building with this id."));
     }
 
+    /**
+     * Finds the building with only the given floor and only the non
+     * cancelled reservations starting on the given date.
+     * The other floors and the reservations of other days
+     * are never loaded.
+     *
+     * @param buildingId the id of the building
+     * @param floorId    the id of the floor
+     * @param date       the date of the wanted reservations
+     * @return the building with the given floor
+     */
+    @Override
+    public Building findByIdAndFloorIdAndDate(final Long buildingId,
+                                              final Long floorId,
+                                              final LocalDate date) {
+        String name = repository.findNameById(buildingId)
+                .orElseThrow(() ->
+                        new EntityNotFoundException(
+                                "No building with this id."));
+        FloorEntity floor = repository.findFloorOfBuilding(buildingId,
+                        floorId)
+                .orElseThrow(() ->
+                        new EntityNotFoundException(
+                                "This floor does not exist."));
+
+        Map<Long, List<Reservation>> reservationsBySeat = new HashMap<>();
+        for (Object[] row : floorRepository
+                .findReservationsOfFloorStartingBetween(floorId,
+                        date.atStartOfDay(),
+                        date.plusDays(1).atStartOfDay())) {
+            reservationsBySeat.computeIfAbsent((Long) row[0],
+                            seatId -> new ArrayList<>())
+                    .add(((ReservationEntity) row[1]).toReservation());
+        }
+
+        return new Building(buildingId, name,
+                List.of(floor.toFloor(reservationsBySeat)));
+    }
+
+    /**
+     * Finds the building with only the given floor and the seats of the
+     * floor without their reservations, for drawing the floor plan.
+     * The other floors and the reservations are never loaded.
+     *
+     * @param buildingId the id of the building
+     * @param floorId    the id of the floor
+     * @return the building with the given floor
+     */
+    @Override
+    public Building findGeometryByIdAndFloorId(final Long buildingId,
+                                               final Long floorId) {
+        String name = repository.findNameById(buildingId)
+                .orElseThrow(() ->
+                        new EntityNotFoundException(
+                                "No building with this id."));
+        FloorEntity floor = repository.findFloorOfBuilding(buildingId,
+                        floorId)
+                .orElseThrow(() ->
+                        new EntityNotFoundException(
+                                "This floor does not exist."));
+        return new Building(buildingId, name,
+                List.of(floor.toFloor(Map.of())));
+    }
+
     /**
      * Deletes all the buildings.
      */
@@ -1,8 +1,59 @@
 package com.seatapp.repositories;
 
 import com.seatapp.entities.BuildingEntity;
+import com.seatapp.entities.FloorEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface BuildingRepositoryJpa extends
         JpaRepository<BuildingEntity, Long> {
+    /**
+     * Finds all the buildings with their floors.
+     *
+     * @return the buildings
+     */
+    @EntityGraph(BuildingEntity.SUMMARY_GRAPH)
+    @Query("select distinct b from BuildingEntity b")
+    List<BuildingEntity> findAllWithFloors();
+
+    /**
+     * Finds the building with its floors.
+     *
+     * @param buildingId the id of the building
+     * @return the building if it exists
+     */
+    @EntityGraph(BuildingEntity.SUMMARY_GRAPH)
+    @Query("select distinct b from BuildingEntity b"
+            + " where b.id = :buildingId")
+    Optional<BuildingEntity> findWithFloorsById(
+            @Param("buildingId") Long buildingId);
+
+    /**
+     * Finds the name of the building without loading its floors.
+     *
+     * @param buildingId the id of the building
+     * @return the name of the building if it exists
+     */
+    @Query("select b.name from BuildingEntity b where b.id = :buildingId")
+    Optional<String> findNameById(@Param("buildingId") Long buildingId);
+
+    /**
+     * Finds a floor of the building with its seats
+     * without loading the other floors.
+     *
+     * @param buildingId the id of the building
+     * @param floorId    the id of the floor
+     * @return the floor if it exists in the building
+     */
+    @Query("select distinct f from BuildingEntity b join b.floors f"
+            + " left join fetch f.seats"
+            + " where b.id = :buildingId and f.id = :floorId")
+    Optional<FloorEntity> findFloorOfBuilding(
+            @Param("buildingId") Long buildingId,
+            @Param("floorId") Long floorId);
 }
@@ -1,10 +1,19 @@
 package com.seatapp.repositories;
 
 import com.seatapp.domain.Floor;
+import com.seatapp.domain.Reservation;
 import com.seatapp.entities.FloorEntity;
+import com.seatapp.entities.ReservationEntity;
 import com.seatapp.exceptions.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class FloorRepositoryImpl implements FloorRepository {
@@ -32,13 +41,42 @@ public class FloorRepositoryImpl implements FloorRepository {
      */
     @Override
     public Floor findById(final long floorId) {
-        FloorEntity floorEntity = repository.findById(floorId).orElseThrow(
-                () -> new EntityNotFoundException(
+        FloorEntity floorEntity = repository.findWithSeatsById(floorId)
+                .orElseThrow(() -> new EntityNotFoundException(
                         "This floor does not exist."));
 
         return floorEntity.toFloor();
     }
 
+    /**
+     * get the floor by floor id with only the non cancelled
+     * reservations of its seats which start on the given date.
+     *
+     * @param floorId the floor id
+     * @param date    the date of the reservations
+     * @return the found floor
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Floor findByIdWithReservationsByDate(final long floorId,
+                                                final LocalDate date) {
+        FloorEntity floorEntity = repository.findWithSeatsById(floorId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "This floor does not exist."));
+
+        Map<Long, List<Reservation>> reservationsBySeat = new HashMap<>();
+        for (Object[] row : repository
+                .findReservationsOfFloorStartingBetween(floorId,
+                        date.atStartOfDay(),
+                        date.plusDays(1).atStartOfDay())) {
+            reservationsBySeat.computeIfAbsent((Long) row[0],
+                            seatId -> new ArrayList<>())
+                    .add(((ReservationEntity) row[1]).toReservation());
+        }
+
+        return floorEntity.toFloor(reservationsBySeat);
+    }
+
     /**
      * Saving the floor in the database.
      *
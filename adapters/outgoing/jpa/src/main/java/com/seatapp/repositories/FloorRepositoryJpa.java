@@ -1,8 +1,68 @@
 package com.seatapp.repositories;
 
 import com.seatapp.entities.FloorEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface FloorRepositoryJpa extends
         JpaRepository<FloorEntity, Long> {
+    /**
+     * Removes the seat from the floor it is on.
+     * The pending changes are written first and the persistence
+     * context is cleared afterwards, so no stale floor is kept.
+     *
+     * @param seatId the id of the seat
+     * @return the amount of removed links, 0 when the seat is on no floor
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from " + FloorEntity.SEATS_TABLE
+            + " where seat_id = :seatId", nativeQuery = true)
+    int removeSeatFromFloors(@Param("seatId") Long seatId);
+
+    /**
+     * Removes all the seats from all the floors.
+     * The pending changes are written first and the persistence
+     * context is cleared afterwards, so no stale floor is kept.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from " + FloorEntity.SEATS_TABLE,
+            nativeQuery = true)
+    void removeAllSeatsFromFloors();
+
+    /**
+     * Finds the floor with its seats.
+     *
+     * @param floorId the id of the floor
+     * @return the floor if it exists
+     */
+    @EntityGraph(FloorEntity.PLAN_GRAPH)
+    @Query("select distinct f from FloorEntity f where f.id = :floorId")
+    Optional<FloorEntity> findWithSeatsById(@Param("floorId") long floorId);
+
+    /**
+     * Finds the non cancelled reservations on the seats of the floor
+     * which start in the given period together with the id of their seat.
+     *
+     * @param floorId the id of the floor
+     * @param start   the start of the period, inclusive
+     * @param end     the end of the period, exclusive
+     * @return rows of the seat id and the reservation entity
+     */
+    @Query("select s.id, r from FloorEntity f join f.seats s"
+            + " join s.reservations r join fetch r.userEntity"
+            + " where f.id = :floorId"
+            + " and r.cancelled = false"
+            + " and r.startDateTime >= :start and r.startDateTime < :end"
+            + " order by r.startDateTime, r.id")
+    List<Object[]> findReservationsOfFloorStartingBetween(
+            @Param("floorId") long floorId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
 }
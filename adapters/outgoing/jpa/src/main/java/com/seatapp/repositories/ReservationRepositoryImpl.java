@@ -1,11 +1,20 @@
 package com.seatapp.repositories;
 
 import com.seatapp.domain.Reservation;
+import com.seatapp.domain.SeatReservation;
 import com.seatapp.entities.ReservationEntity;
+import com.seatapp.entities.UserEntity;
 import com.seatapp.exceptions.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -15,16 +24,23 @@ public class ReservationRepositoryImpl implements ReservationRepository {
      */
     private final ReservationRepositoryJpa repository;
 
+    /**
+     * Represents the entity manager.
+     */
+    private final EntityManager entityManager;
 
     /**
      * Creates the ReservationRepositoryImpl.
      *
-     * @param repository the repository.
+     * @param repository    the repository.
+     * @param entityManager the entity manager.
      */
     @Autowired
     public ReservationRepositoryImpl(
-            final ReservationRepositoryJpa repository) {
+            final ReservationRepositoryJpa repository,
+            final EntityManager entityManager) {
         this.repository = repository;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -44,6 +60,30 @@ public class ReservationRepositoryImpl implements ReservationRepository {
         return reservationEntity.toReservation();
     }
 
+    /**
+     * Inserts a new reservation on the seat without loading
+     * or saving the other reservations of the seat.
+     * The seat id is written by the insert itself
+     * and the user is referenced by its email and is not loaded.
+     *
+     * @param seatId      the id of the seat
+     * @param reservation the new reservation
+     * @return the reservation with the id from the database
+     */
+    @Override
+    @Transactional
+    public Reservation insertForSeat(final Long seatId,
+                                     final Reservation reservation) {
+        ReservationEntity entity = ReservationEntity.build(reservation);
+        entity.setUserEntity(entityManager.getReference(UserEntity.class,
+                reservation.getUser().getEmail()));
+        entity.setSeatId(seatId);
+        entityManager.persist(entity);
+
+        reservation.setId(entity.getId());
+        return reservation;
+    }
+
     /**
      * Tries to find the reservation with the given id.
      *
@@ -62,6 +102,171 @@ public class ReservationRepositoryImpl implements ReservationRepository {
                                 "No reservation with this id."));
     }
 
+    /**
+     * Tries to find the id of the seat
+     * on which the reservation is made.
+     *
+     * @param reservationId the id of the reservation
+     * @return the id of the seat
+     */
+    @Override
+    public Long findSeatIdById(final Long reservationId) {
+        return repository.findSeatIdById(reservationId)
+                .orElseThrow(() ->
+                        new EntityNotFoundException(
+                                "No reservation with this id."));
+    }
+
+    /**
+     * Finds the non cancelled reservations of the user
+     * which start after the given time, ordered by their start time.
+     *
+     * @param email the email of the user who made the reservations
+     * @param from  the time after which the reservations start
+     * @return the reservations with the seat they are made on
+     */
+    @Override
+    public List<SeatReservation> findAllByUserFrom(
+            final String email, final LocalDateTime from) {
+        return toSeatReservations(repository.findAllByUserFrom(email, from,
+                Pageable.unpaged()));
+    }
+
+    /**
+     * Finds the non cancelled reservations of the user which start
+     * after the given time and come after the given reservation
+     * in the order of their start time and id.
+     *
+     * @param email      the email of the user who made the reservations
+     * @param from       the time after which the reservations start
+     * @param afterStart the start time of the last reservation before
+     *                   the wanted reservations, null for the first ones
+     * @param afterId    the id of the last reservation before
+     *                   the wanted reservations, null for the first ones
+     * @param limit      the maximum amount of reservations
+     * @return the reservations with the seat they are made on
+     */
+    @Override
+    public List<SeatReservation> findPageByUserFrom(
+            final String email, final LocalDateTime from,
+            final LocalDateTime afterStart, final Long afterId,
+            final int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        return toSeatReservations(afterStart == null
+                ? repository.findAllByUserFrom(email, from, page)
+                : repository.findAllByUserFromAfter(email, from,
+                afterStart, afterId, page));
+    }
+
+    /**
+     * Converts the rows of the seat id, the seat name
+     * and the reservation entity to reservations with their seat.
+     *
+     * @param rows the rows
+     * @return the reservations with the seat they are made on
+     */
+    private List<SeatReservation> toSeatReservations(
+            final List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new SeatReservation((Long) row[0],
+                        (String) row[1],
+                        ((ReservationEntity) row[2]).toReservation()))
+                .toList();
+    }
+
+    /**
+     * Finds the reservations which are not cancelled or checked in
+     * and end after the given time.
+     *
+     * @param time the time after which the reservations end
+     * @return the reservations with the seat they are made on
+     */
+    @Override
+    public List<SeatReservation> findAllNotCheckedInEndingAfter(
+            final LocalDateTime time) {
+        return toSeatReservations(
+                repository.findAllNotCheckedInEndingAfter(time));
+    }
+
+    /**
+     * Finds the reservations of the seats which are not cancelled
+     * and end after the given time.
+     *
+     * @param seatIds the ids of the seats
+     * @param time    the time after which the reservations end
+     * @return the reservations with the seat they are made on
+     */
+    @Override
+    public List<SeatReservation> findAllOfSeatsEndingAfter(
+            final List<Long> seatIds, final LocalDateTime time) {
+        return toSeatReservations(
+                repository.findAllOfSeatsEndingAfter(seatIds, time));
+    }
+
+    /**
+     * Cancels the given reservations which are not cancelled
+     * or checked in, with one guarded update, so a check in which
+     * commits first is kept. JPQL has no returning clause, so when
+     * the update does not cancel all of them, the cancelled ids are
+     * read back in the same transaction. That read also gives the
+     * reservations among them which were cancelled before, which are
+     * released again without harm as their seat is already free.
+     *
+     * @param reservationIds the ids of the reservations
+     * @return the ids of the cancelled reservations
+     */
+    @Override
+    @Transactional
+    public List<Long> cancelAllNotCheckedIn(
+            final List<Long> reservationIds) {
+        int cancelled = repository.cancelAllNotCheckedIn(reservationIds);
+        if (cancelled == 0) {
+            return List.of();
+        }
+        if (cancelled == reservationIds.size()) {
+            return reservationIds;
+        }
+        return repository.findAllCancelledNotCheckedIn(reservationIds);
+    }
+
+    /**
+     * Checks in on the reservation when it is not cancelled,
+     * with one statement. A release which commits first
+     * makes the check in fail instead of being overwritten.
+     *
+     * @param reservationId the id of the reservation
+     * @return if the reservation is checked in
+     */
+    @Override
+    @Transactional
+    public boolean checkInIfNotCancelled(final Long reservationId) {
+        return repository.checkInIfNotCancelled(reservationId) == 1;
+    }
+
+    /**
+     * Cancels the existing reservations with one statement,
+     * the ids of reservations which do not exist are passed over.
+     *
+     * @param reservationIds the ids of the reservations
+     */
+    @Override
+    @Transactional
+    public void cancelAll(final List<Long> reservationIds) {
+        repository.cancelAll(reservationIds);
+    }
+
+    /**
+     * Checks in on the existing reservations which are not cancelled
+     * with one statement, so a release is not undone.
+     *
+     * @param reservationIds the ids of the reservations
+     */
+    @Override
+    @Transactional
+    public void checkInAll(final List<Long> reservationIds) {
+        repository.checkInAll(reservationIds);
+    }
+
     /**
      * Deletes all the reservations.
      */
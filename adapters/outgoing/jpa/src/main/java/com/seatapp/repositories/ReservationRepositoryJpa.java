@@ -1,8 +1,179 @@
 package com.seatapp.repositories;
 
 import com.seatapp.entities.ReservationEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface ReservationRepositoryJpa extends
         JpaRepository<ReservationEntity, Long> {
+    /**
+     * Deletes the reservations of the seat.
+     *
+     * @param seatId the id of the seat
+     */
+    @Modifying
+    @Query(value = "delete from reservation where seat_id = :seatId",
+            nativeQuery = true)
+    void deleteAllOfSeat(@Param("seatId") Long seatId);
+
+    /**
+     * Deletes the reservations which are made on a seat.
+     */
+    @Modifying
+    @Query(value = "delete from reservation where seat_id is not null",
+            nativeQuery = true)
+    void deleteAllOnSeats();
+
+    /**
+     * Finds the id of the seat on which the reservation is made.
+     *
+     * @param reservationId the id of the reservation
+     * @return the id of the seat, empty when the reservation
+     * does not exist or is not made on a seat
+     */
+    @Query("select r.seatId from ReservationEntity r"
+            + " where r.id = :reservationId and r.seatId is not null")
+    Optional<Long> findSeatIdById(
+            @Param("reservationId") Long reservationId);
+
+    /**
+     * Finds the non cancelled reservations of the user which start
+     * after the given time together with the id and name of their seat.
+     * The lookup is backed by the index on the user and start time.
+     *
+     * @param email    the email of the user who made the reservations
+     * @param from     the time after which the reservations start
+     * @param pageable the maximum amount of rows, unpaged for all rows
+     * @return rows of the seat id, the seat name and the reservation
+     */
+    @Query("select s.id, s.name, r from SeatEntity s join s.reservations r"
+            + " join fetch r.userEntity u where u.email = :email"
+            + " and r.startDateTime > :from and r.cancelled = false"
+            + " order by r.startDateTime, r.id")
+    List<Object[]> findAllByUserFrom(@Param("email") String email,
+                                     @Param("from") LocalDateTime from,
+                                     Pageable pageable);
+
+    /**
+     * Finds the non cancelled reservations of the user which start
+     * after the given time and come after the given reservation in
+     * the order of their start time and id, together with the id and
+     * name of their seat. The lookup continues on the index on the user
+     * and start time from the given start time, without skipping rows.
+     *
+     * @param email      the email of the user who made the reservations
+     * @param from       the time after which the reservations start
+     * @param afterStart the start time of the last reservation before
+     * @param afterId    the id of the last reservation before
+     * @param pageable   the maximum amount of rows
+     * @return rows of the seat id, the seat name and the reservation
+     */
+    @Query("select s.id, s.name, r from SeatEntity s join s.reservations r"
+            + " join fetch r.userEntity u where u.email = :email"
+            + " and r.startDateTime > :from and r.cancelled = false"
+            + " and (r.startDateTime > :afterStart"
+            + " or (r.startDateTime = :afterStart and r.id > :afterId))"
+            + " order by r.startDateTime, r.id")
+    List<Object[]> findAllByUserFromAfter(
+            @Param("email") String email,
+            @Param("from") LocalDateTime from,
+            @Param("afterStart") LocalDateTime afterStart,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * Finds the reservations which are not cancelled or checked in
+     * and end after the given time together with the id and name
+     * of their seat.
+     *
+     * @param time the time after which the reservations end
+     * @return rows of the seat id, the seat name and the reservation
+     */
+    @Query("select s.id, s.name, r from SeatEntity s join s.reservations r"
+            + " join fetch r.userEntity"
+            + " where r.cancelled = false and r.checkedIn = false"
+            + " and r.endDateTime > :time")
+    List<Object[]> findAllNotCheckedInEndingAfter(
+            @Param("time") LocalDateTime time);
+
+    /**
+     * Finds the reservations of the seats which are not cancelled
+     * and end after the given time.
+     *
+     * @param seatIds the ids of the seats
+     * @param time    the time after which the reservations end
+     * @return rows of the seat id, the seat name and the reservation
+     */
+    @Query("select s.id, s.name, r from SeatEntity s join s.reservations r"
+            + " join fetch r.userEntity"
+            + " where s.id in :seatIds and r.cancelled = false"
+            + " and r.endDateTime > :time")
+    List<Object[]> findAllOfSeatsEndingAfter(
+            @Param("seatIds") List<Long> seatIds,
+            @Param("time") LocalDateTime time);
+
+    /**
+     * Cancels the given reservations which are not cancelled
+     * or checked in.
+     *
+     * @param reservationIds the ids of the reservations
+     * @return the amount of cancelled reservations
+     */
+    @Modifying
+    @Query("update ReservationEntity r set r.cancelled = true"
+            + " where r.id in :reservationIds"
+            + " and r.cancelled = false and r.checkedIn = false")
+    int cancelAllNotCheckedIn(
+            @Param("reservationIds") List<Long> reservationIds);
+
+    /**
+     * Finds the given reservations which are cancelled
+     * and not checked in.
+     *
+     * @param reservationIds the ids of the reservations
+     * @return the ids of the found reservations
+     */
+    @Query("select r.id from ReservationEntity r"
+            + " where r.id in :reservationIds"
+            + " and r.cancelled = true and r.checkedIn = false")
+    List<Long> findAllCancelledNotCheckedIn(
+            @Param("reservationIds") List<Long> reservationIds);
+
+    /**
+     * Checks in on the reservation when it is not cancelled.
+     *
+     * @param reservationId the id of the reservation
+     * @return the amount of checked in reservations
+     */
+    @Modifying
+    @Query("update ReservationEntity r set r.checkedIn = true"
+            + " where r.id = :reservationId and r.cancelled = false")
+    int checkInIfNotCancelled(@Param("reservationId") Long reservationId);
+
+    /**
+     * Cancels the given reservations.
+     *
+     * @param reservationIds the ids of the reservations
+     */
+    @Modifying
+    @Query("update ReservationEntity r set r.cancelled = true"
+            + " where r.id in :reservationIds")
+    void cancelAll(@Param("reservationIds") List<Long> reservationIds);
+
+    /**
+     * Checks in on the given reservations which are not cancelled.
+     *
+     * @param reservationIds the ids of the reservations
+     */
+    @Modifying
+    @Query("update ReservationEntity r set r.checkedIn = true"
+            + " where r.id in :reservationIds and r.cancelled = false")
+    void checkInAll(@Param("reservationIds") List<Long> reservationIds);
 }
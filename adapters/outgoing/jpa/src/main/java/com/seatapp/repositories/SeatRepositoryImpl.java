@@ -1,15 +1,31 @@
 package com.seatapp.repositories;
 
+import com.seatapp.domain.Reservation;
 import com.seatapp.domain.Seat;
 import com.seatapp.entities.FloorEntity;
+import com.seatapp.entities.ReservationEntity;
 import com.seatapp.entities.SeatEntity;
+import com.seatapp.entities.UserEntity;
 import com.seatapp.exceptions.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 public class SeatRepositoryImpl implements SeatRepository {
@@ -23,17 +39,51 @@ public class SeatRepositoryImpl implements SeatRepository {
      */
     private final FloorRepositoryJpa floorRepository;
 
+    /**
+     * The reservation repository.
+     */
+    private final ReservationRepositoryJpa reservationRepository;
+
+    /**
+     * Represents the entity manager.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Represents the jdbc template, used for the statements
+     * on the link table of the floors and their seats.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Represents if the seat row is locked in the database
+     * while a reservation is made. Single node deployments can turn
+     * it off and rely on the in-process seat locks only.
+     */
+    @Value("${seat.lock.database:true}")
+    private boolean lockInDatabase;
+
     /**
      * Creates the SeatRepositoryImpl.
      *
-     * @param repository      the repository.
-     * @param floorRepository the floor repository
+     * @param repository            the repository.
+     * @param floorRepository       the floor repository
+     * @param reservationRepository the reservation repository
+     * @param entityManager         the entity manager
+     * @param jdbcTemplate          the jdbc template
      */
     @Autowired
-    public SeatRepositoryImpl(final SeatRepositoryJpa repository,
-                              final FloorRepositoryJpa floorRepository) {
+    public SeatRepositoryImpl(
+            final SeatRepositoryJpa repository,
+            final FloorRepositoryJpa floorRepository,
+            final ReservationRepositoryJpa reservationRepository,
+            final EntityManager entityManager,
+            final JdbcTemplate jdbcTemplate) {
         this.repository = repository;
         this.floorRepository = floorRepository;
+        this.reservationRepository = reservationRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     /**
@@ -50,28 +100,63 @@ public class SeatRepositoryImpl implements SeatRepository {
         return savedEntity.toSeat();
     }
 
+    /**
+     * Saves new seats on the floor in one transaction.
+     * The seats are inserted in jdbc batches and linked to the floor
+     * by one batched statement, without loading the seats
+     * already on the floor. The persistence context is cleared
+     * afterwards, so no floor with a stale list of seats is kept.
+     *
+     * @param floorId the id of the floor the seats are placed on
+     * @param seats   the new seats
+     * @return the saved seats in the same order
+     */
+    @Override
+    @Transactional
+    public List<Seat> saveAllOnFloor(final long floorId,
+                                     final List<Seat> seats) {
+        if (!floorRepository.existsById(floorId)) {
+            throw new EntityNotFoundException("No floor with this id.");
+        }
+        List<SeatEntity> entities = repository.saveAll(seats.stream()
+                .map(SeatEntity::build)
+                .toList());
+        entityManager.flush();
+
+        jdbcTemplate.batchUpdate("insert into " + FloorEntity.SEATS_TABLE
+                        + " (floor_id, seat_id) values (?, ?)",
+                entities, entities.size(), (statement, entity) -> {
+                    statement.setLong(1, floorId);
+                    statement.setLong(2, entity.getId());
+                });
+
+        List<Seat> savedSeats = entities.stream()
+                .map(SeatEntity::toSeat).toList();
+        entityManager.clear();
+        return savedSeats;
+    }
+
     /**
      * Deletes a seat from the database.
+     * The seat is unlinked from its floor and deleted with its
+     * reservations by statements on the seat id,
+     * without loading the floors or the reservations.
      *
      * @param seatId id of the seat that will be deleted
      */
     @Override
+    @Transactional
     public void deleteById(final Long seatId) {
-        SeatEntity seat = repository.findById(seatId)
-                .orElseThrow(() ->
-                        new EntityNotFoundException("no seat with this id."));
-
-        FloorEntity floorEntity = floorRepository.findAll()
-                .stream().filter(floorEntityFilter ->
-                        floorEntityFilter.getSeats()
-                                .contains(seat)).findFirst()
-                .orElseThrow(() -> new EntityNotFoundException(
-                        "The seat does not exist in a floor"));
-
-        floorEntity.getSeats().remove(seat);
-        floorRepository.save(floorEntity);
+        if (!repository.existsById(seatId)) {
+            throw new EntityNotFoundException("no seat with this id.");
+        }
+        if (floorRepository.removeSeatFromFloors(seatId) == 0) {
+            throw new EntityNotFoundException(
+                    "The seat does not exist in a floor");
+        }
 
-        repository.delete(seat);
+        reservationRepository.deleteAllOfSeat(seatId);
+        repository.deleteRowById(seatId);
     }
 
     /**
@@ -81,12 +166,134 @@ public class SeatRepositoryImpl implements SeatRepository {
      */
     @Override
     public List<Seat> findAll() {
-        List<SeatEntity> entities = repository.findAll();
+        List<SeatEntity> entities = repository.findAllWithReservations();
 
         return entities.stream().map(SeatEntity::toSeat)
                 .toList();
     }
 
+    /**
+     * Finds the seats with an id after the given id ordered by their id.
+     * Only the seats are limited by the database, their reservations
+     * are loaded in batches afterwards.
+     *
+     * @param afterId the id of the last seat before the wanted seats,
+     *                null for the first seats
+     * @param limit   the maximum amount of seats
+     * @return the seats
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Seat> findPage(final Long afterId, final int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        List<SeatEntity> entities = afterId == null
+                ? repository.findAllByOrderByIdAsc(page)
+                : repository.findByIdGreaterThanOrderByIdAsc(afterId, page);
+
+        return entities.stream().map(SeatEntity::toSeat)
+                .toList();
+    }
+
+    /**
+     * Finds all the existing seats with only their non cancelled
+     * reservations starting on the given date.
+     * The reservations are filtered by the database so only
+     * the reservations of that day are loaded.
+     *
+     * @param date the date of the wanted reservations
+     * @return a list of all the seats
+     */
+    @Override
+    public List<Seat> findAllWithReservationsByDate(final LocalDate date) {
+        Map<Long, List<Reservation>> reservationsBySeat = new HashMap<>();
+        for (Object[] row : repository.findReservationsStartingBetween(
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay())) {
+            reservationsBySeat.computeIfAbsent((Long) row[0],
+                    seatId -> new ArrayList<>())
+                    .add(((ReservationEntity) row[1]).toReservation());
+        }
+
+        return repository.findAll().stream()
+                .map(seat -> seat.toSeat(reservationsBySeat.getOrDefault(
+                        seat.getId(), new ArrayList<>())))
+                .toList();
+    }
+
+    /**
+     * Gives every seat with its reservations to the action
+     * while reading them from a cursor.
+     *
+     * @param action the action done for each seat
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<Seat> action) {
+        try (Stream<Object[]> rows =
+                     repository.streamAllWithReservations()) {
+            forEachGroupedBySeat(rows, action);
+        }
+    }
+
+    /**
+     * Gives every seat with only its non cancelled reservations
+     * starting on the given date to the action
+     * while reading them from a cursor.
+     *
+     * @param date   the date of the wanted reservations
+     * @param action the action done for each seat
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachWithReservationsByDate(
+            final LocalDate date, final Consumer<Seat> action) {
+        try (Stream<Object[]> rows = repository
+                .streamAllWithReservationsStartingBetween(
+                        date.atStartOfDay(),
+                        date.plusDays(1).atStartOfDay())) {
+            forEachGroupedBySeat(rows, action);
+        }
+    }
+
+    /**
+     * Collects the reservations of the rows of each seat
+     * and gives the seat to the action once its last row is read.
+     * The entities are detached once they are converted,
+     * so only the rows of one seat are held in memory.
+     *
+     * @param rows   the rows of the seat entity and the reservation
+     *               entity or null, grouped by seat
+     * @param action the action done for each seat
+     */
+    private void forEachGroupedBySeat(final Stream<Object[]> rows,
+                                      final Consumer<Seat> action) {
+        SeatEntity seat = null;
+        List<Reservation> reservations = new ArrayList<>();
+        Iterator<Object[]> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            Object[] row = iterator.next();
+            SeatEntity rowSeat = (SeatEntity) row[0];
+            if (seat != null && !seat.getId().equals(rowSeat.getId())) {
+                action.accept(seat.toSeat(reservations));
+                entityManager.detach(seat);
+                reservations = new ArrayList<>();
+            }
+            seat = rowSeat;
+            ReservationEntity reservation = (ReservationEntity) row[1];
+            if (reservation != null) {
+                reservations.add(reservation.toReservation());
+                UserEntity user = reservation.getUserEntity();
+                entityManager.detach(reservation);
+                if (user != null) {
+                    entityManager.detach(user);
+                }
+            }
+        }
+        if (seat != null) {
+            action.accept(seat.toSeat(reservations));
+            entityManager.detach(seat);
+        }
+    }
+
     /**
      * Find a seat by the given id.
      *
@@ -95,21 +302,61 @@ public class SeatRepositoryImpl implements SeatRepository {
      */
     @Override
     public Seat findById(final Long seatId) {
-        Optional<SeatEntity> optionalEntity = repository.findById(seatId);
+        Optional<SeatEntity> optionalEntity =
+                repository.findWithReservationsById(seatId);
         return optionalEntity.map(SeatEntity::toSeat).orElseThrow(() ->
                 new EntityNotFoundException("No seat with this id."));
     }
 
+    /**
+     * Find a seat by the given id with only its non cancelled
+     * reservations ending after the given time.
+     * When database locking is on, the seat row stays locked
+     * until the end of the transaction of the caller.
+     *
+     * @param seatId the id of the seat you want to find
+     * @param time   the time after which the reservations end
+     * @return The found seat else error.
+     */
+    @Override
+    public Seat findByIdWithReservationsEndingAfter(
+            final Long seatId, final LocalDateTime time) {
+        Optional<SeatEntity> optionalEntity = lockInDatabase
+                ? repository.findForUpdateById(seatId)
+                : repository.findById(seatId);
+        SeatEntity seat = optionalEntity
+                .orElseThrow(() ->
+                        new EntityNotFoundException("No seat with this id."));
+        return seat.toSeat(new ArrayList<>(repository
+                .findReservationsOfSeatEndingAfter(seatId, time).stream()
+                .map(ReservationEntity::toReservation)
+                .toList()));
+    }
+
+    /**
+     * Sets the availability of the existing seats with one statement,
+     * the ids of seats which do not exist are passed over.
+     *
+     * @param seatIds   the ids of the seats
+     * @param available the new availability
+     */
+    @Override
+    @Transactional
+    public void updateAvailability(final List<Long> seatIds,
+                                   final boolean available) {
+        repository.updateAvailability(seatIds, available);
+    }
+
     /**
      * Deletes all the seats from the database.
+     * The seats are unlinked from the floors and deleted with their
+     * reservations by one statement each, without loading them.
      */
     @Override
+    @Transactional
     public void deleteAll() {
-        for (FloorEntity floor : floorRepository.findAll()) {
-            floor.setSeats(new ArrayList<>());
-            floorRepository.save(floor);
-        }
-
-        repository.deleteAll();
+        floorRepository.removeAllSeatsFromFloors();
+        reservationRepository.deleteAllOnSeats();
+        repository.deleteAllRows();
     }
 }
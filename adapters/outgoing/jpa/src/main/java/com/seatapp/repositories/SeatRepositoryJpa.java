@@ -1,10 +1,174 @@
 package com.seatapp.repositories;
 
+import com.seatapp.entities.ReservationEntity;
 import com.seatapp.entities.SeatEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 @Repository
 public interface SeatRepositoryJpa extends
         JpaRepository<SeatEntity, Long> {
+    /**
+     * Finds all the seats with their reservations.
+     *
+     * @return the seats
+     */
+    @EntityGraph(SeatEntity.RESERVATIONS_GRAPH)
+    @Query("select distinct s from SeatEntity s")
+    List<SeatEntity> findAllWithReservations();
+
+    /**
+     * Deletes the row of the seat without loading it.
+     * The links to its floor and its reservations
+     * have to be deleted first.
+     *
+     * @param seatId the id of the seat
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("delete from SeatEntity s where s.id = :seatId")
+    void deleteRowById(@Param("seatId") Long seatId);
+
+    /**
+     * Deletes the rows of all the seats without loading them.
+     * The links to their floors and their reservations
+     * have to be deleted first.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("delete from SeatEntity s")
+    void deleteAllRows();
+
+    /**
+     * Sets the availability of the existing seats without loading them.
+     *
+     * @param seatIds   the ids of the seats
+     * @param available the new availability
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update SeatEntity s set s.available = :available"
+            + " where s.id in :seatIds")
+    void updateAvailability(@Param("seatIds") List<Long> seatIds,
+                            @Param("available") boolean available);
+
+    /**
+     * Finds the first seats ordered by their id.
+     *
+     * @param pageable the maximum amount of seats
+     * @return the seats
+     */
+    List<SeatEntity> findAllByOrderByIdAsc(Pageable pageable);
+
+    /**
+     * Finds the seats with an id after the given id
+     * ordered by their id.
+     *
+     * @param id       the id of the last seat before the wanted seats
+     * @param pageable the maximum amount of seats
+     * @return the seats
+     */
+    List<SeatEntity> findByIdGreaterThanOrderByIdAsc(Long id,
+                                                     Pageable pageable);
+
+    /**
+     * Finds the seat with its reservations.
+     *
+     * @param seatId the id of the seat
+     * @return the seat if it exists
+     */
+    @EntityGraph(SeatEntity.RESERVATIONS_GRAPH)
+    @Query("select distinct s from SeatEntity s where s.id = :seatId")
+    Optional<SeatEntity> findWithReservationsById(
+            @Param("seatId") Long seatId);
+
+    /**
+     * Finds the non cancelled reservations which start
+     * in the given period together with the id of their seat.
+     *
+     * @param start the start of the period, inclusive
+     * @param end   the end of the period, exclusive
+     * @return rows of the seat id and the reservation entity
+     */
+    @Query("select s.id, r from SeatEntity s join s.reservations r"
+            + " join fetch r.userEntity where r.cancelled = false"
+            + " and r.startDateTime >= :start and r.startDateTime < :end"
+            + " order by r.startDateTime, r.id")
+    List<Object[]> findReservationsStartingBetween(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    /**
+     * Finds the non cancelled reservations of the seat
+     * which end after the given time.
+     *
+     * @param seatId the id of the seat
+     * @param time   the time after which the reservations end
+     * @return the reservations
+     */
+    @Query("select r from SeatEntity s join s.reservations r"
+            + " join fetch r.userEntity where s.id = :seatId"
+            + " and r.cancelled = false and r.endDateTime > :time"
+            + " order by r.startDateTime, r.id")
+    List<ReservationEntity> findReservationsOfSeatEndingAfter(
+            @Param("seatId") Long seatId,
+            @Param("time") LocalDateTime time);
+
+    /**
+     * Finds the seat and locks its row until the end of the
+     * current transaction, so reservations on the same seat
+     * are checked and inserted one after the other.
+     *
+     * @param seatId the id of the seat
+     * @return the seat if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from SeatEntity s where s.id = :seatId")
+    Optional<SeatEntity> findForUpdateById(@Param("seatId") Long seatId);
+
+    /**
+     * Streams all the seats with their reservations from a cursor,
+     * one row per reservation and one row for a seat without them.
+     * The rows of a seat follow each other.
+     *
+     * @return rows of the seat entity and the reservation entity or null
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select s, r from SeatEntity s left join s.reservations r"
+            + " left join fetch r.userEntity"
+            + " order by s.id, r.startDateTime, r.id")
+    Stream<Object[]> streamAllWithReservations();
+
+    /**
+     * Streams all the seats with their non cancelled reservations
+     * starting in the given period from a cursor, one row per
+     * reservation and one row for a seat without them.
+     * The rows of a seat follow each other.
+     *
+     * @param start the start of the period, inclusive
+     * @param end   the end of the period, exclusive
+     * @return rows of the seat entity and the reservation entity or null
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select s, r from SeatEntity s left join s.reservations r"
+            + " on r.cancelled = false"
+            + " and r.startDateTime >= :start and r.startDateTime < :end"
+            + " left join fetch r.userEntity"
+            + " order by s.id, r.startDateTime, r.id")
+    Stream<Object[]> streamAllWithReservationsStartingBetween(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
 }
@@ -0,0 +1,164 @@
+package com.seatapp.repositories;
+
+import com.seatapp.domain.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of users by email. The least recently used user is
+ * removed when the cache is full and a user is reloaded once its
+ * time to live has passed. The cache hands out copies, so a change
+ * to a returned user never reaches the cache without a save.
+ * Every invalidation starts a new generation and a loaded user is only
+ * kept when no invalidation happened while it was loading, so a load
+ * which read the user before a change can not put it back.
+ */
+public class UserCache {
+    /**
+     * The load factor of the map with the users.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * The name of the cache metrics.
+     */
+    private static final String METRIC_NAME = "users.cache";
+
+    /**
+     * The cached users by email, ordered from the least
+     * to the most recently used.
+     */
+    private final Map<String, Entry> users;
+
+    /**
+     * The nanoseconds a user stays in the cache.
+     */
+    private final long timeToLiveNanos;
+
+    /**
+     * Counts the lookups which were found in the cache.
+     */
+    private final Counter hits;
+
+    /**
+     * Counts the lookups which had to load the user.
+     */
+    private final Counter misses;
+
+    /**
+     * The generation of the cache, raised on every invalidation.
+     */
+    private long generation;
+
+    /**
+     * Creates the user cache.
+     *
+     * @param maxSize       the maximum amount of users that are kept
+     * @param timeToLive    how long a user is kept
+     * @param meterRegistry the registry of the hit and miss counters
+     */
+    public UserCache(final int maxSize, final Duration timeToLive,
+                     final MeterRegistry meterRegistry) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.users = new LinkedHashMap<>(maxSize, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = Counter.builder(METRIC_NAME).tag("result", "hit")
+                .description("Users found in the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME).tag("result", "miss")
+                .description("Users loaded from the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gives the cached user or loads it when it is not cached.
+     *
+     * @param email  the email of the user
+     * @param loader loads the user when it is not cached
+     * @param store  if a loaded user may be kept in the cache
+     * @return a copy of the user
+     */
+    public User get(final String email,
+                    final Function<String, User> loader,
+                    final boolean store) {
+        long now = System.nanoTime();
+        long loadGeneration;
+        synchronized (users) {
+            Entry entry = users.get(email);
+            if (entry != null && now - entry.loadedAt() < timeToLiveNanos) {
+                hits.increment();
+                return copy(entry.user());
+            }
+            users.remove(email);
+            loadGeneration = generation;
+        }
+
+        misses.increment();
+        User user = loader.apply(email);
+        if (store) {
+            synchronized (users) {
+                if (loadGeneration == generation) {
+                    users.put(email, new Entry(copy(user), now));
+                }
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Checks if a user is cached.
+     *
+     * @param email the email of the user
+     * @return if a user that has not expired is cached
+     */
+    public boolean contains(final String email) {
+        long now = System.nanoTime();
+        synchronized (users) {
+            Entry entry = users.get(email);
+            return entry != null && now - entry.loadedAt() < timeToLiveNanos;
+        }
+    }
+
+    /**
+     * Removes a user from the cache and starts a new generation,
+     * so the users which are loading are not kept.
+     *
+     * @param email the email of the user
+     */
+    public void invalidate(final String email) {
+        synchronized (users) {
+            users.remove(email);
+            generation++;
+        }
+    }
+
+    /**
+     * Copies a user.
+     *
+     * @param user the user
+     * @return a copy of the user
+     */
+    private static User copy(final User user) {
+        return new User(user.getEmail(), user.getPassword(),
+                user.getFullName(), user.getRole());
+    }
+
+    /**
+     * A cached user.
+     *
+     * @param user     the user
+     * @param loadedAt the nano time on which the user was loaded
+     */
+    private record Entry(User user, long loadedAt) {
+    }
+}
@@ -3,11 +3,22 @@ package com.seatapp.repositories;
 import com.seatapp.domain.User;
 import com.seatapp.entities.UserEntity;
 import com.seatapp.exceptions.EntityNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.persistence.EntityManager;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 public class UserRepositoryImpl implements UserRepository {
@@ -16,13 +27,36 @@ public class UserRepositoryImpl implements UserRepository {
      */
     private final UserRepositoryJpa repository;
 
+    /**
+     * The cache of the users by email.
+     */
+    private final UserCache cache;
+
+    /**
+     * Represents the entity manager.
+     */
+    private final EntityManager entityManager;
+
     /**
      * Creates the userRepoImpl.
-     * @param repository the repository
+     * @param repository    the repository
+     * @param cacheSize     the maximum amount of cached users
+     * @param cacheTtl      the seconds a user stays cached
+     * @param meterRegistry the registry of the cache metrics
+     * @param entityManager the entity manager
      */
     @Autowired
-    public UserRepositoryImpl(final UserRepositoryJpa repository) {
+    public UserRepositoryImpl(final UserRepositoryJpa repository,
+                              @Value("${user.cache.size:1000}")
+                              final int cacheSize,
+                              @Value("${user.cache.ttl.seconds:300}")
+                              final long cacheTtl,
+                              final MeterRegistry meterRegistry,
+                              final EntityManager entityManager) {
         this.repository = repository;
+        this.entityManager = entityManager;
+        this.cache = new UserCache(cacheSize, Duration.ofSeconds(cacheTtl),
+                meterRegistry);
     }
 
     /**
@@ -34,6 +68,7 @@ public class UserRepositoryImpl implements UserRepository {
     @Override
     public User save(final User user) {
         UserEntity userEntity = repository.save(UserEntity.build(user));
+        invalidate(userEntity.getEmail());
 
         return userEntity.toUser();
     }
@@ -45,6 +80,17 @@ public class UserRepositoryImpl implements UserRepository {
      */
     @Override
     public User findByEmail(final String email) {
+        return cache.get(email, this::loadByEmail,
+                !TransactionSynchronizationManager
+                        .isActualTransactionActive());
+    }
+
+    /**
+     * Loads a user by its email from the database.
+     * @param email the email to search the user
+     * @return the found user
+     */
+    private User loadByEmail(final String email) {
         Optional<UserEntity> entityOptional = repository.findByEmail(email);
 
         return entityOptional.map(UserEntity::toUser)
@@ -52,6 +98,25 @@ public class UserRepositoryImpl implements UserRepository {
                         "This user doesn't exist."));
     }
 
+    /**
+     * Removes a user from the cache. Inside a transaction the user is
+     * removed again when it ends, so no other thread keeps a version
+     * which was read before the commit or was rolled back.
+     * @param email the email of the user
+     */
+    private void invalidate(final String email) {
+        cache.invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(final int status) {
+                            cache.invalidate(email);
+                        }
+                    });
+        }
+    }
+
     /**
      * Gets all the users from database.
      *
@@ -65,6 +130,43 @@ public class UserRepositoryImpl implements UserRepository {
                 UserEntity::toUser).toList();
     }
 
+    /**
+     * Gets the users with an email after the given email
+     * ordered by their email.
+     * @param afterEmail the email of the last user before the wanted
+     *                   users, null for the first users
+     * @param limit      the maximum amount of users
+     * @return the users
+     */
+    @Override
+    public List<User> findPage(final String afterEmail, final int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        List<UserEntity> entities = afterEmail == null
+                ? repository.findAllByOrderByEmailAsc(page)
+                : repository.findByEmailGreaterThanOrderByEmailAsc(
+                afterEmail, page);
+
+        return entities.stream().map(
+                UserEntity::toUser).toList();
+    }
+
+    /**
+     * Gives every user to the action while reading them from a cursor.
+     * Each user is detached once it is given,
+     * so the persistence context does not grow with the users.
+     * @param action the action done for each user
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<User> action) {
+        try (Stream<UserEntity> entities = repository.streamAll()) {
+            entities.forEach(entity -> {
+                action.accept(entity.toUser());
+                entityManager.detach(entity);
+            });
+        }
+    }
+
     /**
      * Sees if a user exists with the email.
      * @param email the email to search the user
@@ -72,6 +174,6 @@ public class UserRepositoryImpl implements UserRepository {
      */
     @Override
     public Boolean existsByEmail(final String email) {
-        return repository.existsByEmail(email);
+        return cache.contains(email) || repository.existsByEmail(email);
     }
 }
@@ -1,10 +1,18 @@
 package com.seatapp.repositories;
 
 import com.seatapp.entities.UserEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface UserRepositoryJpa extends
@@ -24,4 +32,32 @@ public interface UserRepositoryJpa extends
      * @return a boolean to check if the user exists
      */
     Boolean existsByEmail(String email);
+
+    /**
+     * Finds the first users ordered by their email.
+     *
+     * @param pageable the maximum amount of users
+     * @return the users
+     */
+    List<UserEntity> findAllByOrderByEmailAsc(Pageable pageable);
+
+    /**
+     * Finds the users with an email after the given email
+     * ordered by their email.
+     *
+     * @param email    the email of the last user before the wanted users
+     * @param pageable the maximum amount of users
+     * @return the users
+     */
+    List<UserEntity> findByEmailGreaterThanOrderByEmailAsc(
+            String email, Pageable pageable);
+
+    /**
+     * Streams all the users from a cursor.
+     *
+     * @return the users
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select u from UserEntity u")
+    Stream<UserEntity> streamAll();
 }
@@ -3,17 +3,23 @@ package com.seatapp.repositories;
 import com.seatapp.domain.Seat;
 import com.seatapp.domain.Building;
 import com.seatapp.domain.Floor;
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.User;
+import com.seatapp.exceptions.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import javax.transaction.Transactional;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
 class BuildingRepositoryTests {
@@ -80,4 +86,81 @@ class BuildingRepositoryTests {
         assertNotNull(foundBuilding);
         assertEquals(savedBuilding.getId(), foundBuilding.getId());
     }
+
+    @Test
+    @Transactional
+    void findBuildingByIdAndFloorIdAndDate() {
+        //Arrange
+        LocalDate date = LocalDate.now().plusDays(1);
+        Seat seat = new Seat("A1", new ArrayList<>(List.of(
+                new Reservation(date.atTime(1, 0), date.atTime(2, 0),
+                        new User("first@test.be", "first", "first",
+                                Role.USER)),
+                new Reservation(date.plusDays(1).atTime(1, 0),
+                        date.plusDays(1).atTime(2, 0),
+                        new User("second@test.be", "second", "second",
+                                Role.USER)))));
+        Building savedBuilding = buildingRepository.save(
+                new Building(1L, "Building 3", List.of(
+                        new Floor(0, "Floor 3", new ArrayList<>(),
+                                List.of(seat)),
+                        new Floor(0, "Floor 4", new ArrayList<>(),
+                                new ArrayList<>()))));
+        long floorId = savedBuilding.getFloors().get(0).getId();
+
+        //Act
+        Building foundBuilding = buildingRepository
+                .findByIdAndFloorIdAndDate(savedBuilding.getId(),
+                        floorId, date);
+
+        //Assert
+        assertEquals("Building 3", foundBuilding.getName());
+        assertEquals(1, foundBuilding.getFloors().size());
+        assertEquals(floorId, foundBuilding.getFloors().get(0).getId());
+        assertEquals(1, foundBuilding.getFloors().get(0).getSeats().get(0)
+                .getReservations().size());
+    }
+
+    @Test
+    @Transactional
+    void findGeometryByIdAndFloorId() {
+        //Arrange
+        LocalDate date = LocalDate.now().plusDays(1);
+        Seat seat = new Seat("A1", new ArrayList<>(List.of(
+                new Reservation(date.atTime(1, 0), date.atTime(2, 0),
+                        new User("geometry@test.be", "geometry",
+                                "geometry", Role.USER)))));
+        Building savedBuilding = buildingRepository.save(
+                new Building(1L, "Building 5", List.of(
+                        new Floor(0, "Floor 5", new ArrayList<>(),
+                                List.of(seat)),
+                        new Floor(0, "Floor 6", new ArrayList<>(),
+                                new ArrayList<>()))));
+        long floorId = savedBuilding.getFloors().get(0).getId();
+
+        //Act
+        Building foundBuilding = buildingRepository
+                .findGeometryByIdAndFloorId(savedBuilding.getId(), floorId);
+
+        //Assert
+        assertEquals("Building 5", foundBuilding.getName());
+        assertEquals(1, foundBuilding.getFloors().size());
+        Seat foundSeat = foundBuilding.getFloors().get(0).getSeats().get(0);
+        assertEquals("A1", foundSeat.getName());
+        assertEquals(0, foundSeat.getReservations().size());
+    }
+
+    @Test
+    @Transactional
+    void findBuildingByIdAndInvalidFloorId() {
+        //Arrange
+        Building savedBuilding = buildingRepository.save(validBuilding);
+        Long buildingId = savedBuilding.getId();
+        LocalDate date = LocalDate.now();
+
+        //Act & Assert
+        assertThrows(EntityNotFoundException.class,
+                () -> buildingRepository.findByIdAndFloorIdAndDate(
+                        buildingId, -1L, date));
+    }
 }
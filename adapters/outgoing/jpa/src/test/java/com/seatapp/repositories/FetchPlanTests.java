@@ -0,0 +1,240 @@
+package com.seatapp.repositories;
+
+import com.seatapp.domain.Building;
+import com.seatapp.domain.Floor;
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Transactional;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.default_batch_fetch_size=100",
+        "spring.jpa.properties.hibernate.batch_fetch_style=dynamic"})
+class FetchPlanTests {
+    /**
+     * The amount of floors in the test building.
+     */
+    private static final int FLOORS = 3;
+
+    /**
+     * The amount of seats on each floor.
+     */
+    private static final int SEATS_PER_FLOOR = 5;
+
+    /**
+     * The amount of reservations on each seat.
+     */
+    private static final int RESERVATIONS_PER_SEAT = 4;
+
+    /**
+     * The maximum amount of statements to load all the buildings.
+     * One for the buildings with their floors and one batch each for
+     * the points, the seats, the reservations and the users.
+     */
+    private static final int MAX_BUILDING_STATEMENTS = 5;
+
+    /**
+     * The maximum amount of statements to load a floor plan.
+     * One each for the building name, the floor with its seats,
+     * the points and the reservations of the day with their users.
+     */
+    private static final int MAX_FLOOR_PLAN_STATEMENTS = 4;
+
+    /**
+     * The maximum amount of statements to load the geometry of a floor.
+     * One each for the building name, the floor with its seats
+     * and the points, no reservations are read.
+     */
+    private static final int MAX_GEOMETRY_STATEMENTS = 3;
+
+    /**
+     * The maximum amount of statements to load a floor.
+     * One for the floor with its seats and one batch each for
+     * the points, the reservations and the users.
+     */
+    private static final int MAX_FLOOR_STATEMENTS = 4;
+
+    /**
+     * The building repository.
+     */
+    @Autowired
+    private BuildingRepositoryImpl buildingRepository;
+
+    /**
+     * The floor repository.
+     */
+    @Autowired
+    private FloorRepositoryImpl floorRepository;
+
+    /**
+     * The seat repository.
+     */
+    @Autowired
+    private SeatRepositoryImpl seatRepository;
+
+    /**
+     * The entity manager of the test transaction.
+     */
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * The entity manager factory.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * The hibernate statistics.
+     */
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    @Transactional
+    void findAllBuildingsUsesFixedAmountOfStatements() {
+        //Arrange
+        buildingRepository.deleteAll();
+        saveBuilding();
+        clearSession();
+
+        //Act
+        List<Building> buildings = buildingRepository.findAll();
+
+        //Assert
+        assertEquals(FLOORS, buildings.get(0).getFloors().size());
+        assertTrue(statistics.getPrepareStatementCount()
+                <= MAX_BUILDING_STATEMENTS);
+    }
+
+    @Test
+    @Transactional
+    void findFloorPlanUsesFixedAmountOfStatements() {
+        //Arrange
+        Building building = saveBuilding();
+        long floorId = building.getFloors().get(0).getId();
+        clearSession();
+
+        //Act
+        Building floorPlan = buildingRepository.findByIdAndFloorIdAndDate(
+                building.getId(), floorId, LocalDate.now().plusDays(1));
+
+        //Assert
+        assertEquals(SEATS_PER_FLOOR,
+                floorPlan.getFloors().get(0).getSeats().size());
+        assertTrue(statistics.getPrepareStatementCount()
+                <= MAX_FLOOR_PLAN_STATEMENTS);
+    }
+
+    @Test
+    @Transactional
+    void findGeometryDoesNotReadReservations() {
+        //Arrange
+        Building building = saveBuilding();
+        long floorId = building.getFloors().get(0).getId();
+        clearSession();
+
+        //Act
+        Building geometry = buildingRepository.findGeometryByIdAndFloorId(
+                building.getId(), floorId);
+
+        //Assert
+        assertEquals(SEATS_PER_FLOOR,
+                geometry.getFloors().get(0).getSeats().size());
+        assertTrue(statistics.getPrepareStatementCount()
+                <= MAX_GEOMETRY_STATEMENTS);
+    }
+
+    @Test
+    @Transactional
+    void findFloorUsesFixedAmountOfStatements() {
+        //Arrange
+        Building building = saveBuilding();
+        long floorId = building.getFloors().get(0).getId();
+        clearSession();
+
+        //Act
+        Floor floor = floorRepository.findById(floorId);
+
+        //Assert
+        assertEquals(SEATS_PER_FLOOR, floor.getSeats().size());
+        assertTrue(statistics.getPrepareStatementCount()
+                <= MAX_FLOOR_STATEMENTS);
+    }
+
+    @Test
+    @Transactional
+    void findSeatByIdUsesOneStatement() {
+        //Arrange
+        Building building = saveBuilding();
+        long seatId = building.getFloors().get(0).getSeats().get(0).getId();
+        clearSession();
+
+        //Act
+        Seat seat = seatRepository.findById(seatId);
+
+        //Assert
+        assertEquals(RESERVATIONS_PER_SEAT, seat.getReservations().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Saves a building with reservations on every seat.
+     *
+     * @return the saved building
+     */
+    private Building saveBuilding() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        List<Floor> floors = new ArrayList<>();
+        int user = 0;
+        for (int f = 0; f < FLOORS; f++) {
+            List<Seat> seats = new ArrayList<>();
+            for (int s = 0; s < SEATS_PER_FLOOR; s++) {
+                List<Reservation> reservations = new ArrayList<>();
+                for (int r = 0; r < RESERVATIONS_PER_SEAT; r++) {
+                    String email = "user" + user++ + "@test.be";
+                    reservations.add(new Reservation(date.atTime(r, 0),
+                            date.atTime(r, 1),
+                            new User(email, email, email, Role.USER)));
+                }
+                seats.add(new Seat("Seat " + s, reservations));
+            }
+            floors.add(new Floor(0, "Floor " + f, new ArrayList<>(),
+                    seats));
+        }
+        return buildingRepository.save(new Building(null, "Building",
+                floors));
+    }
+
+    /**
+     * Writes the pending changes and empties the persistence context
+     * so the next lookup goes to the database.
+     */
+    private void clearSession() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+}
@@ -1,15 +1,21 @@
 package com.seatapp.repositories;
 
 import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.SeatReservation;
 import com.seatapp.domain.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -21,6 +27,24 @@ class ReservationRepositoryTests {
     @Autowired
     private ReservationRepositoryImpl reservationRepository;
 
+    /**
+     * The seat repository.
+     */
+    @Autowired
+    private SeatRepositoryImpl seatRepository;
+
+    /**
+     * The user repository.
+     */
+    @Autowired
+    private UserRepositoryImpl userRepository;
+
+    /**
+     * The entity manager of the test transaction.
+     */
+    @Autowired
+    private EntityManager entityManager;
+
     /**
      * Represent the hours that are used in a test.
      */
@@ -72,4 +96,179 @@ class ReservationRepositoryTests {
         assertEquals(entity.getStartDateTime(),
                 reservation.getStartDateTime());
     }
+
+    @Test
+    @Transactional
+    void findAllByUserFrom() {
+        // Arrange
+        LocalDate date = LocalDate.now().plusDays(1);
+        seatRepository.save(new Seat("TestSeat", new ArrayList<>(List.of(
+                new Reservation(date.atTime(HOURS3, 0),
+                        date.atTime(HOURS3, 1),
+                        new User("other@test.be", "other",
+                                "other", Role.USER)),
+                new Reservation(date.atTime(2, 0),
+                        date.atTime(HOURS3, 0),
+                        new User("user@test.be", "user",
+                                "user", Role.USER))))));
+
+        //Act
+        List<SeatReservation> reservations = reservationRepository
+                .findAllByUserFrom("user@test.be", date.atStartOfDay());
+
+        //Assert
+        assertEquals(1, reservations.size());
+        assertEquals("TestSeat", reservations.get(0).getSeatName());
+        assertEquals(date.atTime(2, 0), reservations.get(0)
+                .getReservation().getStartDateTime());
+    }
+
+    @Test
+    @Transactional
+    void findAllByUserFromIsInStartTimeOrder() {
+        // Arrange
+        LocalDate date = LocalDate.now().plusDays(1);
+        User user = userRepository.save(new User("order@test.be",
+                "order", "order", Role.USER));
+        Long firstSeatId = seatRepository.save(new Seat("FirstSeat",
+                new ArrayList<>())).getId();
+        Long secondSeatId = seatRepository.save(new Seat("SecondSeat",
+                new ArrayList<>())).getId();
+        for (int hour : List.of(HOURS3, 1)) {
+            reservationRepository.insertForSeat(firstSeatId,
+                    new Reservation(date.atTime(hour, 0),
+                            date.atTime(hour, 1), user));
+        }
+        reservationRepository.insertForSeat(secondSeatId, new Reservation(
+                date.atTime(2, 0), date.atTime(2, 1), user));
+
+        //Act
+        List<SeatReservation> reservations = reservationRepository
+                .findAllByUserFrom("order@test.be", date.atStartOfDay());
+
+        //Assert
+        assertEquals(List.of(date.atTime(1, 0), date.atTime(2, 0),
+                        date.atTime(HOURS3, 0)),
+                reservations.stream().map(seatReservation ->
+                        seatReservation.getReservation()
+                                .getStartDateTime()).toList());
+    }
+
+    @Test
+    @Transactional
+    void findPageByUserFrom() {
+        // Arrange
+        LocalDate date = LocalDate.now().plusDays(1);
+        User user = userRepository.save(new User("page@test.be",
+                "page", "page", Role.USER));
+        Long seatId = seatRepository.save(new Seat("TestSeat",
+                new ArrayList<>())).getId();
+        for (int hour : List.of(2, 1, HOURS3)) {
+            reservationRepository.insertForSeat(seatId, new Reservation(
+                    date.atTime(hour, 0), date.atTime(hour, 1), user));
+        }
+        List<SeatReservation> firstPage = reservationRepository
+                .findPageByUserFrom("page@test.be", date.atStartOfDay(),
+                        null, null, 2);
+        Reservation last = firstPage.get(1).getReservation();
+
+        //Act
+        List<SeatReservation> secondPage = reservationRepository
+                .findPageByUserFrom("page@test.be", date.atStartOfDay(),
+                        last.getStartDateTime(), last.getId(), 2);
+
+        //Assert
+        assertEquals(2, firstPage.size());
+        assertEquals(date.atTime(1, 0), firstPage.get(0)
+                .getReservation().getStartDateTime());
+        assertEquals(date.atTime(2, 0), last.getStartDateTime());
+        assertEquals(1, secondPage.size());
+        assertEquals(date.atTime(HOURS3, 0), secondPage.get(0)
+                .getReservation().getStartDateTime());
+    }
+
+    @Test
+    @Transactional
+    void insertForSeat() {
+        // Arrange
+        LocalDate date = LocalDate.now().plusDays(1);
+        User user = userRepository.save(new User("insert@test.be",
+                "insert", "insert", Role.USER));
+        Seat seat = seatRepository.save(new Seat("TestSeat",
+                new ArrayList<>()));
+
+        //Act
+        Reservation reservation = reservationRepository.insertForSeat(
+                seat.getId(), new Reservation(date.atTime(1, 0),
+                        date.atTime(2, 0), user));
+        entityManager.flush();
+        entityManager.clear();
+
+        //Assert
+        Seat foundSeat = seatRepository.findById(seat.getId());
+        assertEquals(1, foundSeat.getReservations().size());
+        assertEquals(reservation.getId(),
+                foundSeat.getReservations().get(0).getId());
+        assertEquals(1, seatRepository.findByIdWithReservationsEndingAfter(
+                seat.getId(), date.atStartOfDay())
+                .getReservations().size());
+        assertEquals(0, seatRepository.findByIdWithReservationsEndingAfter(
+                seat.getId(), date.atTime(2, 0))
+                .getReservations().size());
+    }
+
+    @Test
+    @Transactional
+    void findSeatIdById() {
+        // Arrange
+        LocalDate date = LocalDate.now().plusDays(1);
+        User user = userRepository.save(new User("seatid@test.be",
+                "seatid", "seatid", Role.USER));
+        Seat seat = seatRepository.save(new Seat("TestSeat",
+                new ArrayList<>()));
+        Reservation reservation = reservationRepository.insertForSeat(
+                seat.getId(), new Reservation(date.atTime(1, 0),
+                        date.atTime(2, 0), user));
+        entityManager.flush();
+        entityManager.clear();
+
+        //Act
+        Long seatId = reservationRepository.findSeatIdById(
+                reservation.getId());
+
+        //Assert
+        assertEquals(seat.getId(), seatId);
+    }
+
+    @Test
+    @Transactional
+    void cancelAllNotCheckedInGivesTheCancelledIds() {
+        // Arrange
+        LocalDate date = LocalDate.now().plusDays(1);
+        User user = userRepository.save(new User("noshow@test.be",
+                "noshow", "noshow", Role.USER));
+        Seat seat = seatRepository.save(new Seat("TestSeat",
+                new ArrayList<>()));
+        Reservation noShow = reservationRepository.insertForSeat(
+                seat.getId(), new Reservation(date.atTime(1, 0),
+                        date.atTime(2, 0), user));
+        Reservation checkedIn = reservationRepository.insertForSeat(
+                seat.getId(), new Reservation(date.atTime(2, 0),
+                        date.atTime(HOURS3, 0), user));
+        entityManager.flush();
+        checkedIn.setCheckedIn(true);
+        reservationRepository.save(checkedIn);
+        entityManager.flush();
+        entityManager.clear();
+
+        //Act
+        List<Long> cancelledIds = reservationRepository
+                .cancelAllNotCheckedIn(List.of(noShow.getId(),
+                        checkedIn.getId()));
+
+        //Assert
+        assertEquals(List.of(noShow.getId()), cancelledIds);
+        assertEquals(List.of(), reservationRepository
+                .cancelAllNotCheckedIn(List.of(noShow.getId())));
+    }
 }
@@ -16,9 +16,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import javax.transaction.Transactional;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @SpringBootTest
 class SeatRepositoryTests {
@@ -75,6 +77,50 @@ class SeatRepositoryTests {
                 () -> seatRepository.findById(floor.getSeats().get(0).getId()));
     }
 
+    @Test
+    @Transactional
+    void saveAllSeatsOnFloor() {
+        //Arrange
+        Floor floor = floorRepository.save(new Floor(1L, "", new ArrayList<>(),
+                List.of(new Seat("Existing", new ArrayList<>()))));
+
+        //Act
+        List<Seat> savedSeats = seatRepository.saveAllOnFloor(floor.getId(),
+                List.of(new Seat("A1"), new Seat("A2")));
+
+        //Assert
+        assertEquals(2, savedSeats.size());
+        assertNotNull(savedSeats.get(0).getId());
+        assertEquals(List.of("A1", "A2", "Existing"),
+                floorRepository.findById(floor.getId()).getSeats().stream()
+                        .map(Seat::getName).sorted().toList());
+    }
+
+    @Test
+    @Transactional
+    void deleteSeatKeepsOtherSeatsOfFloor() {
+        //Arrange
+        LocalDate date = LocalDate.now().plusDays(1);
+        Floor floor = floorRepository.save(new Floor(1L, "", new ArrayList<>(),
+                List.of(new Seat("Deleted", new ArrayList<>(List.of(
+                                new Reservation(date.atTime(1, 0),
+                                        date.atTime(1, 1),
+                                        new User("test4", "test4", "test4",
+                                                Role.USER))))),
+                        new Seat("Kept", new ArrayList<>()))));
+        Long deletedId = floor.getSeats().get(0).getId();
+
+        //Act
+        seatRepository.deleteById(deletedId);
+
+        //Assert
+        Floor foundFloor = floorRepository.findById(floor.getId());
+        assertEquals(1, foundFloor.getSeats().size());
+        assertEquals("Kept", foundFloor.getSeats().get(0).getName());
+        assertThrows(EntityNotFoundException.class,
+                () -> seatRepository.findById(deletedId));
+    }
+
     @Test
     @Transactional
     void deleteSeatWithInvalidId() {
@@ -98,6 +144,65 @@ class SeatRepositoryTests {
         assertEquals("Test", foundSeats.get(1).getName());
     }
 
+    @Test
+    @Transactional
+    void findAllSeatsWithReservationsByDate() {
+        //Arrange
+        LocalDate date = LocalDate.now().plusDays(1);
+        Reservation cancelled = new Reservation(date.atTime(2, 0),
+                date.atTime(2, 1), new User("test1", "test1", "test1",
+                Role.USER));
+        cancelled.setCancelled(true);
+        seatRepository.save(new Seat("TestSeat", new ArrayList<>(List.of(
+                new Reservation(date.atTime(1, 0), date.atTime(1, 1),
+                        new User("test2", "test2", "test2", Role.USER)),
+                new Reservation(date.plusDays(1).atTime(1, 0),
+                        date.plusDays(1).atTime(1, 1),
+                        new User("test3", "test3", "test3", Role.USER)),
+                cancelled))));
+        seatRepository.save(new Seat("Test"));
+
+        //Act
+        List<Seat> foundSeats =
+                seatRepository.findAllWithReservationsByDate(date);
+
+        //Assert
+        assertEquals(2, foundSeats.size());
+        assertEquals(1, foundSeats.get(0).getReservations().size());
+        assertEquals(date, foundSeats.get(0).getReservations().get(0)
+                .getStartDateTime().toLocalDate());
+        assertEquals(0, foundSeats.get(1).getReservations().size());
+    }
+
+    @Test
+    @Transactional
+    void forEachSeatWithReservationsByDate() {
+        //Arrange
+        LocalDate date = LocalDate.now().plusDays(1);
+        seatRepository.save(new Seat("TestSeat", new ArrayList<>(List.of(
+                new Reservation(date.atTime(2, 0), date.atTime(2, 1),
+                        new User("test1", "test1", "test1", Role.USER)),
+                new Reservation(date.atTime(1, 0), date.atTime(1, 1),
+                        new User("test2", "test2", "test2", Role.USER)),
+                new Reservation(date.plusDays(1).atTime(1, 0),
+                        date.plusDays(1).atTime(1, 1),
+                        new User("test3", "test3", "test3", Role.USER))))));
+        seatRepository.save(new Seat("Test"));
+        List<Seat> foundSeats = new ArrayList<>();
+        Consumer<Seat> action = foundSeats::add;
+
+        //Act
+        seatRepository.forEachWithReservationsByDate(date, action);
+
+        //Assert
+        assertEquals(2, foundSeats.size());
+        assertEquals("TestSeat", foundSeats.get(0).getName());
+        assertEquals(2, foundSeats.get(0).getReservations().size());
+        assertEquals(date.atTime(1, 0), foundSeats.get(0).getReservations()
+                .get(0).getStartDateTime());
+        assertEquals(0, foundSeats.get(1).getReservations().size());
+    }
+
     @Test
     @Transactional
     void findSeatById() {
@@ -3,6 +3,7 @@ package com.seatapp.repositories;
 import com.seatapp.domain.Role;
 import com.seatapp.domain.User;
 import com.seatapp.exceptions.EntityNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -12,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import javax.transaction.Transactional;
+import java.time.Duration;
 import java.util.List;
 
 @SpringBootTest
@@ -22,12 +24,34 @@ class UserRepositoryTests {
     private static final User VALID_USER = new User("Test@test.be",
             "TestUser", "TestUser", Role.ADMIN);
 
+    /**
+     * The maximum amount of users in the cache of the tests.
+     */
+    private static final int CACHE_SIZE = 10;
+
+    /**
+     * The minutes a user stays in the cache of the tests.
+     */
+    private static final int CACHE_MINUTES = 5;
+
     /**
      * The userRepositoryImplementation.
      */
     @Autowired
     private UserRepositoryImpl userRepository;
 
+    /**
+     * The jpa repository of the users.
+     */
+    @Autowired
+    private UserRepositoryJpa userRepositoryJpa;
+
+    /**
+     * The registry of the cache metrics.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     @Transactional
     void saveUser() {
@@ -99,4 +123,55 @@ class UserRepositoryTests {
         //Assert
         assertEquals(2, foundUser.size());
     }
+
+    @Test
+    void findByEmailIsCachedUntilSaved() {
+        //Arrange
+        String email = "cache@test.be";
+        userRepository.save(new User(email, "Cache", "Cache", Role.USER));
+        double hits = cacheCount("hit");
+
+        try {
+            //Act
+            userRepository.findByEmail(email);
+            User cachedUser = userRepository.findByEmail(email);
+            cachedUser.setRole(Role.ADMIN);
+            userRepository.save(cachedUser);
+            User changedUser = userRepository.findByEmail(email);
+
+            //Assert
+            assertEquals(hits + 1, cacheCount("hit"));
+            assertEquals(Role.ADMIN, changedUser.getRole());
+        } finally {
+            userRepositoryJpa.deleteById(email);
+        }
+    }
+
+    @Test
+    void userLoadedBeforeAnInvalidationIsNotCached() {
+        //Arrange
+        UserCache cache = new UserCache(CACHE_SIZE,
+                Duration.ofMinutes(CACHE_MINUTES), meterRegistry);
+        String email = VALID_USER.getEmail();
+
+        //Act
+        cache.get(email, loaded -> {
+            cache.invalidate(email);
+            return VALID_USER;
+        }, true);
+
+        //Assert
+        assertFalse(cache.contains(email));
+    }
+
+    /**
+     * Gives the count of the user cache lookups with a result.
+     *
+     * @param result hit or miss
+     * @return the count
+     */
+    private double cacheCount(final String result) {
+        return meterRegistry.get("users.cache").tag("result", result)
+                .counter().count();
+    }
 }
@@ -0,0 +1,92 @@
+package com.seatapp.benchmarks;
+
+import com.seatapp.controllers.dtos.SeatDto;
+import com.seatapp.controllers.dtos.UserReservationDto;
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.SeatReservation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of seats and reservations to their dtos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoBenchmark {
+    /**
+     * The amount of reservations on the seat.
+     */
+    @Param({"10", "1000", "100000"})
+    private int reservationsPerSeat;
+
+    /**
+     * The seat with its reservations.
+     */
+    private Seat seat;
+
+    /**
+     * The reservations with the seat on which they are placed.
+     */
+    private List<SeatReservation> seatReservations;
+
+    /**
+     * The start of the day for which the status is asked.
+     */
+    private LocalDateTime dayStart;
+
+    /**
+     * The end of the day for which the status is asked.
+     */
+    private LocalDateTime dayEnd;
+
+    /**
+     * Creates the seat and its reservations once for each amount.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Reservation> reservations =
+                Reservations.consecutive(reservationsPerSeat);
+        seat = new Seat("Bench", reservations);
+        seat.setId(1L);
+        seatReservations = reservations.stream()
+                .map(r -> new SeatReservation(seat.getId(),
+                        seat.getName(), r))
+                .toList();
+        dayStart = Reservations.firstStart();
+        dayEnd = dayStart.plusDays(1);
+    }
+
+    /**
+     * Converts a seat to its dto, which determines the status
+     * of the seat for a day.
+     *
+     * @return the seat dto
+     */
+    @Benchmark
+    public SeatDto seatDtoWithStatus() {
+        return SeatDto.build(seat, dayStart, dayEnd);
+    }
+
+    /**
+     * Converts the reservations of a user to their dtos.
+     *
+     * @return the reservation dtos
+     */
+    @Benchmark
+    public List<UserReservationDto> userReservationDtoList() {
+        return UserReservationDto.buildList(seatReservations);
+    }
+}
@@ -0,0 +1,103 @@
+package com.seatapp.benchmarks;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.ReservationIndex;
+import com.seatapp.domain.Seat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the checks done when a reservation is placed on a seat.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationBenchmark {
+    /**
+     * The amount of reservations already on the seat.
+     */
+    @Param({"10", "1000", "100000"})
+    private int reservationsPerSeat;
+
+    /**
+     * The reservations already on the seat.
+     */
+    private List<Reservation> reservations;
+
+    /**
+     * The index built from the reservations already on the seat.
+     */
+    private ReservationIndex index;
+
+    /**
+     * The reservation which is placed.
+     */
+    private Reservation newReservation;
+
+    /**
+     * A fresh seat for every call of addReservation.
+     */
+    private Seat seat;
+
+    /**
+     * Creates the reservations once for each amount.
+     */
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        reservations = Reservations.consecutive(reservationsPerSeat);
+        index = new ReservationIndex();
+        index.rebuild(reservations);
+        newReservation = Reservations.after(reservationsPerSeat);
+    }
+
+    /**
+     * Creates a seat which has not yet built its index,
+     * like a seat which was just loaded from the database.
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        seat = new Seat("Bench", new ArrayList<>(reservations));
+    }
+
+    /**
+     * Checks a new reservation against the list of reservations.
+     *
+     * @return if the reservation is valid
+     */
+    @Benchmark
+    public boolean isValidNewReservationList() {
+        return newReservation.isValidNewReservation(reservations);
+    }
+
+    /**
+     * Checks a new reservation against the index of reservations.
+     *
+     * @return if the reservation is valid
+     */
+    @Benchmark
+    public boolean isValidNewReservationIndex() {
+        return newReservation.isValidNewReservation(index);
+    }
+
+    /**
+     * Adds a new reservation to a seat which was just loaded.
+     *
+     * @return the seat with the new reservation
+     */
+    @Benchmark
+    public Seat addReservation() {
+        seat.addReservation(newReservation);
+        return seat;
+    }
+}
@@ -0,0 +1,147 @@
+package com.seatapp.benchmarks;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.entities.PooledSequenceGenerator;
+import com.seatapp.entities.ReservationEntity;
+import com.seatapp.entities.UserEntity;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the insert throughput of reservations in an in-memory
+ * H2 database, with one sequence call per row against pooled ids.
+ * The statements counter shows the round trips of each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReservationInsertBenchmark {
+    /**
+     * The amount of reservations inserted in one transaction.
+     */
+    private static final int RESERVATIONS_PER_INVOCATION = 500;
+
+    /**
+     * The amount of inserts sent in one jdbc batch.
+     */
+    private static final int BATCH_SIZE = 50;
+
+    /**
+     * The amount of ids taken from one sequence call.
+     */
+    @Param({"1", "50"})
+    private int allocationSize;
+
+    /**
+     * The session factory of the database.
+     */
+    private SessionFactory sessionFactory;
+
+    /**
+     * The statistics of the session factory.
+     */
+    private Statistics statistics;
+
+    /**
+     * The reservations inserted in each invocation.
+     */
+    private List<Reservation> reservations;
+
+    /**
+     * Counts the statements sent to the database.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+        /**
+         * The amount of prepared statements, sequence calls included.
+         */
+        public long statements;
+    }
+
+    /**
+     * Creates the database with the user of the reservations.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.URL, "jdbc:h2:mem:insert"
+                        + allocationSize + ";DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.USER, "sa")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE,
+                        BATCH_SIZE)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .applySetting(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING,
+                        allocationSize)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(UserEntity.class)
+                .addAnnotatedClass(ReservationEntity.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+        reservations = Reservations.consecutive(RESERVATIONS_PER_INVOCATION);
+
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.persist(UserEntity.build(Reservations.USER));
+            transaction.commit();
+        }
+    }
+
+    /**
+     * Closes the database.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    /**
+     * Inserts the reservations in one transaction.
+     *
+     * @param roundTrips the counter of the statements
+     */
+    @Benchmark
+    @OperationsPerInvocation(RESERVATIONS_PER_INVOCATION)
+    public void insertReservations(final RoundTrips roundTrips) {
+        long statementsBefore = statistics.getPrepareStatementCount();
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            UserEntity user = session.getReference(UserEntity.class,
+                    Reservations.USER.getEmail());
+            for (Reservation reservation : reservations) {
+                ReservationEntity entity =
+                        ReservationEntity.build(reservation);
+                entity.setUserEntity(user);
+                session.persist(entity);
+            }
+            transaction.commit();
+        }
+        roundTrips.statements +=
+                statistics.getPrepareStatementCount() - statementsBefore;
+    }
+}
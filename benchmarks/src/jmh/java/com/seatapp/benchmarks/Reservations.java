@@ -0,0 +1,65 @@
+package com.seatapp.benchmarks;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the reservations used as the input of the benchmarks.
+ */
+final class Reservations {
+    /**
+     * The user who places all the reservations.
+     */
+    static final User USER = new User("bench@test.be", "bench",
+            "Bench", Role.USER);
+
+    private Reservations() {
+    }
+
+    /**
+     * Gives the first hour on which the reservations start.
+     * This is tomorrow so the reservations are never in the past.
+     *
+     * @return the start of the first reservation
+     */
+    static LocalDateTime firstStart() {
+        return LocalDate.now().plusDays(1).atStartOfDay();
+    }
+
+    /**
+     * Creates reservations of one hour which follow each other
+     * without overlapping, starting from {@link #firstStart()}.
+     *
+     * @param amount the amount of reservations
+     * @return the reservations in chronological order
+     */
+    static List<Reservation> consecutive(final int amount) {
+        LocalDateTime start = firstStart();
+        List<Reservation> reservations = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            Reservation reservation = new Reservation(start.plusHours(i),
+                    start.plusHours(i + 1L), USER);
+            reservation.setId((long) i);
+            reservations.add(reservation);
+        }
+        return reservations;
+    }
+
+    /**
+     * Creates a reservation of one hour which starts
+     * right after the last of the consecutive reservations.
+     *
+     * @param amount the amount of consecutive reservations
+     * @return a reservation which overlaps none of them
+     */
+    static Reservation after(final int amount) {
+        LocalDateTime start = firstStart().plusHours(amount);
+        return new Reservation(start, start.plusHours(1), USER);
+    }
+}
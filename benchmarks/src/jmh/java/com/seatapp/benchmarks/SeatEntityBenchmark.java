@@ -0,0 +1,54 @@
+package com.seatapp.benchmarks;
+
+import com.seatapp.domain.Seat;
+import com.seatapp.entities.SeatEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mapping between a seat and its entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeatEntityBenchmark {
+    /**
+     * The amount of reservations on the seat.
+     */
+    @Param({"10", "1000", "100000"})
+    private int reservationsPerSeat;
+
+    /**
+     * The seat with its reservations.
+     */
+    private Seat seat;
+
+    /**
+     * Creates the seat once for each amount.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        seat = new Seat("Bench",
+                Reservations.consecutive(reservationsPerSeat));
+        seat.setId(1L);
+    }
+
+    /**
+     * Converts a seat to its entity and back.
+     *
+     * @return the seat after the round trip
+     */
+    @Benchmark
+    public Seat roundTrip() {
+        return SeatEntity.build(seat).toSeat();
+    }
+}
@@ -0,0 +1,170 @@
+package com.seatapp.benchmarks;
+
+import com.seatapp.services.SeatLockServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the throughput of the seat lock when every thread books
+ * its own seat and when all threads book the same seat.
+ * Distinct seats may still share a stripe of the lock,
+ * as they would in the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeatLockBenchmark {
+    /**
+     * The amount of threads of the contended runs.
+     */
+    private static final int FEW_THREADS = 4;
+
+    /**
+     * The amount of threads of the heavily contended runs.
+     */
+    private static final int MANY_THREADS = 16;
+
+    /**
+     * The id of the seat booked by all threads.
+     */
+    private static final long SHARED_SEAT_ID = 1L;
+
+    /**
+     * The work done while the lock is held, in blackhole tokens.
+     */
+    @Param({"0", "100"})
+    private int workTokens;
+
+    /**
+     * The lock service under test.
+     */
+    private SeatLockServiceImpl seatLockService;
+
+    /**
+     * Gives each thread its own seat id.
+     */
+    private final AtomicLong nextSeatId = new AtomicLong(SHARED_SEAT_ID);
+
+    /**
+     * The seat of one thread.
+     */
+    @State(Scope.Thread)
+    public static class OwnSeat {
+        /**
+         * The id of the seat which only this thread books.
+         */
+        private long seatId;
+
+        /**
+         * Takes a seat id no other thread has.
+         *
+         * @param benchmark the benchmark which hands out the ids
+         */
+        @Setup(Level.Trial)
+        public void setup(final SeatLockBenchmark benchmark) {
+            seatId = benchmark.nextSeatId.incrementAndGet();
+        }
+    }
+
+    /**
+     * Creates the lock service once for each amount of work.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        seatLockService = new SeatLockServiceImpl();
+    }
+
+    /**
+     * Locks the seat and does the work.
+     *
+     * @param seatId the id of the seat to lock
+     * @return the seat id, so the call is not removed
+     */
+    private long lockSeat(final long seatId) {
+        return seatLockService.withSeatLock(seatId, () -> {
+            Blackhole.consumeCPU(workTokens);
+            return seatId;
+        });
+    }
+
+    /**
+     * Locks the own seat from a single thread.
+     *
+     * @param seat the seat of the thread
+     * @return the seat id
+     */
+    @Benchmark
+    @Threads(1)
+    public long distinctSeats1Thread(final OwnSeat seat) {
+        return lockSeat(seat.seatId);
+    }
+
+    /**
+     * Locks the own seat of each of a few threads.
+     *
+     * @param seat the seat of the thread
+     * @return the seat id
+     */
+    @Benchmark
+    @Threads(FEW_THREADS)
+    public long distinctSeatsFewThreads(final OwnSeat seat) {
+        return lockSeat(seat.seatId);
+    }
+
+    /**
+     * Locks the own seat of each of many threads.
+     *
+     * @param seat the seat of the thread
+     * @return the seat id
+     */
+    @Benchmark
+    @Threads(MANY_THREADS)
+    public long distinctSeatsManyThreads(final OwnSeat seat) {
+        return lockSeat(seat.seatId);
+    }
+
+    /**
+     * Locks the shared seat from a single thread.
+     *
+     * @return the seat id
+     */
+    @Benchmark
+    @Threads(1)
+    public long sameSeat1Thread() {
+        return lockSeat(SHARED_SEAT_ID);
+    }
+
+    /**
+     * Locks the shared seat from a few threads.
+     *
+     * @return the seat id
+     */
+    @Benchmark
+    @Threads(FEW_THREADS)
+    public long sameSeatFewThreads() {
+        return lockSeat(SHARED_SEAT_ID);
+    }
+
+    /**
+     * Locks the shared seat from many threads.
+     *
+     * @return the seat id
+     */
+    @Benchmark
+    @Threads(MANY_THREADS)
+    public long sameSeatManyThreads() {
+        return lockSeat(SHARED_SEAT_ID);
+    }
+}
@@ -0,0 +1,37 @@
+package com.seatapp.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+public class DayOccupancy {
+    /**
+     * Represents the day.
+     */
+    private final LocalDate date;
+
+    /**
+     * Represents the occupancy of the seats during the day by seat id.
+     */
+    private final Map<Long, SlotOccupancy> seats;
+
+    /**
+     * Gives the occupancy of a seat during the day. A seat which is not
+     * known yet gets the occupancy of its own reservations.
+     *
+     * @param seat the seat with its reservations of the day
+     * @return the occupancy of the seat
+     */
+    public SlotOccupancy getOfSeat(final Seat seat) {
+        SlotOccupancy occupancy = seat.getId() == null
+                ? null
+                : seats.get(seat.getId());
+        return occupancy == null
+                ? SlotOccupancy.ofDay(seat.getReservations(), date)
+                : occupancy;
+    }
+}
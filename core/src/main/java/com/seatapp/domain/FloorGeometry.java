@@ -0,0 +1,20 @@
+package com.seatapp.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class FloorGeometry {
+    /**
+     * Represents the version of the floor plans
+     * from which the geometry was read.
+     */
+    private final long version;
+
+    /**
+     * Represents the building with only the selected floor,
+     * its walls and its seats without reservations.
+     */
+    private final Building building;
+}
@@ -0,0 +1,39 @@
+package com.seatapp.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * A seat which is free during a searched period,
+ * with the free time around that period.
+ */
+@Getter
+@AllArgsConstructor
+public class FreeSeat {
+    /**
+     * Represents the free seat.
+     */
+    private final Seat seat;
+
+    /**
+     * Represents the start of the free time around the period.
+     */
+    private final LocalDateTime freeFrom;
+
+    /**
+     * Represents the end of the free time around the period.
+     */
+    private final LocalDateTime freeUntil;
+
+    /**
+     * Gives the length of the free time around the period.
+     *
+     * @return the length of the free time
+     */
+    public Duration getFreeTime() {
+        return Duration.between(freeFrom, freeUntil);
+    }
+}
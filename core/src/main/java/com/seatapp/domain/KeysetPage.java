@@ -0,0 +1,96 @@
+package com.seatapp.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of items read after a key instead of after an offset.
+ * The cursor of the next page holds the key of the last item,
+ * so the next page starts where this one ended without
+ * the database skipping over the rows before it.
+ *
+ * @param <T> the type of the items
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetPage<T> {
+    /**
+     * The maximum amount of items of a page.
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    /**
+     * Represents the items of the page, in key order.
+     */
+    private final List<T> items;
+
+    /**
+     * Represents the cursor of the next page,
+     * null when this is the last page.
+     */
+    private final String nextCursor;
+
+    /**
+     * Creates the page from the items read after the cursor.
+     * One item more than the limit is read to know if there is
+     * a next page, that item is not part of the page.
+     *
+     * @param fetched the items read, at most one more than the limit
+     * @param limit   the maximum amount of items of the page
+     * @param keyOf   gives the key of an item
+     * @param <T>     the type of the items
+     * @return the page
+     */
+    public static <T> KeysetPage<T> of(final List<T> fetched,
+                                       final int limit,
+                                       final Function<T, String> keyOf) {
+        if (fetched.size() <= limit) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new KeysetPage<>(items,
+                encodeCursor(keyOf.apply(items.get(limit - 1))));
+    }
+
+    /**
+     * Checks if the limit of a page is allowed.
+     *
+     * @param limit the maximum amount of items of a page
+     * @return the limit
+     */
+    public static int checkLimit(final int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(
+                    "The limit has to be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    /**
+     * Gives the key held by the cursor.
+     *
+     * @param cursor the cursor of a page
+     * @return the key of the last item before the page
+     */
+    public static String decodeCursor(final String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gives the cursor which holds the key.
+     *
+     * @param key the key of the last item before the page
+     * @return the cursor
+     */
+    private static String encodeCursor(final String key) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
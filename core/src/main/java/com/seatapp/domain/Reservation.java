@@ -64,6 +64,18 @@ public class Reservation {
      */
     public boolean isValidNewReservation(final List<Reservation>
                                                  existingReservations) {
+        return isValidNewReservation(
+                new ReservationIndex(existingReservations));
+    }
+
+    /**
+     * Checks if the new reservation is valid.
+     *
+     * @param reservationIndex the index of the reservations of the seat.
+     * @return boolean that indicates if the reservation is valid.
+     */
+    public boolean isValidNewReservation(final ReservationIndex
+                                                 reservationIndex) {
         LocalDateTime startTimeNew = this.getStartDateTime();
         LocalDateTime endTimeNew = this.getEndDateTime();
         if (!checkIfStartTimeIsBeforeEndTime(startTimeNew, endTimeNew)) {
@@ -72,25 +84,15 @@ public class Reservation {
         if (!checkIfDateIsAfterNow(startTimeNew)) {
             return false;
         }
-        return checkReservationsIfTimeslotFree(existingReservations,
+        return checkReservationsIfTimeslotFree(reservationIndex,
                 startTimeNew, endTimeNew);
     }
 
     private boolean checkReservationsIfTimeslotFree(
-            final List<Reservation> existingReservations,
+            final ReservationIndex reservationIndex,
             final LocalDateTime startTimeNew,
             final LocalDateTime endTimeNew) {
-
-        for (Reservation seatRes : existingReservations) {
-            LocalDateTime startTimeExisting = seatRes.getStartDateTime();
-            LocalDateTime endTimeExisting = seatRes.getEndDateTime();
-
-            if (!checkIfTimeslotFree(startTimeNew, startTimeExisting,
-                    endTimeNew, endTimeExisting)) {
-                return false;
-            }
-        }
-        return true;
+        return reservationIndex.isFree(startTimeNew, endTimeNew);
     }
 
     /**
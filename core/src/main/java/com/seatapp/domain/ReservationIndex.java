@@ -0,0 +1,245 @@
+package com.seatapp.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A sorted interval index over the active reservations of a seat.
+ * The start and end times are stored as epoch nanoseconds in
+ * primitive arrays sorted on the start time, so a conflict check
+ * is a binary search instead of a walk over the whole history.
+ */
+public class ReservationIndex {
+    /**
+     * The initial capacity of the arrays.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * The amount of nanoseconds in a second.
+     */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * The start times of the reservations sorted ascending.
+     */
+    private long[] starts;
+
+    /**
+     * The end times of the reservations in the order of the starts.
+     */
+    private long[] ends;
+
+    /**
+     * The highest end time of the reservations
+     * up to and including the index.
+     */
+    private long[] maxEnds;
+
+    /**
+     * The amount of reservations in the index.
+     */
+    private int size;
+
+    /**
+     * The amount of reservations, cancelled ones included,
+     * from which the index was built. A negative value means
+     * the index has to be rebuilt before it can be used.
+     */
+    private int indexedReservations;
+
+    /**
+     * The list of reservations from which the index was built,
+     * compared by identity.
+     */
+    private List<Reservation> indexedList;
+
+    /**
+     * Creates an empty index.
+     */
+    public ReservationIndex() {
+        this.starts = new long[INITIAL_CAPACITY];
+        this.ends = new long[INITIAL_CAPACITY];
+        this.maxEnds = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates an index of the given reservations.
+     * Cancelled reservations are left out.
+     *
+     * @param reservations the reservations of the seat
+     */
+    public ReservationIndex(final List<Reservation> reservations) {
+        this();
+        rebuild(reservations);
+    }
+
+    /**
+     * Rebuilds the index from the given reservations.
+     * Cancelled reservations are left out.
+     *
+     * @param reservations the reservations of the seat
+     */
+    public void rebuild(final List<Reservation> reservations) {
+        List<Reservation> active = reservations.stream()
+                .filter(reservation -> !reservation.isCancelled())
+                .sorted(Comparator.comparing(Reservation::getStartDateTime))
+                .toList();
+        if (active.size() > starts.length) {
+            starts = new long[active.size()];
+            ends = new long[active.size()];
+            maxEnds = new long[active.size()];
+        }
+        size = 0;
+        for (Reservation reservation : active) {
+            starts[size] = toKey(reservation.getStartDateTime());
+            ends[size] = toKey(reservation.getEndDateTime());
+            maxEnds[size] = size == 0
+                    ? ends[size] : Math.max(maxEnds[size - 1], ends[size]);
+            size++;
+        }
+        indexedReservations = reservations.size();
+        indexedList = reservations;
+    }
+
+    /**
+     * Empties the index and marks it to be rebuilt.
+     */
+    public void clear() {
+        size = 0;
+        indexedReservations = -1;
+        indexedList = null;
+    }
+
+    /**
+     * Checks if the index was built from this very list of reservations
+     * and every reservation added to it afterwards. A reservation which
+     * is replaced or cancelled in the list is not noticed, the index
+     * then has to be rebuilt.
+     *
+     * @param reservations the reservations of the seat
+     * @return true if the index is up to date else false.
+     */
+    public boolean isBuiltFrom(final List<Reservation> reservations) {
+        return reservations != null
+                && reservations == indexedList
+                && indexedReservations == reservations.size();
+    }
+
+    /**
+     * Adds a reservation to the index.
+     * Cancelled reservations are not indexed.
+     *
+     * @param reservation the reservation that will be added
+     */
+    public void add(final Reservation reservation) {
+        indexedReservations++;
+        if (reservation.isCancelled()) {
+            return;
+        }
+        if (size == starts.length) {
+            int capacity = size * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            maxEnds = Arrays.copyOf(maxEnds, capacity);
+        }
+        long start = toKey(reservation.getStartDateTime());
+        int position = upperBound(start);
+        System.arraycopy(starts, position, starts, position + 1,
+                size - position);
+        System.arraycopy(ends, position, ends, position + 1,
+                size - position);
+        starts[position] = start;
+        ends[position] = toKey(reservation.getEndDateTime());
+        size++;
+        for (int i = position; i < size; i++) {
+            maxEnds[i] = i == 0 ? ends[i] : Math.max(maxEnds[i - 1], ends[i]);
+        }
+    }
+
+    /**
+     * Checks if the timeslot does not overlap with
+     * a reservation in the index.
+     *
+     * @param startDateTime the start time of the timeslot
+     * @param endDateTime   the end time of the timeslot
+     * @return true if timeslot is free else false.
+     */
+    public boolean isFree(final LocalDateTime startDateTime,
+                          final LocalDateTime endDateTime) {
+        long start = toKey(startDateTime);
+        long end = toKey(endDateTime);
+        int position = lowerBound(start);
+
+        if (position < size
+                && (starts[position] == start || starts[position] < end)) {
+            return false;
+        }
+        return position == 0 || maxEnds[position - 1] <= start;
+    }
+
+    /**
+     * Gets the amount of reservations in the index.
+     *
+     * @return the amount of reservations
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the first position of which the start
+     * is equal to or after the given start.
+     *
+     * @param start the start to search for
+     * @return the position in the arrays
+     */
+    private int lowerBound(final long start) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] < start) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position of which the start
+     * is after the given start.
+     *
+     * @param start the start to search for
+     * @return the position in the arrays
+     */
+    private int upperBound(final long start) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] <= start) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Converts a date time to the key used in the index.
+     *
+     * @param dateTime the date time to convert
+     * @return the epoch nanoseconds of the date time
+     */
+    private static long toKey(final LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND
+                + dateTime.getNano();
+    }
+}
@@ -1,5 +1,6 @@
 package com.seatapp.domain;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -52,10 +53,18 @@ public class Seat {
     private int height;
 
     /**
-     * Represents the reservations a seat.
+     * Represents the reservations a seat, in start time order.
      */
     private List<Reservation> reservations;
 
+    /**
+     * Represents the index of the active reservations
+     * used to check new reservations.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final ReservationIndex reservationIndex = new ReservationIndex();
+
     /**
      * Creates a seat with a specified name.
      *
@@ -100,23 +109,59 @@ public class Seat {
         this.available = true;
     }
 
+    /**
+     * Sets the reservations of the seat.
+     *
+     * @param reservations the seats' reservations
+     */
+    public void setReservations(final List<Reservation> reservations) {
+        this.reservations = reservations;
+        this.reservationIndex.clear();
+    }
+
     /**
      * Adds a reservation to the list after checks.
+     * The check is done against an index of the non cancelled
+     * reservations, which is built once and kept up to date.
+     * A reservation which is refused by the index is checked again
+     * against a rebuilt index, because a reservation could have been
+     * cancelled or replaced in the list without the index knowing.
+     * The reservation is inserted after the reservations
+     * starting at or before it, so the list stays in start time order.
      *
      * @param newReservation the new reservation.
      */
     public void addReservation(final Reservation newReservation) {
-        List<Reservation> filteredReservations = new ArrayList<>(
-                this.reservations.stream()
-                        .filter(reservation -> !reservation.isCancelled())
-                        .toList());
-        if (newReservation.isValidNewReservation(filteredReservations)) {
-            List<Reservation> newReservations =
-                    new ArrayList<>(getReservations());
-            newReservations.add(newReservation);
-            this.setReservations(newReservations);
-        } else {
+        if (!(reservations instanceof ArrayList)) {
+            reservations = new ArrayList<>(reservations);
+        }
+        boolean rebuilt = !reservationIndex.isBuiltFrom(reservations);
+        if (rebuilt) {
+            reservationIndex.rebuild(reservations);
+        }
+        if (!newReservation.isValidNewReservation(reservationIndex)
+                && (rebuilt || !isValidAfterRebuild(newReservation))) {
             throw new IllegalArgumentException("The reservation is not valid");
         }
+
+        int position = reservations.size();
+        while (position > 0 && reservations.get(position - 1)
+                .getStartDateTime()
+                .isAfter(newReservation.getStartDateTime())) {
+            position--;
+        }
+        reservations.add(position, newReservation);
+        reservationIndex.add(newReservation);
+    }
+
+    /**
+     * Rebuilds the index and checks the new reservation against it.
+     *
+     * @param newReservation the new reservation.
+     * @return true if the reservation is valid else false.
+     */
+    private boolean isValidAfterRebuild(final Reservation newReservation) {
+        reservationIndex.rebuild(reservations);
+        return newReservation.isValidNewReservation(reservationIndex);
     }
 }
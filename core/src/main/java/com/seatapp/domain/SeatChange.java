@@ -0,0 +1,89 @@
+package com.seatapp.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Tells that the status of a seat may have changed during a period,
+ * after a reservation, check in, cancel or change of availability.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SeatChange {
+    /**
+     * Represents the id of the changed seat.
+     */
+    private final long seatId;
+
+    /**
+     * Represents the start of the changed period,
+     * null when every day is changed.
+     */
+    private final LocalDateTime from;
+
+    /**
+     * Represents the end of the changed period,
+     * null when every day is changed.
+     */
+    private final LocalDateTime to;
+
+    /**
+     * Represents the reservation when it was just made,
+     * null for the other changes.
+     */
+    private final Reservation newReservation;
+
+    /**
+     * Creates the change of the period of a new reservation.
+     *
+     * @param seatId      the id of the seat
+     * @param reservation the new reservation
+     * @return the change
+     */
+    public static SeatChange ofNewReservation(final long seatId,
+                                              final Reservation reservation) {
+        return new SeatChange(seatId, reservation.getStartDateTime(),
+                reservation.getEndDateTime(), reservation);
+    }
+
+    /**
+     * Creates the change of the period of a reservation.
+     *
+     * @param seatId      the id of the seat
+     * @param reservation the checked in or cancelled reservation
+     * @return the change
+     */
+    public static SeatChange ofReservation(final long seatId,
+                                           final Reservation reservation) {
+        return new SeatChange(seatId, reservation.getStartDateTime(),
+                reservation.getEndDateTime(), null);
+    }
+
+    /**
+     * Creates the change of a seat on every day.
+     *
+     * @param seatId the id of the seat
+     * @return the change
+     */
+    public static SeatChange ofSeat(final long seatId) {
+        return new SeatChange(seatId, null, null, null);
+    }
+
+    /**
+     * Checks if the changed period overlaps with the day.
+     *
+     * @param date the day
+     * @return true if the status of the seat on the day may have changed
+     */
+    public boolean affectsDay(final LocalDate date) {
+        if (from == null || to == null) {
+            return true;
+        }
+        return from.isBefore(date.plusDays(1).atStartOfDay())
+                && to.isAfter(date.atStartOfDay());
+    }
+}
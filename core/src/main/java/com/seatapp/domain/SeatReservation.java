@@ -0,0 +1,27 @@
+package com.seatapp.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class SeatReservation {
+    /**
+     * Represents the id of the seat on which the reservation is made.
+     */
+    private Long seatId;
+
+    /**
+     * Represents the name of the seat on which the reservation is made.
+     */
+    private String seatName;
+
+    /**
+     * Represents the reservation.
+     */
+    private Reservation reservation;
+}
@@ -0,0 +1,259 @@
+package com.seatapp.domain;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The occupancy of a seat during a period, as a bitset of slots of
+ * fifteen minutes. A slot is occupied when a non cancelled reservation
+ * covers any part of it, so the status of a seat and the free slots
+ * are bit operations instead of a walk over sorted reservations.
+ * An occupancy is not changed after it is built; a booking gives a
+ * new occupancy.
+ */
+public final class SlotOccupancy {
+    /**
+     * The length of a slot in minutes.
+     */
+    public static final int SLOT_MINUTES = 15;
+
+    /**
+     * The shift from a slot to the index of its word in the bitset.
+     */
+    private static final int WORD_SHIFT = 6;
+
+    /**
+     * The start of the first slot.
+     */
+    private final LocalDateTime start;
+
+    /**
+     * The amount of slots in the period.
+     */
+    private final int slots;
+
+    /**
+     * The occupied slots, slot i is bit i.
+     */
+    private final long[] bits;
+
+    /**
+     * Creates an occupancy.
+     *
+     * @param start the start of the first slot
+     * @param slots the amount of slots
+     * @param bits  the occupied slots
+     */
+    private SlotOccupancy(final LocalDateTime start, final int slots,
+                          final long[] bits) {
+        this.start = start;
+        this.slots = slots;
+        this.bits = bits;
+    }
+
+    /**
+     * Builds the occupancy of a period from the reservations of a seat.
+     *
+     * @param reservations the reservations of the seat
+     * @param start        the start of the period
+     * @param end          the end of the period
+     * @return the occupancy of the period
+     */
+    public static SlotOccupancy of(final List<Reservation> reservations,
+                                   final LocalDateTime start,
+                                   final LocalDateTime end) {
+        int slots = (int) Math.ceilDiv(
+                Duration.between(start, end).toMinutes(), SLOT_MINUTES);
+        SlotOccupancy occupancy = new SlotOccupancy(start, slots,
+                new long[Math.ceilDiv(slots, Long.SIZE)]);
+        for (Reservation reservation : reservations) {
+            if (!reservation.isCancelled()) {
+                occupancy.occupy(reservation.getStartDateTime(),
+                        reservation.getEndDateTime());
+            }
+        }
+        return occupancy;
+    }
+
+    /**
+     * Builds the occupancy of a day from the reservations of a seat.
+     *
+     * @param reservations the reservations of the seat
+     * @param date         the day
+     * @return the occupancy of the day
+     */
+    public static SlotOccupancy ofDay(final List<Reservation> reservations,
+                                      final LocalDate date) {
+        return of(reservations, date.atStartOfDay(),
+                date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Gives the occupancy with a booking added.
+     *
+     * @param from the start of the booking
+     * @param to   the end of the booking
+     * @return a new occupancy with the slots of the booking occupied
+     */
+    public SlotOccupancy withBooking(final LocalDateTime from,
+                                     final LocalDateTime to) {
+        SlotOccupancy occupancy = new SlotOccupancy(start, slots,
+                bits.clone());
+        occupancy.occupy(from, to);
+        return occupancy;
+    }
+
+    /**
+     * Checks if no slot is occupied.
+     *
+     * @return if the period is free
+     */
+    public boolean isEmpty() {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if every slot is occupied.
+     *
+     * @return if the period is fully booked
+     */
+    public boolean isFull() {
+        return slots > 0 && countFreeSlots() == 0;
+    }
+
+    /**
+     * Counts the slots which are not occupied.
+     *
+     * @return the amount of free slots
+     */
+    public int countFreeSlots() {
+        int occupied = 0;
+        for (long word : bits) {
+            occupied += Long.bitCount(word);
+        }
+        return slots - occupied;
+    }
+
+    /**
+     * Checks if the slots between two moments are all free.
+     *
+     * @param from the start of the period to check
+     * @param to   the end of the period to check
+     * @return if none of the slots in the period is occupied
+     */
+    public boolean isFree(final LocalDateTime from, final LocalDateTime to) {
+        int last = slotAfter(to);
+        for (int slot = slotOf(from); slot < last; slot++) {
+            if (isOccupied(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the slots which lie wholly between two moments are all
+     * free. A slot which is only partly in the period may still be
+     * occupied, by a reservation which does not reach into the period.
+     *
+     * @param from the start of the period to check
+     * @param to   the end of the period to check
+     * @return if none of the slots inside the period is occupied
+     */
+    public boolean isFreeInside(final LocalDateTime from,
+                                final LocalDateTime to) {
+        int last = slotOf(to);
+        for (int slot = slotAfter(from); slot < last; slot++) {
+            if (isOccupied(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gives the start of the free slots which run up to a moment,
+     * limited to the period.
+     *
+     * @param moment the moment, in a free slot or at the end of one
+     * @return the start of the first free slot before the moment
+     */
+    public LocalDateTime freeFrom(final LocalDateTime moment) {
+        int slot = slotOf(moment);
+        while (slot > 0 && !isOccupied(slot - 1)) {
+            slot--;
+        }
+        return start.plusMinutes((long) slot * SLOT_MINUTES);
+    }
+
+    /**
+     * Gives the end of the free slots which run from a moment,
+     * limited to the period.
+     *
+     * @param moment the moment, in a free slot or at the start of one
+     * @return the end of the last free slot after the moment
+     */
+    public LocalDateTime freeUntil(final LocalDateTime moment) {
+        int slot = slotAfter(moment);
+        while (slot < slots && !isOccupied(slot)) {
+            slot++;
+        }
+        return start.plusMinutes((long) slot * SLOT_MINUTES);
+    }
+
+    /**
+     * Checks if a slot is occupied.
+     *
+     * @param slot the index of the slot
+     * @return if the slot is occupied
+     */
+    private boolean isOccupied(final int slot) {
+        return (bits[slot >>> WORD_SHIFT] & 1L << slot) != 0;
+    }
+
+    /**
+     * Marks the slots between two moments as occupied.
+     *
+     * @param from the start of the period
+     * @param to   the end of the period
+     */
+    private void occupy(final LocalDateTime from, final LocalDateTime to) {
+        int last = slotAfter(to);
+        for (int slot = slotOf(from); slot < last; slot++) {
+            bits[slot >>> WORD_SHIFT] |= 1L << slot;
+        }
+    }
+
+    /**
+     * Gives the slot which contains a moment,
+     * limited to the slots of the period.
+     *
+     * @param moment the moment
+     * @return the index of the slot
+     */
+    private int slotOf(final LocalDateTime moment) {
+        long slot = Math.floorDiv(
+                Duration.between(start, moment).toMinutes(), SLOT_MINUTES);
+        return (int) Math.max(0, Math.min(slots, slot));
+    }
+
+    /**
+     * Gives the first slot which starts at or after a moment,
+     * limited to the slots of the period.
+     *
+     * @param moment the moment
+     * @return the index of the slot
+     */
+    private int slotAfter(final LocalDateTime moment) {
+        long slot = Math.ceilDiv(
+                Duration.between(start, moment).toMinutes(), SLOT_MINUTES);
+        return (int) Math.max(0, Math.min(slots, slot));
+    }
+}
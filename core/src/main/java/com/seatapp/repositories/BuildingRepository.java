@@ -1,6 +1,8 @@
 package com.seatapp.repositories;
 
 import com.seatapp.domain.Building;
+
+import java.time.LocalDate;
 import java.util.List;
 
 public interface BuildingRepository {
@@ -30,6 +32,28 @@ public interface BuildingRepository {
      */
     Building findById(Long buildingId);
 
+    /**
+     * Tries to find the building with only the given floor
+     * and only the non cancelled reservations on the given date.
+     *
+     * @param buildingId the id of the building you want to find
+     * @param floorId    the id of the floor you want to find
+     * @param date       the date of the wanted reservations
+     * @return the building with the given floor.
+     */
+    Building findByIdAndFloorIdAndDate(Long buildingId, Long floorId,
+                                       LocalDate date);
+
+    /**
+     * Tries to find the building with only the given floor
+     * and the seats of the floor without their reservations.
+     *
+     * @param buildingId the id of the building you want to find
+     * @param floorId    the id of the floor you want to find
+     * @return the building with the given floor.
+     */
+    Building findGeometryByIdAndFloorId(Long buildingId, Long floorId);
+
     /**
      * Deletes all the buildings.
      */
@@ -2,6 +2,8 @@ package com.seatapp.repositories;
 
 import com.seatapp.domain.Floor;
 
+import java.time.LocalDate;
+
 public interface FloorRepository {
     /**
      * get the floor by floor id.
@@ -11,6 +13,16 @@ public interface FloorRepository {
      */
     Floor findById(long floorId);
 
+    /**
+     * get the floor by floor id with only the non cancelled
+     * reservations of its seats which start on the given date.
+     *
+     * @param floorId the floor id
+     * @param date    the date of the reservations
+     * @return the found floor
+     */
+    Floor findByIdWithReservationsByDate(long floorId, LocalDate date);
+
     /**
      * Saving the floor in the database.
      *
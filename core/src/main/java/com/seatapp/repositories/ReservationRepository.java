@@ -1,6 +1,10 @@
 package com.seatapp.repositories;
 
 import com.seatapp.domain.Reservation;
+import com.seatapp.domain.SeatReservation;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ReservationRepository {
     /**
@@ -12,6 +16,16 @@ public interface ReservationRepository {
      */
     Reservation save(Reservation reservation);
 
+    /**
+     * Inserts a new reservation on the seat
+     * without saving the other reservations of the seat.
+     *
+     * @param seatId      the id of the seat
+     * @param reservation the new reservation
+     * @return the reservation with the id from the database
+     */
+    Reservation insertForSeat(Long seatId, Reservation reservation);
+
     /**
      * Tries to find the reservation with the given id.
      *
@@ -21,6 +35,98 @@ public interface ReservationRepository {
      */
     Reservation findById(Long reservationId);
 
+    /**
+     * Tries to find the id of the seat
+     * on which the reservation is made.
+     *
+     * @param reservationId the id of the reservation
+     * @return the id of the seat
+     */
+    Long findSeatIdById(Long reservationId);
+
+    /**
+     * Finds the non cancelled reservations of the user
+     * which start after the given time, ordered by their start time.
+     *
+     * @param email the email of the user who made the reservations
+     * @param from  the time after which the reservations start
+     * @return the reservations with the seat they are made on
+     */
+    List<SeatReservation> findAllByUserFrom(String email,
+                                            LocalDateTime from);
+
+    /**
+     * Finds the non cancelled reservations of the user which start
+     * after the given time and come after the given reservation
+     * in the order of their start time and id.
+     *
+     * @param email      the email of the user who made the reservations
+     * @param from       the time after which the reservations start
+     * @param afterStart the start time of the last reservation before
+     *                   the wanted reservations, null for the first ones
+     * @param afterId    the id of the last reservation before
+     *                   the wanted reservations, null for the first ones
+     * @param limit      the maximum amount of reservations
+     * @return the reservations with the seat they are made on
+     */
+    List<SeatReservation> findPageByUserFrom(String email,
+                                             LocalDateTime from,
+                                             LocalDateTime afterStart,
+                                             Long afterId,
+                                             int limit);
+
+    /**
+     * Finds the reservations which are not cancelled or checked in
+     * and end after the given time.
+     *
+     * @param time the time after which the reservations end
+     * @return the reservations with the seat they are made on
+     */
+    List<SeatReservation> findAllNotCheckedInEndingAfter(LocalDateTime time);
+
+    /**
+     * Finds the reservations of the seats which are not cancelled
+     * and end after the given time.
+     *
+     * @param seatIds the ids of the seats
+     * @param time    the time after which the reservations end
+     * @return the reservations with the seat they are made on
+     */
+    List<SeatReservation> findAllOfSeatsEndingAfter(List<Long> seatIds,
+                                                    LocalDateTime time);
+
+    /**
+     * Cancels the given reservations which are not cancelled
+     * or checked in, with one statement.
+     *
+     * @param reservationIds the ids of the reservations
+     * @return the ids of the cancelled reservations
+     */
+    List<Long> cancelAllNotCheckedIn(List<Long> reservationIds);
+
+    /**
+     * Checks in on the reservation when it is not cancelled,
+     * with one statement, so a release can not be undone.
+     *
+     * @param reservationId the id of the reservation
+     * @return if the reservation is checked in
+     */
+    boolean checkInIfNotCancelled(Long reservationId);
+
+    /**
+     * Cancels the existing reservations.
+     *
+     * @param reservationIds the ids of the reservations
+     */
+    void cancelAll(List<Long> reservationIds);
+
+    /**
+     * Checks in on the existing reservations which are not cancelled.
+     *
+     * @param reservationIds the ids of the reservations
+     */
+    void checkInAll(List<Long> reservationIds);
+
     /**
      * Deletes all the reservations.
      */
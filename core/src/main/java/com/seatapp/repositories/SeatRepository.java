@@ -1,7 +1,11 @@
 package com.seatapp.repositories;
 
 import com.seatapp.domain.Seat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface SeatRepository {
@@ -14,6 +18,16 @@ public interface SeatRepository {
      */
     Seat save(Seat seat);
 
+    /**
+     * Saving new seats on the floor in the database
+     * in one transaction.
+     *
+     * @param floorId the id of the floor the seats are placed on
+     * @param seats   the new seats
+     * @return the saved seats in the same order
+     */
+    List<Seat> saveAllOnFloor(long floorId, List<Seat> seats);
+
     /**
      * Deleting the given seat from the database.
      *
@@ -29,6 +43,47 @@ public interface SeatRepository {
      */
     List<Seat> findAll();
 
+    /**
+     * Get the seats with an id after the given id,
+     * ordered by their id.
+     *
+     * @param afterId the id of the last seat before the wanted seats,
+     *                null for the first seats
+     * @param limit   the maximum amount of seats
+     * @return the seats
+     */
+    List<Seat> findPage(Long afterId, int limit);
+
+    /**
+     * Get all the seats from the database with only
+     * their non cancelled reservations starting on the given date.
+     *
+     * @param date the date of the wanted reservations
+     * @return all the seats from the database
+     * in a list
+     */
+    List<Seat> findAllWithReservationsByDate(LocalDate date);
+
+    /**
+     * Gives every seat of the database with its reservations
+     * to the action, one seat at a time, without
+     * holding all the seats in memory.
+     *
+     * @param action the action done for each seat
+     */
+    void forEach(Consumer<Seat> action);
+
+    /**
+     * Gives every seat of the database with only its non cancelled
+     * reservations starting on the given date to the action,
+     * one seat at a time, without holding all the seats in memory.
+     *
+     * @param date   the date of the wanted reservations
+     * @param action the action done for each seat
+     */
+    void forEachWithReservationsByDate(LocalDate date,
+                                       Consumer<Seat> action);
+
     /**
      * Tries to find the seat with the given id.
      *
@@ -37,6 +92,25 @@ public interface SeatRepository {
      */
     Seat findById(Long seatId);
 
+    /**
+     * Tries to find the seat with the given id with only its non
+     * cancelled reservations ending after the given time.
+     *
+     * @param seatId the id of the seat you want to find
+     * @param time   the time after which the reservations end
+     * @return the seat with the given id.
+     */
+    Seat findByIdWithReservationsEndingAfter(Long seatId,
+                                             LocalDateTime time);
+
+    /**
+     * Sets the availability of the existing seats.
+     *
+     * @param seatIds   the ids of the seats
+     * @param available the new availability
+     */
+    void updateAvailability(List<Long> seatIds, boolean available);
+
     /**
      * Delete all the seats in the database.
      */
@@ -3,6 +3,7 @@ package com.seatapp.repositories;
 import com.seatapp.domain.User;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserRepository {
     /**
@@ -30,6 +31,25 @@ public interface UserRepository {
      */
     List<User> findAll();
 
+    /**
+     * Get the users with an email after the given email,
+     * ordered by their email.
+     *
+     * @param afterEmail the email of the last user before the wanted
+     *                   users, null for the first users
+     * @param limit      the maximum amount of users
+     * @return the users
+     */
+    List<User> findPage(String afterEmail, int limit);
+
+    /**
+     * Gives every user of the database to the action,
+     * one user at a time, without holding all the users in memory.
+     *
+     * @param action the action done for each user
+     */
+    void forEach(Consumer<User> action);
+
     /**
      * Check if the user exists.
      *
@@ -0,0 +1,1136 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Seat;
+import com.seatapp.exceptions.EntityNotFoundException;
+import com.seatapp.repositories.BuildingRepository;
+import com.seatapp.repositories.ReservationRepository;
+import com.seatapp.repositories.SeatRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Holds the seats with their active reservations in memory and decides
+ * the bookings without reading the seats from the database.
+ * The seats are grouped by floor and every change replaces the group
+ * of the floor by a changed copy, so reads never wait for a lock.
+ * The floor plans and the free seats of a floor are read from its
+ * group, so they see a change as soon as it is made.
+ * New reservations are inserted before they are given back, because
+ * their id is needed, the other changes are written behind
+ * in the order they were made. Every change is appended to the
+ * booking journal, from which the state is rebuilt on a restart and
+ * the writes which may not have been done are written again.
+ * Durability: a new reservation, a new seat and a seat change are in
+ * the database before they are journaled. Their write is journaled as
+ * pending before it starts and as settled after the change is
+ * journaled, so on a restart only the seats of the writes which never
+ * settled are read from the database again: the reservations of the
+ * seat for a reservation, all the seats for a change of the seats.
+ * A cancel, check in or change of availability is kept once the journal
+ * is forced, which happens when a journal file is full, on a snapshot
+ * and on shutdown. A crash of the application keeps the journal,
+ * a crash of the machine before the force loses the change in memory,
+ * the seat then stays as it was before it.
+ * The engine is only correct
+ * when it is the only one changing the reservations,
+ * so it must only be enabled on a single node.
+ */
+@Service
+@ConditionalOnProperty(name = BookingEngine.ENABLED_PROPERTY,
+        havingValue = "true")
+class BookingEngine {
+    /**
+     * The property which enables the engine.
+     */
+    static final String ENABLED_PROPERTY = "booking.engine.enabled";
+
+    /**
+     * The seat id of the pending writes which may change any seat.
+     */
+    static final long ALL_SEATS = -1L;
+
+    /**
+     * The group of the seats which are not placed on a floor.
+     */
+    private static final long NO_FLOOR = -1L;
+
+    /**
+     * The seconds to wait for the pending writes on shutdown.
+     */
+    private static final int SHUTDOWN_SECONDS = 30;
+
+    /**
+     * The logger of the booking engine.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(BookingEngine.class);
+
+    /**
+     * Represents the seat repository.
+     */
+    private final SeatRepository seatRepository;
+
+    /**
+     * Represents the reservation repository.
+     */
+    private final ReservationRepository reservationRepository;
+
+    /**
+     * Represents the building repository.
+     */
+    private final BuildingRepository buildingRepository;
+
+    /**
+     * Represents the locks of the seats.
+     */
+    private final SeatLockService seatLockService;
+
+    /**
+     * Represents the transaction in which the seats are loaded.
+     */
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * Represents the journal of the changes.
+     */
+    private final BookingJournal journal;
+
+    /**
+     * Represents the seats by their id, grouped by the id of their
+     * floor. A group is never changed, it is replaced by a copy.
+     */
+    private final Map<Long, Map<Long, Seat>> floors =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Represents the id of the floor of every seat.
+     */
+    private final Map<Long, Long> floorOfSeat = new ConcurrentHashMap<>();
+
+    /**
+     * Represents the id of the seat of every active reservation.
+     */
+    private final Map<Long, Long> seatOfReservation =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Represents the amount of pending writes by seat id.
+     */
+    private final Map<Long, Integer> pendingWrites =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Represents the thread which writes the changes behind,
+     * one after the other.
+     */
+    private final ExecutorService writer =
+            Executors.newSingleThreadExecutor();
+
+    /**
+     * Represents the thread which takes the snapshots of the journal.
+     */
+    private final ScheduledExecutorService snapshots =
+            Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * The minutes between two snapshots of the journal.
+     */
+    @Value("${booking.journal.snapshot.minutes:5}")
+    private int snapshotMinutes;
+
+    /**
+     * Time before the start of a
+     * reservation where you can check in.
+     */
+    @Value("${minutes.before.reservation}")
+    private int minutesBeforeReservation;
+
+    /**
+     * Creates the engine with the specified repositories.
+     *
+     * @param seatRepository        The seat repository.
+     * @param reservationRepository The reservation repository.
+     * @param buildingRepository    The building repository.
+     * @param seatLockService       The locks of the seats.
+     * @param transactionOperations The transaction of the loading.
+     * @param journal               The journal of the changes.
+     */
+    @Autowired
+    BookingEngine(final SeatRepository seatRepository,
+                  final ReservationRepository reservationRepository,
+                  final BuildingRepository buildingRepository,
+                  final SeatLockService seatLockService,
+                  final TransactionOperations transactionOperations,
+                  final BookingJournal journal) {
+        this.seatRepository = seatRepository;
+        this.reservationRepository = reservationRepository;
+        this.buildingRepository = buildingRepository;
+        this.seatLockService = seatLockService;
+        this.transactionOperations = transactionOperations;
+        this.journal = journal;
+    }
+
+    /**
+     * Rebuilds the state from the journal, reconciles the seats of
+     * the writes which never settled with the database and writes the
+     * replayed changes again, or loads it from the database when there
+     * is no journal yet. A snapshot is taken right away and then every
+     * few minutes.
+     */
+    @PostConstruct
+    void load() {
+        Replay replay = new Replay();
+        if (journal.replay(replay)) {
+            replay.reconcile();
+            replay.writeAgain();
+        } else {
+            loadFromDatabase();
+        }
+        snapshot();
+        snapshots.scheduleWithFixedDelay(this::snapshot, snapshotMinutes,
+                snapshotMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Loads the seats with their active reservations
+     * and the floors they are placed on from the database.
+     */
+    private void loadFromDatabase() {
+        Map<Long, Map<Long, Seat>> groups = new HashMap<>();
+        forEachStoredSeat((floorId, seat) -> {
+            seat.getReservations().forEach(reservation ->
+                    seatOfReservation.put(reservation.getId(),
+                            seat.getId()));
+            groups.computeIfAbsent(floorId, id -> new HashMap<>())
+                    .put(seat.getId(), seat);
+            floorOfSeat.put(seat.getId(), floorId);
+        });
+        groups.forEach((floorId, seats) ->
+                floors.put(floorId, Map.copyOf(seats)));
+    }
+
+    /**
+     * Gives every seat of the database with its active reservations
+     * and the id of the floor it is placed on to the action.
+     *
+     * @param action the action done for each seat and its floor id
+     */
+    private void forEachStoredSeat(final BiConsumer<Long, Seat> action) {
+        transactionOperations.executeWithoutResult(status -> {
+            Map<Long, Long> floorIds = new HashMap<>();
+            buildingRepository.findAll().forEach(building ->
+                    building.getFloors().forEach(floor ->
+                            floor.getSeats().forEach(seat ->
+                                    floorIds.put(seat.getId(),
+                                            floor.getId()))));
+            seatRepository.forEach(seat -> action.accept(
+                    floorIds.getOrDefault(seat.getId(), NO_FLOOR),
+                    copyOf(seat, activeOf(seat.getReservations()))));
+        });
+    }
+
+    /**
+     * Waits for the pending writes before the application stops.
+     */
+    @PreDestroy
+    void shutdown() {
+        snapshots.shutdownNow();
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_SECONDS,
+                    TimeUnit.SECONDS)) {
+                LOGGER.error("Not all the bookings were written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.force();
+    }
+
+    /**
+     * Writes the state to a snapshot of the journal, after the writes
+     * of the changes before it are done. A failed snapshot is logged,
+     * the journal files before it are kept.
+     */
+    void snapshot() {
+        try {
+            journal.snapshot(this::capture, this::awaitWrites);
+        } catch (RuntimeException e) {
+            LOGGER.error("The booking journal snapshot failed", e);
+        }
+    }
+
+    /**
+     * Runs a write of the seats to the database and their change in the
+     * engine as a pending write, so the seats are read again on a
+     * restart when the change may not have been journaled.
+     *
+     * @param write the write of the seats and their change in the engine
+     * @param <T>   the type of the result of the write
+     * @return the result of the write
+     */
+    <T> T writeSeats(final Supplier<T> write) {
+        beginWrite(ALL_SEATS);
+        try {
+            return write.get();
+        } finally {
+            endWrite(ALL_SEATS);
+        }
+    }
+
+    /**
+     * Runs a write of the seats without a result as a pending write.
+     *
+     * @param write the write of the seats and their change in the engine
+     */
+    void writeSeats(final Runnable write) {
+        writeSeats(() -> {
+            write.run();
+            return null;
+        });
+    }
+
+    /**
+     * Journals a write as pending.
+     *
+     * @param seatId the id of the seat of the write
+     */
+    private void beginWrite(final long seatId) {
+        pendingWrites.merge(seatId, 1, Integer::sum);
+        journal.pending(seatId);
+    }
+
+    /**
+     * Journals a pending write as settled.
+     *
+     * @param seatId the id of the seat of the write
+     */
+    private void endWrite(final long seatId) {
+        journal.settled(seatId);
+        pendingWrites.computeIfPresent(seatId,
+                (id, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Adds a saved seat or changes the details of a known seat.
+     * The availability and the reservations of a known seat are kept.
+     *
+     * @param floorId the id of the floor the seat is placed on,
+     *                null to keep the floor of a known seat
+     * @param seat    the saved seat
+     */
+    void putSeat(final Long floorId, final Seat seat) {
+        seatLockService.withSeatLock(seat.getId(), () -> {
+            Long currentFloorId = floorOfSeat.get(seat.getId());
+            Seat changed;
+            if (currentFloorId == null) {
+                changed = copyOf(seat, activeOf(seat.getReservations()));
+            } else {
+                Seat current = findSeat(seat.getId());
+                changed = copyOf(seat, current.getReservations());
+                changed.setAvailable(current.isAvailable());
+            }
+            long newFloorId = floorId != null ? floorId
+                    : currentFloorId != null ? currentFloorId : NO_FLOOR;
+            if (currentFloorId != null && currentFloorId != newFloorId) {
+                unpublish(currentFloorId, seat.getId());
+            }
+            publish(newFloorId, changed);
+            journal.seatSaved(newFloorId, changed);
+            return changed;
+        });
+    }
+
+    /**
+     * Forgets a deleted seat and its reservations.
+     *
+     * @param seatId the id of the deleted seat
+     */
+    void removeSeat(final long seatId) {
+        seatLockService.withSeatLock(seatId, () -> {
+            Long floorId = floorOfSeat.remove(seatId);
+            if (floorId != null) {
+                floors.get(floorId).get(seatId).getReservations()
+                        .forEach(reservation -> seatOfReservation
+                                .remove(reservation.getId()));
+                unpublish(floorId, seatId);
+                journal.seatDeleted(seatId);
+            }
+            return floorId;
+        });
+    }
+
+    /**
+     * Reserves the seat after checking the reservation against
+     * the reservations of the seat in memory. Only the new
+     * reservation is inserted, the seat is not read.
+     * The insert is a pending write of the seat.
+     *
+     * @param seatId         the id of the to be reserved seat
+     * @param newReservation the new reservation
+     * @return the saved reservation
+     */
+    Reservation reserve(final long seatId,
+                        final Reservation newReservation) {
+        return seatLockService.withSeatLock(seatId, () -> {
+            Seat seat = findSeat(seatId);
+            if (!seat.isAvailable()) {
+                throw new IllegalArgumentException(
+                        "You can't reserve when the seat is unavailable");
+            }
+            Seat changed = copyOf(seat, activeOf(seat.getReservations()));
+            changed.addReservation(newReservation);
+            beginWrite(seatId);
+            try {
+                Reservation saved = reservationRepository.insertForSeat(
+                        seatId, newReservation);
+                publish(floorOfSeat.get(seatId), changed);
+                seatOfReservation.put(saved.getId(), seatId);
+                journal.reserved(seatId, saved);
+                return saved;
+            } finally {
+                endWrite(seatId);
+            }
+        });
+    }
+
+    /**
+     * Checks in on the current reservation of the seat
+     * and writes the check in behind.
+     *
+     * @param seatId   the id of the seat where you check in
+     * @param username the username of the person wanting to check in
+     * @return the checked in reservation
+     */
+    Reservation checkIn(final long seatId, final String username) {
+        return seatLockService.withSeatLock(seatId, () -> {
+            Seat seat = findSeat(seatId);
+            LocalDateTime now = LocalDateTime.now();
+            Reservation reservation = seat.getReservations().stream()
+                    .filter(res -> now.isAfter(res.getStartDateTime()
+                            .minusMinutes(minutesBeforeReservation)))
+                    .filter(res -> now.isBefore(res.getEndDateTime()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "You can't check in before the start"
+                                    + " time or after the end time."));
+
+            Reservation checkedIn = copyOf(reservation);
+            checkedIn.checkIn(username);
+            publish(floorOfSeat.get(seatId),
+                    replaceReservation(seat, reservation, checkedIn));
+            writeBehind(() -> reservationRepository.save(checkedIn));
+            journal.checkedIn(seatId, checkedIn);
+            return checkedIn;
+        });
+    }
+
+    /**
+     * Changes the availability of the seat
+     * and writes the change behind.
+     *
+     * @param seatId the id of the seat
+     */
+    void changeAvailability(final long seatId) {
+        seatLockService.withSeatLock(seatId, () -> {
+            Seat seat = findSeat(seatId);
+            boolean available = !seat.isAvailable();
+            Seat changed = copyOf(seat, seat.getReservations());
+            changed.setAvailable(available);
+            publish(floorOfSeat.get(seatId), changed);
+            writeAvailability(seatId, available);
+            journal.availabilityChanged(seatId, available);
+            return changed;
+        });
+    }
+
+    /**
+     * Gets the id of the seat of an active reservation.
+     *
+     * @param reservationId the id of the reservation
+     * @return the id of the seat, null when the reservation is not active
+     */
+    Long getSeatIdOf(final long reservationId) {
+        return seatOfReservation.get(reservationId);
+    }
+
+    /**
+     * Cancels an active reservation and writes the cancel behind.
+     *
+     * @param reservationId the id of the reservation
+     * @return the cancelled reservation,
+     * null when the reservation is not active
+     */
+    Reservation cancel(final long reservationId) {
+        return cancelIf(reservationId, reservation -> true,
+                cancelled -> writeBehind(() ->
+                        reservationRepository.save(cancelled)));
+    }
+
+    /**
+     * Cancels the active reservations which are not checked in
+     * and writes the cancels behind with one statement. The statement
+     * is queued before the first cancel is journaled and waits
+     * for the ids, so a snapshot never skips it.
+     *
+     * @param reservationIds the ids of the reservations
+     * @return the cancelled reservations
+     */
+    List<Reservation> releaseNoShows(final List<Long> reservationIds) {
+        CompletableFuture<List<Long>> releasedIds = new CompletableFuture<>();
+        writeBehind(() -> {
+            List<Long> ids = releasedIds.join();
+            if (!ids.isEmpty()) {
+                reservationRepository.cancelAllNotCheckedIn(ids);
+            }
+        });
+        List<Reservation> released = new ArrayList<>();
+        try {
+            for (long reservationId : reservationIds) {
+                Reservation cancelled = cancelIf(reservationId,
+                        reservation -> !reservation.isCheckedIn(),
+                        reservation -> { });
+                if (cancelled != null) {
+                    released.add(cancelled);
+                }
+            }
+        } finally {
+            releasedIds.complete(released.stream()
+                    .map(Reservation::getId).toList());
+        }
+        return released;
+    }
+
+    /**
+     * Removes an active reservation from its seat when the condition
+     * holds, queues the write of the cancel and then journals it.
+     * The write is queued first, so a snapshot which follows the
+     * journaled cancel always waits for the write.
+     *
+     * @param reservationId the id of the reservation
+     * @param condition     the condition on the reservation
+     * @param write         queues the write of the cancelled reservation
+     * @return the cancelled reservation, null when the reservation
+     * is not active or the condition does not hold
+     */
+    private Reservation cancelIf(final long reservationId,
+                                 final Predicate<Reservation> condition,
+                                 final Consumer<Reservation> write) {
+        Long seatId = seatOfReservation.get(reservationId);
+        if (seatId == null) {
+            return null;
+        }
+        return seatLockService.withSeatLock(seatId, () -> {
+            Long floorId = floorOfSeat.get(seatId);
+            if (floorId == null
+                    || !seatOfReservation.containsKey(reservationId)) {
+                return null;
+            }
+            Seat seat = floors.get(floorId).get(seatId);
+            Reservation reservation = seat.getReservations().stream()
+                    .filter(res -> res.getId().equals(reservationId))
+                    .findFirst()
+                    .orElseThrow(() -> new EntityNotFoundException(
+                            "No reservation with this id."));
+            if (!condition.test(reservation)) {
+                return null;
+            }
+
+            seatOfReservation.remove(reservationId);
+            Reservation cancelled = copyOf(reservation);
+            cancelled.setCancelled(true);
+            publish(floorId, replaceReservation(seat, reservation, null));
+            write.accept(cancelled);
+            journal.cancelled(seatId, cancelled);
+            return cancelled;
+        });
+    }
+
+    /**
+     * Gets all the seats with their reservations starting on the date.
+     * The date must not be before the current day.
+     *
+     * @param date the date of the wanted reservations
+     * @return the seats ordered by their id
+     */
+    List<Seat> getSeatsWithReservationsOn(final LocalDate date) {
+        List<Seat> seats = new ArrayList<>();
+        forEachSeatWithReservationsOn(date, seats::add);
+        seats.sort(Comparator.comparing(Seat::getId));
+        return seats;
+    }
+
+    /**
+     * Gives all the seats with their reservations starting on the date
+     * to the action, one floor after the other.
+     * The date must not be before the current day.
+     *
+     * @param date   the date of the wanted reservations
+     * @param action the action done for each seat
+     */
+    void forEachSeatWithReservationsOn(final LocalDate date,
+                                       final Consumer<Seat> action) {
+        for (Map<Long, Seat> seats : floors.values()) {
+            for (Seat seat : seats.values()) {
+                action.accept(withReservationsOn(seat, date));
+            }
+        }
+    }
+
+    /**
+     * Gets the seats of a floor with their reservations starting on
+     * the date, read from the group of the floor only.
+     * The date must not be before the current day.
+     *
+     * @param floorId the id of the floor
+     * @param date    the date of the wanted reservations
+     * @return the seats ordered by their id
+     */
+    List<Seat> getSeatsOfFloorWithReservationsOn(final long floorId,
+                                                 final LocalDate date) {
+        List<Seat> seats = new ArrayList<>();
+        for (Seat seat : floors.getOrDefault(floorId, Map.of()).values()) {
+            seats.add(withReservationsOn(seat, date));
+        }
+        seats.sort(Comparator.comparing(Seat::getId));
+        return seats;
+    }
+
+    /**
+     * Copies a seat with only its reservations starting on the date.
+     *
+     * @param seat the seat
+     * @param date the date of the wanted reservations
+     * @return the copy of the seat
+     */
+    private static Seat withReservationsOn(final Seat seat,
+                                           final LocalDate date) {
+        return copyOf(seat, seat.getReservations().stream()
+                .filter(reservation -> reservation.getStartDateTime()
+                        .toLocalDate().isEqual(date))
+                .toList());
+    }
+
+    /**
+     * Gets the seat with the given id from memory.
+     *
+     * @param seatId the id of the seat
+     * @return the seat, which must not be changed
+     */
+    private Seat findSeat(final long seatId) {
+        Long floorId = floorOfSeat.get(seatId);
+        if (floorId == null) {
+            throw new EntityNotFoundException("No seat with this id.");
+        }
+        return floors.get(floorId).get(seatId);
+    }
+
+    /**
+     * Replaces the group of the floor by a copy with the seat.
+     *
+     * @param floorId the id of the floor of the seat
+     * @param seat    the new or changed seat
+     */
+    private void publish(final long floorId, final Seat seat) {
+        floors.compute(floorId, (id, seats) -> {
+            Map<Long, Seat> copy = seats == null
+                    ? new HashMap<>() : new HashMap<>(seats);
+            copy.put(seat.getId(), seat);
+            return Map.copyOf(copy);
+        });
+        floorOfSeat.put(seat.getId(), floorId);
+    }
+
+    /**
+     * Replaces the group of the floor by a copy without the seat.
+     *
+     * @param floorId the id of the floor of the seat
+     * @param seatId  the id of the seat
+     */
+    private void unpublish(final long floorId, final long seatId) {
+        floors.computeIfPresent(floorId, (id, seats) -> {
+            Map<Long, Seat> copy = new HashMap<>(seats);
+            copy.remove(seatId);
+            return copy.isEmpty() ? null : Map.copyOf(copy);
+        });
+    }
+
+    /**
+     * Writes the availability of a seat behind.
+     *
+     * @param seatId    the id of the seat
+     * @param available the new availability
+     */
+    private void writeAvailability(final long seatId,
+                                   final boolean available) {
+        writeBehind(() -> {
+            Seat stored = seatRepository.findById(seatId);
+            stored.setAvailable(available);
+            seatRepository.save(stored);
+        });
+    }
+
+    /**
+     * Waits until the writes which are queued are done.
+     */
+    private void awaitWrites() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                    "Interrupted while waiting for the writes", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Captures the current groups of the floors, which are never
+     * changed, and the pending writes, and gives the events which
+     * rebuild them.
+     *
+     * @return the events of the state, given to a target
+     */
+    private Consumer<BookingEvents> capture() {
+        Map<Long, Map<Long, Seat>> captured = new HashMap<>(floors);
+        Map<Long, Integer> pending = new HashMap<>(pendingWrites);
+        return events -> {
+            captured.forEach((floorId, seats) ->
+                    seats.values().forEach(seat -> {
+                        events.seatSaved(floorId, seat);
+                        seat.getReservations().forEach(reservation ->
+                                events.reserved(seat.getId(), reservation));
+                    }));
+            pending.forEach((seatId, count) -> {
+                for (int i = 0; i < count; i++) {
+                    events.pending(seatId);
+                }
+            });
+        };
+    }
+
+    /**
+     * Writes a change to the database after the changes before it.
+     * A failed write is logged, the change stays in memory.
+     *
+     * @param write the write of the change
+     */
+    private void writeBehind(final Runnable write) {
+        writer.execute(() -> {
+            try {
+                write.run();
+            } catch (RuntimeException e) {
+                LOGGER.error("A booking could not be written", e);
+            }
+        });
+    }
+
+    /**
+     * Copies the seat with other reservations.
+     *
+     * @param seat         the seat
+     * @param reservations the reservations of the copy
+     * @return the copy of the seat
+     */
+    private static Seat copyOf(final Seat seat,
+                               final List<Reservation> reservations) {
+        return new Seat(seat.getId(), seat.getName(), seat.isAvailable(),
+                seat.getXCoordinates(), seat.getYCoordinates(),
+                seat.getWidth(), seat.getHeight(), reservations);
+    }
+
+    /**
+     * Copies the reservation.
+     *
+     * @param reservation the reservation
+     * @return the copy of the reservation
+     */
+    private static Reservation copyOf(final Reservation reservation) {
+        return new Reservation(reservation.getId(),
+                reservation.getStartDateTime(),
+                reservation.getEndDateTime(), reservation.isCheckedIn(),
+                reservation.getUser(), reservation.isCancelled());
+    }
+
+    /**
+     * Copies the seat with one reservation replaced or removed.
+     *
+     * @param seat        the seat
+     * @param reservation the replaced reservation
+     * @param replacement the new reservation, null to remove it
+     * @return the copy of the seat
+     */
+    private static Seat replaceReservation(final Seat seat,
+                                           final Reservation reservation,
+                                           final Reservation replacement) {
+        List<Reservation> reservations =
+                new ArrayList<>(seat.getReservations());
+        int position = reservations.indexOf(reservation);
+        if (replacement == null) {
+            reservations.remove(position);
+        } else {
+            reservations.set(position, replacement);
+        }
+        return copyOf(seat, reservations);
+    }
+
+    /**
+     * Gives the reservations which are not cancelled
+     * and end after the start of the current day.
+     *
+     * @param reservations the reservations of a seat
+     * @return the active reservations in the same order
+     */
+    private static List<Reservation> activeOf(
+            final List<Reservation> reservations) {
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        List<Reservation> active = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            if (!reservation.isCancelled()
+                    && reservation.getEndDateTime().isAfter(startOfDay)) {
+                active.add(reservation);
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Applies the events of the journal to the state. The changes which
+     * are written behind are collected and written again once, because
+     * their writes may not have been done before the application
+     * stopped. They are written by id and only change existing rows.
+     */
+    private final class Replay implements BookingEvents {
+        /**
+         * The ids of the reservations of which the cancel was replayed.
+         */
+        private final Set<Long> cancelledIds = new HashSet<>();
+
+        /**
+         * The ids of the reservations of which the check in was replayed.
+         */
+        private final Set<Long> checkedInIds = new HashSet<>();
+
+        /**
+         * The last replayed availability by seat id.
+         */
+        private final Map<Long, Boolean> availabilities = new HashMap<>();
+
+        /**
+         * The amount of writes which are pending and not settled,
+         * by seat id.
+         */
+        private final Map<Long, Integer> unsettled = new HashMap<>();
+
+        /**
+         * Adds the seat or changes its details, keeping its reservations.
+         *
+         * @param floorId the id of the floor of the seat
+         * @param seat    the seat
+         */
+        @Override
+        public void seatSaved(final long floorId, final Seat seat) {
+            Long currentFloorId = floorOfSeat.get(seat.getId());
+            List<Reservation> reservations = List.of();
+            if (currentFloorId != null) {
+                reservations = findSeat(seat.getId()).getReservations();
+                if (currentFloorId != floorId) {
+                    unpublish(currentFloorId, seat.getId());
+                }
+            }
+            publish(floorId, copyOf(seat, reservations));
+        }
+
+        /**
+         * Removes the seat and its reservations.
+         *
+         * @param seatId the id of the seat
+         */
+        @Override
+        public void seatDeleted(final long seatId) {
+            Long floorId = floorOfSeat.remove(seatId);
+            if (floorId != null) {
+                floors.get(floorId).get(seatId).getReservations()
+                        .forEach(reservation -> seatOfReservation
+                                .remove(reservation.getId()));
+                unpublish(floorId, seatId);
+            }
+        }
+
+        /**
+         * Adds the reservation, which is already in the database.
+         *
+         * @param seatId      the id of the seat
+         * @param reservation the saved reservation
+         */
+        @Override
+        public void reserved(final long seatId,
+                             final Reservation reservation) {
+            if (floorOfSeat.containsKey(seatId)) {
+                putReservation(seatId, reservation);
+            }
+        }
+
+        /**
+         * Removes the reservation and keeps the cancel to write it again.
+         *
+         * @param seatId      the id of the seat
+         * @param reservation the cancelled reservation
+         */
+        @Override
+        public void cancelled(final long seatId,
+                              final Reservation reservation) {
+            cancelledIds.add(reservation.getId());
+            if (seatOfReservation.remove(reservation.getId()) != null) {
+                Seat seat = findSeat(seatId);
+                publish(floorOfSeat.get(seatId), copyOf(seat,
+                        seat.getReservations().stream()
+                                .filter(res -> !res.getId()
+                                        .equals(reservation.getId()))
+                                .toList()));
+            }
+        }
+
+        /**
+         * Replaces the reservation and keeps the check in
+         * to write it again.
+         *
+         * @param seatId      the id of the seat
+         * @param reservation the checked in reservation
+         */
+        @Override
+        public void checkedIn(final long seatId,
+                              final Reservation reservation) {
+            checkedInIds.add(reservation.getId());
+            if (floorOfSeat.containsKey(seatId)) {
+                putReservation(seatId, reservation);
+            }
+        }
+
+        /**
+         * Sets the availability and keeps it to write it again.
+         *
+         * @param seatId    the id of the seat
+         * @param available the new availability
+         */
+        @Override
+        public void availabilityChanged(final long seatId,
+                                        final boolean available) {
+            if (floorOfSeat.containsKey(seatId)) {
+                Seat seat = findSeat(seatId);
+                Seat changed = copyOf(seat, seat.getReservations());
+                changed.setAvailable(available);
+                publish(floorOfSeat.get(seatId), changed);
+            }
+            availabilities.put(seatId, available);
+        }
+
+        /**
+         * Counts a write which has started.
+         *
+         * @param seatId the id of the seat of the write
+         */
+        @Override
+        public void pending(final long seatId) {
+            unsettled.merge(seatId, 1, Integer::sum);
+        }
+
+        /**
+         * Counts a write which has settled.
+         *
+         * @param seatId the id of the seat of the write
+         */
+        @Override
+        public void settled(final long seatId) {
+            unsettled.computeIfPresent(seatId,
+                    (id, count) -> count == 1 ? null : count - 1);
+        }
+
+        /**
+         * Brings the replayed state in line with the database for the
+         * writes which never settled, which may be in the database but
+         * not in the journal. When no write is left open the database is
+         * not read. A write of the seats reconciles every seat, the
+         * inserts of reservations only read the reservations of their
+         * seats in one query.
+         */
+        void reconcile() {
+            if (unsettled.containsKey(ALL_SEATS)) {
+                reconcileAll();
+                return;
+            }
+            List<Long> seatIds = unsettled.keySet().stream()
+                    .filter(floorOfSeat::containsKey)
+                    .toList();
+            if (seatIds.isEmpty()) {
+                return;
+            }
+            LOGGER.info("Reconciling the reservations of {} seats",
+                    seatIds.size());
+            reservationRepository.findAllOfSeatsEndingAfter(seatIds,
+                            LocalDate.now().atStartOfDay())
+                    .forEach(stored -> {
+                        Long reservationId = stored.getReservation().getId();
+                        if (!seatOfReservation.containsKey(reservationId)
+                                && !cancelledIds.contains(reservationId)) {
+                            putReservation(stored.getSeatId(),
+                                    stored.getReservation());
+                        }
+                    });
+        }
+
+        /**
+         * Brings the replayed state in line with the whole database.
+         * The seats, their details and their floor, and the active
+         * reservations are taken from the database, except the cancels
+         * which were replayed, because their writes may still be queued.
+         * The availability and the check ins of the journal are kept,
+         * a check in is only taken from the database when the journal
+         * lost it.
+         */
+        private void reconcileAll() {
+            LOGGER.info("Reconciling all the seats");
+            Set<Long> storedSeatIds = new HashSet<>();
+            forEachStoredSeat((floorId, stored) -> {
+                storedSeatIds.add(stored.getId());
+                Long knownFloorId = floorOfSeat.get(stored.getId());
+                Seat known = knownFloorId == null
+                        ? null : findSeat(stored.getId());
+                List<Reservation> reservations = new ArrayList<>();
+                for (Reservation reservation : stored.getReservations()) {
+                    if (!cancelledIds.contains(reservation.getId())) {
+                        reservations.add(known == null ? reservation
+                                : knownVersionOf(known, reservation));
+                    }
+                }
+                if (known != null) {
+                    known.getReservations().forEach(reservation ->
+                            seatOfReservation.remove(reservation.getId()));
+                    if (!knownFloorId.equals(floorId)) {
+                        unpublish(knownFloorId, stored.getId());
+                    }
+                }
+                Seat reconciled = copyOf(stored, reservations);
+                reconciled.setAvailable(known == null
+                        ? stored.isAvailable() : known.isAvailable());
+                publish(floorId, reconciled);
+                reservations.forEach(reservation -> seatOfReservation
+                        .put(reservation.getId(), stored.getId()));
+            });
+            List.copyOf(floorOfSeat.keySet()).stream()
+                    .filter(seatId -> !storedSeatIds.contains(seatId))
+                    .forEach(this::seatDeleted);
+        }
+
+        /**
+         * Queues one write of the replayed cancels, check ins and
+         * availabilities. The check ins and availabilities are only
+         * written for the reservations and seats which are still known
+         * after the reconcile, the updates pass over missing rows.
+         */
+        void writeAgain() {
+            List<Long> cancelIds = List.copyOf(cancelledIds);
+            List<Long> checkInIds = checkedInIds.stream()
+                    .filter(seatOfReservation::containsKey)
+                    .toList();
+            List<Long> availableIds = new ArrayList<>();
+            List<Long> unavailableIds = new ArrayList<>();
+            availabilities.forEach((seatId, available) -> {
+                if (floorOfSeat.containsKey(seatId)) {
+                    (available ? availableIds : unavailableIds).add(seatId);
+                }
+            });
+            writeBehind(() -> {
+                if (!cancelIds.isEmpty()) {
+                    reservationRepository.cancelAll(cancelIds);
+                }
+                if (!checkInIds.isEmpty()) {
+                    reservationRepository.checkInAll(checkInIds);
+                }
+                if (!availableIds.isEmpty()) {
+                    seatRepository.updateAvailability(availableIds, true);
+                }
+                if (!unavailableIds.isEmpty()) {
+                    seatRepository.updateAvailability(unavailableIds,
+                            false);
+                }
+            });
+        }
+
+        /**
+         * Gives the journaled version of a stored reservation,
+         * unless only the stored one is checked in.
+         *
+         * @param known  the seat as it was replayed
+         * @param stored the reservation from the database
+         * @return the version of the reservation to keep
+         */
+        private Reservation knownVersionOf(final Seat known,
+                                           final Reservation stored) {
+            return known.getReservations().stream()
+                    .filter(reservation -> reservation.getId()
+                            .equals(stored.getId()))
+                    .filter(reservation -> reservation.isCheckedIn()
+                            || !stored.isCheckedIn())
+                    .findFirst()
+                    .orElse(stored);
+        }
+
+        /**
+         * Adds or replaces the reservation on the seat,
+         * keeping the reservations in start time order.
+         *
+         * @param seatId      the id of the seat
+         * @param reservation the reservation
+         */
+        private void putReservation(final long seatId,
+                                    final Reservation reservation) {
+            Seat seat = findSeat(seatId);
+            List<Reservation> reservations = new ArrayList<>();
+            for (Reservation existing : seat.getReservations()) {
+                if (!existing.getId().equals(reservation.getId())) {
+                    reservations.add(existing);
+                }
+            }
+            int position = reservations.size();
+            while (position > 0 && reservations.get(position - 1)
+                    .getStartDateTime()
+                    .isAfter(reservation.getStartDateTime())) {
+                position--;
+            }
+            reservations.add(position, reservation);
+            publish(floorOfSeat.get(seatId), copyOf(seat, reservations));
+            seatOfReservation.put(reservation.getId(), seatId);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Seat;
+
+/**
+ * The changes to the seats and reservations held by the booking engine.
+ * Each event holds the new state instead of the change, so applying
+ * an event a second time has no effect. Only the pending and settled
+ * writes are counted, they come in pairs.
+ */
+interface BookingEvents {
+    /**
+     * A seat is saved with the given details.
+     *
+     * @param floorId the id of the floor of the seat
+     * @param seat    the seat, its reservations are not part of the event
+     */
+    void seatSaved(long floorId, Seat seat);
+
+    /**
+     * A seat is deleted with its reservations.
+     *
+     * @param seatId the id of the seat
+     */
+    void seatDeleted(long seatId);
+
+    /**
+     * A reservation is made on a seat.
+     *
+     * @param seatId      the id of the seat
+     * @param reservation the saved reservation
+     */
+    void reserved(long seatId, Reservation reservation);
+
+    /**
+     * A reservation is cancelled.
+     *
+     * @param seatId      the id of the seat
+     * @param reservation the cancelled reservation
+     */
+    void cancelled(long seatId, Reservation reservation);
+
+    /**
+     * A reservation is checked in on.
+     *
+     * @param seatId      the id of the seat
+     * @param reservation the checked in reservation
+     */
+    void checkedIn(long seatId, Reservation reservation);
+
+    /**
+     * The availability of a seat is changed.
+     *
+     * @param seatId    the id of the seat
+     * @param available the new availability
+     */
+    void availabilityChanged(long seatId, boolean available);
+
+    /**
+     * A change of a seat is being written to the database,
+     * before it is journaled.
+     *
+     * @param seatId the id of the seat, or {@link BookingEngine#ALL_SEATS}
+     *               when the write may change any seat
+     */
+    void pending(long seatId);
+
+    /**
+     * A pending write of a seat is journaled or has failed.
+     *
+     * @param seatId the id of the seat, or {@link BookingEngine#ALL_SEATS}
+     *               when the write may change any seat
+     */
+    void settled(long seatId);
+}
@@ -0,0 +1,798 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * An append-only journal of the booking events in memory mapped files.
+ * An appended event survives a crash of the application, because it is
+ * in the mapped pages, and a crash of the machine once it is forced.
+ * The journal is only forced when a file is full, on a snapshot and on
+ * shutdown, not on every event, so the events since the last force are
+ * lost when the machine crashes.
+ * A snapshot holds the state at the start of a journal file as events,
+ * so the state is rebuilt from the last snapshot and the journal files
+ * after it. Every file name ends with its generation.
+ */
+@Service
+@ConditionalOnProperty(name = BookingEngine.ENABLED_PROPERTY,
+        havingValue = "true")
+class BookingJournal implements BookingEvents {
+    /**
+     * The start of the name of a journal file.
+     */
+    private static final String JOURNAL_PREFIX = "journal-";
+
+    /**
+     * The start of the name of a snapshot file.
+     */
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+
+    /**
+     * The end of the name of a file.
+     */
+    private static final String SUFFIX = ".bin";
+
+    /**
+     * The end of the name of a snapshot which is being written.
+     */
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * The amount of bytes in a megabyte.
+     */
+    private static final int BYTES_PER_MB = 1 << 20;
+
+    /**
+     * The maximum amount of bytes of an event.
+     */
+    private static final int MAX_RECORD_BYTES = 1 << 16;
+
+    /**
+     * The type of a saved seat.
+     */
+    private static final byte SEAT_SAVED = 1;
+
+    /**
+     * The type of a deleted seat.
+     */
+    private static final byte SEAT_DELETED = 2;
+
+    /**
+     * The type of a new reservation.
+     */
+    private static final byte RESERVED = 3;
+
+    /**
+     * The type of a cancelled reservation.
+     */
+    private static final byte CANCELLED = 4;
+
+    /**
+     * The type of a checked in reservation.
+     */
+    private static final byte CHECKED_IN = 5;
+
+    /**
+     * The type of a changed availability.
+     */
+    private static final byte AVAILABILITY_CHANGED = 6;
+
+    /**
+     * The type of a pending write.
+     */
+    private static final byte PENDING = 7;
+
+    /**
+     * The type of a settled write.
+     */
+    private static final byte SETTLED = 8;
+
+    /**
+     * The length of a string which is null.
+     */
+    private static final short NULL_LENGTH = -1;
+
+    /**
+     * Represents the directory of the files.
+     */
+    private final Path directory;
+
+    /**
+     * Represents the size of a journal file in bytes.
+     */
+    private final int capacity;
+
+    /**
+     * Guards the journal file and its generation.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Encodes the appended events into the journal file.
+     */
+    private final Encoder appender = new Encoder() {
+        @Override
+        protected void write(final ByteBuffer encoded) {
+            append(encoded);
+        }
+    };
+
+    /**
+     * Represents the generation of the journal file.
+     */
+    private long generation;
+
+    /**
+     * Represents the journal file in which events are appended.
+     */
+    private MappedByteBuffer journal;
+
+    /**
+     * Creates a journal in the directory.
+     *
+     * @param directory the directory of the files
+     * @param sizeMb    the size of a journal file in megabytes
+     */
+    @Autowired
+    BookingJournal(
+            @Value("${booking.journal.directory:journal}")
+            final String directory,
+            @Value("${booking.journal.size.mb:64}") final int sizeMb) {
+        this.directory = Paths.get(directory);
+        this.capacity = sizeMb * BYTES_PER_MB;
+    }
+
+    /**
+     * Gives the events of the last snapshot and the journal files
+     * after it to the target and opens a new journal file.
+     *
+     * @param target the target of the events
+     * @return true if there was a snapshot or a journal file
+     */
+    boolean replay(final BookingEvents target) {
+        lock.lock();
+        try {
+            Files.createDirectories(directory);
+            long snapshot = generations(SNAPSHOT_PREFIX).stream()
+                    .max(Long::compare).orElse(0L);
+            List<Long> journals = generations(JOURNAL_PREFIX).stream()
+                    .filter(journalGeneration -> journalGeneration >= snapshot)
+                    .sorted()
+                    .toList();
+            if (snapshot > 0) {
+                decode(read(file(SNAPSHOT_PREFIX, snapshot)), target);
+            }
+            for (long journalGeneration : journals) {
+                decode(read(file(JOURNAL_PREFIX, journalGeneration)), target);
+            }
+            generation = journals.isEmpty()
+                    ? snapshot : journals.get(journals.size() - 1);
+            openNextJournal();
+            return snapshot > 0 || !journals.isEmpty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes a snapshot and deletes the files before it.
+     * The state is captured while a new journal file is opened,
+     * so every event before the new file is part of the state.
+     * The events appended after the capture are also in the new file.
+     *
+     * @param capture     captures the state, which is written
+     *                    as events to the snapshot
+     * @param beforeWrite runs after the capture, before the snapshot
+     *                    is written and the old files are deleted
+     */
+    void snapshot(final Supplier<Consumer<BookingEvents>> capture,
+                  final Runnable beforeWrite) {
+        long snapshot;
+        Consumer<BookingEvents> state;
+        lock.lock();
+        try {
+            journal.force();
+            openNextJournal();
+            snapshot = generation;
+            state = capture.get();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+        beforeWrite.run();
+
+        Path temporary = directory.resolve(
+                SNAPSHOT_PREFIX + snapshot + TEMPORARY_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temporary,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                state.accept(new Encoder() {
+                    @Override
+                    protected void write(final ByteBuffer encoded)
+                            throws IOException {
+                        encoded.putInt(0,
+                                encoded.remaining() - Integer.BYTES);
+                        while (encoded.hasRemaining()) {
+                            channel.write(encoded);
+                        }
+                    }
+                });
+                channel.force(true);
+            }
+            Files.move(temporary, file(SNAPSHOT_PREFIX, snapshot),
+                    StandardCopyOption.ATOMIC_MOVE);
+            deleteBefore(SNAPSHOT_PREFIX, snapshot);
+            deleteBefore(JOURNAL_PREFIX, snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Forces the appended events to the disk.
+     */
+    void force() {
+        lock.lock();
+        try {
+            if (journal != null) {
+                journal.force();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a saved seat.
+     *
+     * @param floorId the id of the floor of the seat
+     * @param seat    the seat
+     */
+    @Override
+    public void seatSaved(final long floorId, final Seat seat) {
+        lock.lock();
+        try {
+            appender.seatSaved(floorId, seat);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a deleted seat.
+     *
+     * @param seatId the id of the seat
+     */
+    @Override
+    public void seatDeleted(final long seatId) {
+        lock.lock();
+        try {
+            appender.seatDeleted(seatId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a new reservation.
+     *
+     * @param seatId      the id of the seat
+     * @param reservation the saved reservation
+     */
+    @Override
+    public void reserved(final long seatId, final Reservation reservation) {
+        lock.lock();
+        try {
+            appender.reserved(seatId, reservation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a cancelled reservation.
+     *
+     * @param seatId      the id of the seat
+     * @param reservation the cancelled reservation
+     */
+    @Override
+    public void cancelled(final long seatId, final Reservation reservation) {
+        lock.lock();
+        try {
+            appender.cancelled(seatId, reservation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a checked in reservation.
+     *
+     * @param seatId      the id of the seat
+     * @param reservation the checked in reservation
+     */
+    @Override
+    public void checkedIn(final long seatId, final Reservation reservation) {
+        lock.lock();
+        try {
+            appender.checkedIn(seatId, reservation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a changed availability.
+     *
+     * @param seatId    the id of the seat
+     * @param available the new availability
+     */
+    @Override
+    public void availabilityChanged(final long seatId,
+                                    final boolean available) {
+        lock.lock();
+        try {
+            appender.availabilityChanged(seatId, available);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a pending write.
+     *
+     * @param seatId the id of the seat
+     */
+    @Override
+    public void pending(final long seatId) {
+        lock.lock();
+        try {
+            appender.pending(seatId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a settled write.
+     *
+     * @param seatId the id of the seat
+     */
+    @Override
+    public void settled(final long seatId) {
+        lock.lock();
+        try {
+            appender.settled(seatId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends an encoded event to the journal file, opening the next
+     * file when it is full. The length is written after the event,
+     * so an event which is not completely written is never read.
+     *
+     * @param encoded the event with room for its length in front
+     */
+    private void append(final ByteBuffer encoded) {
+        if (journal.remaining() < encoded.remaining() + Integer.BYTES) {
+            try {
+                journal.force();
+                openNextJournal();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        int start = journal.position();
+        int length = encoded.remaining() - Integer.BYTES;
+        encoded.position(Integer.BYTES);
+        journal.position(start + Integer.BYTES);
+        journal.put(encoded);
+        journal.putInt(start, length);
+    }
+
+    /**
+     * Opens the journal file of the next generation.
+     *
+     * @throws IOException when the file can not be created
+     */
+    private void openNextJournal() throws IOException {
+        generation++;
+        try (FileChannel channel = FileChannel.open(
+                file(JOURNAL_PREFIX, generation),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            journal = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    capacity);
+        }
+    }
+
+    /**
+     * Maps a file to read it.
+     *
+     * @param file the file
+     * @return the content of the file
+     * @throws IOException when the file can not be read
+     */
+    private static ByteBuffer read(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+        }
+    }
+
+    /**
+     * Gives the events in the buffer to the target, up to the first
+     * event which is not completely written.
+     *
+     * @param buffer the events
+     * @param target the target of the events
+     */
+    private static void decode(final ByteBuffer buffer,
+                               final BookingEvents target) {
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                return;
+            }
+            int next = buffer.position() + length;
+            byte type = buffer.get();
+            switch (type) {
+                case SEAT_SAVED -> target.seatSaved(buffer.getLong(),
+                        getSeat(buffer));
+                case SEAT_DELETED -> target.seatDeleted(buffer.getLong());
+                case RESERVED -> target.reserved(buffer.getLong(),
+                        getReservation(buffer));
+                case CANCELLED -> target.cancelled(buffer.getLong(),
+                        getReservation(buffer));
+                case CHECKED_IN -> target.checkedIn(buffer.getLong(),
+                        getReservation(buffer));
+                case AVAILABILITY_CHANGED -> target.availabilityChanged(
+                        buffer.getLong(), buffer.get() != 0);
+                case PENDING -> target.pending(buffer.getLong());
+                case SETTLED -> target.settled(buffer.getLong());
+                default -> throw new IllegalStateException(
+                        "Unknown event in the booking journal: " + type);
+            }
+            buffer.position(next);
+        }
+    }
+
+    /**
+     * Reads a seat without its reservations.
+     *
+     * @param buffer the buffer at the seat
+     * @return the seat
+     */
+    private static Seat getSeat(final ByteBuffer buffer) {
+        long id = buffer.getLong();
+        String name = getString(buffer);
+        boolean available = buffer.get() != 0;
+        int xCoordinates = buffer.getInt();
+        int yCoordinates = buffer.getInt();
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        return new Seat(id, name, available, xCoordinates, yCoordinates,
+                width, height, List.of());
+    }
+
+    /**
+     * Reads a reservation with the email, name and role of its user.
+     *
+     * @param buffer the buffer at the reservation
+     * @return the reservation
+     */
+    private static Reservation getReservation(final ByteBuffer buffer) {
+        long id = buffer.getLong();
+        LocalDateTime start = getTime(buffer);
+        LocalDateTime end = getTime(buffer);
+        boolean checkedIn = buffer.get() != 0;
+        boolean cancelled = buffer.get() != 0;
+        String email = getString(buffer);
+        String fullName = getString(buffer);
+        String role = getString(buffer);
+        return new Reservation(id, start, end, checkedIn,
+                new User(email, null, fullName,
+                        role == null ? null : Role.valueOf(role)),
+                cancelled);
+    }
+
+    /**
+     * Reads a time.
+     *
+     * @param buffer the buffer at the time
+     * @return the time
+     */
+    private static LocalDateTime getTime(final ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        return LocalDateTime.ofEpochSecond(seconds, buffer.getInt(),
+                ZoneOffset.UTC);
+    }
+
+    /**
+     * Reads a string.
+     *
+     * @param buffer the buffer at the string
+     * @return the string, can be null
+     */
+    private static String getString(final ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gives the generations of the files with the prefix.
+     *
+     * @param prefix the start of the names of the files
+     * @return the generations
+     * @throws IOException when the directory can not be read
+     */
+    private List<Long> generations(final String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix)
+                            && name.endsWith(SUFFIX))
+                    .map(name -> Long.valueOf(name.substring(prefix.length(),
+                            name.length() - SUFFIX.length())))
+                    .toList();
+        }
+    }
+
+    /**
+     * Deletes the files with the prefix before the generation.
+     *
+     * @param prefix          the start of the names of the files
+     * @param firstGeneration the first generation which is kept
+     * @throws IOException when a file can not be deleted
+     */
+    private void deleteBefore(final String prefix,
+                              final long firstGeneration)
+            throws IOException {
+        for (long fileGeneration : generations(prefix)) {
+            if (fileGeneration < firstGeneration) {
+                Files.delete(file(prefix, fileGeneration));
+            }
+        }
+    }
+
+    /**
+     * Gives the file with the prefix and generation.
+     *
+     * @param prefix         the start of the name of the file
+     * @param fileGeneration the generation of the file
+     * @return the path of the file
+     */
+    private Path file(final String prefix, final long fileGeneration) {
+        return directory.resolve(prefix + fileGeneration + SUFFIX);
+    }
+
+    /**
+     * Encodes events, each with room for its length in front.
+     */
+    private abstract static class Encoder implements BookingEvents {
+        /**
+         * The buffer of the event which is encoded.
+         */
+        private final ByteBuffer record =
+                ByteBuffer.allocate(MAX_RECORD_BYTES);
+
+        /**
+         * Writes an encoded event.
+         *
+         * @param encoded the event with room for its length in front
+         * @throws IOException when the event can not be written
+         */
+        protected abstract void write(ByteBuffer encoded)
+                throws IOException;
+
+        /**
+         * Encodes a saved seat.
+         *
+         * @param floorId the id of the floor of the seat
+         * @param seat    the seat
+         */
+        @Override
+        public void seatSaved(final long floorId, final Seat seat) {
+            start(SEAT_SAVED).putLong(floorId).putLong(seat.getId());
+            putString(seat.getName());
+            record.put((byte) (seat.isAvailable() ? 1 : 0))
+                    .putInt(seat.getXCoordinates())
+                    .putInt(seat.getYCoordinates())
+                    .putInt(seat.getWidth())
+                    .putInt(seat.getHeight());
+            finish();
+        }
+
+        /**
+         * Encodes a deleted seat.
+         *
+         * @param seatId the id of the seat
+         */
+        @Override
+        public void seatDeleted(final long seatId) {
+            start(SEAT_DELETED).putLong(seatId);
+            finish();
+        }
+
+        /**
+         * Encodes a new reservation.
+         *
+         * @param seatId      the id of the seat
+         * @param reservation the saved reservation
+         */
+        @Override
+        public void reserved(final long seatId,
+                             final Reservation reservation) {
+            start(RESERVED).putLong(seatId);
+            putReservation(reservation);
+            finish();
+        }
+
+        /**
+         * Encodes a cancelled reservation.
+         *
+         * @param seatId      the id of the seat
+         * @param reservation the cancelled reservation
+         */
+        @Override
+        public void cancelled(final long seatId,
+                              final Reservation reservation) {
+            start(CANCELLED).putLong(seatId);
+            putReservation(reservation);
+            finish();
+        }
+
+        /**
+         * Encodes a checked in reservation.
+         *
+         * @param seatId      the id of the seat
+         * @param reservation the checked in reservation
+         */
+        @Override
+        public void checkedIn(final long seatId,
+                              final Reservation reservation) {
+            start(CHECKED_IN).putLong(seatId);
+            putReservation(reservation);
+            finish();
+        }
+
+        /**
+         * Encodes a changed availability.
+         *
+         * @param seatId    the id of the seat
+         * @param available the new availability
+         */
+        @Override
+        public void availabilityChanged(final long seatId,
+                                        final boolean available) {
+            start(AVAILABILITY_CHANGED).putLong(seatId)
+                    .put((byte) (available ? 1 : 0));
+            finish();
+        }
+
+        /**
+         * Encodes a pending write.
+         *
+         * @param seatId the id of the seat
+         */
+        @Override
+        public void pending(final long seatId) {
+            start(PENDING).putLong(seatId);
+            finish();
+        }
+
+        /**
+         * Encodes a settled write.
+         *
+         * @param seatId the id of the seat
+         */
+        @Override
+        public void settled(final long seatId) {
+            start(SETTLED).putLong(seatId);
+            finish();
+        }
+
+        /**
+         * Starts an event of the type.
+         *
+         * @param type the type of the event
+         * @return the buffer of the event
+         */
+        private ByteBuffer start(final byte type) {
+            record.clear();
+            record.putInt(0);
+            return record.put(type);
+        }
+
+        /**
+         * Writes the encoded event.
+         */
+        private void finish() {
+            record.flip();
+            try {
+                write(record);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Encodes a reservation with the email, name and role of its user.
+         *
+         * @param reservation the reservation
+         */
+        private void putReservation(final Reservation reservation) {
+            record.putLong(reservation.getId());
+            putTime(reservation.getStartDateTime());
+            putTime(reservation.getEndDateTime());
+            record.put((byte) (reservation.isCheckedIn() ? 1 : 0))
+                    .put((byte) (reservation.isCancelled() ? 1 : 0));
+            User user = reservation.getUser();
+            putString(user.getEmail());
+            putString(user.getFullName());
+            putString(user.getRole() == null
+                    ? null : user.getRole().name());
+        }
+
+        /**
+         * Encodes a time.
+         *
+         * @param time the time
+         */
+        private void putTime(final LocalDateTime time) {
+            record.putLong(time.toEpochSecond(ZoneOffset.UTC))
+                    .putInt(time.getNano());
+        }
+
+        /**
+         * Encodes a string.
+         *
+         * @param value the string, can be null
+         */
+        private void putString(final String value) {
+            if (value == null) {
+                record.putShort(NULL_LENGTH);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            record.putShort((short) bytes.length).put(bytes);
+        }
+    }
+}
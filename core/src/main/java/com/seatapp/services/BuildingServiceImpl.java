@@ -2,7 +2,6 @@ package com.seatapp.services;
 
 import com.seatapp.domain.Building;
 import com.seatapp.domain.Floor;
-import com.seatapp.domain.Seat;
 import com.seatapp.exceptions.EntityNotFoundException;
 import com.seatapp.repositories.BuildingRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,14 +18,23 @@ public class BuildingServiceImpl implements BuildingService {
      */
     private final BuildingRepository buildingRepository;
 
+    /**
+     * Represents the cache of the floor geometry.
+     */
+    private final FloorGeometryService floorGeometryService;
+
     /**
      * Creates a service with the specified repository.
      *
-     * @param buildingRepository The building repository.
+     * @param buildingRepository   The building repository.
+     * @param floorGeometryService The cache of the floor geometry.
      */
     @Autowired
-    public BuildingServiceImpl(final BuildingRepository buildingRepository) {
+    public BuildingServiceImpl(final BuildingRepository buildingRepository,
+                               final FloorGeometryService
+                                       floorGeometryService) {
         this.buildingRepository = buildingRepository;
+        this.floorGeometryService = floorGeometryService;
     }
 
     /**
@@ -52,27 +60,8 @@ public class BuildingServiceImpl implements BuildingService {
     public Building getByIdAndFloorIdAndDate(final long buildingId,
                                              final long floorId,
                                              final LocalDate date) {
-        Building building = buildingRepository.findById(buildingId);
-        Floor floor = building.getFloors().stream()
-                .filter(filterFloor -> filterFloor.getId() == floorId)
-                .findFirst()
-                .orElseThrow(() ->
-                        new EntityNotFoundException(
-                                "This floor does not exist."));
-
-        List<Seat> seats = floor.getSeats();
-        for (Seat s : seats) {
-            s.setReservations(s.getReservations().stream()
-                    .filter(reservation -> reservation.getStartDateTime()
-                            .toLocalDate().equals(date))
-                    .filter(reservation -> !reservation.isCancelled())
-                    .toList());
-        }
-
-        floor.setSeats(seats);
-        building.setFloors(List.of(floor));
-
-        return building;
+        return buildingRepository.findByIdAndFloorIdAndDate(buildingId,
+                floorId, date);
     }
 
     /**
@@ -141,7 +130,9 @@ public class BuildingServiceImpl implements BuildingService {
         newFloors.addAll(getNewFloors(changedBuilding));
         existingBuilding.setFloors(newFloors);
 
-        return buildingRepository.save(existingBuilding);
+        Building savedBuilding = buildingRepository.save(existingBuilding);
+        floorGeometryService.invalidate();
+        return savedBuilding;
     }
 
     /**
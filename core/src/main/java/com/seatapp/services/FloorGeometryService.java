@@ -0,0 +1,22 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.FloorGeometry;
+
+public interface FloorGeometryService {
+    /**
+     * Gets the geometry of a floor: its walls and the position
+     * and size of its seats. The geometry is shared between callers
+     * and must not be changed.
+     *
+     * @param buildingId the building id
+     * @param floorId    the floor id
+     * @return the geometry with the version it was read from
+     */
+    FloorGeometry getGeometry(long buildingId, long floorId);
+
+    /**
+     * Marks all the cached geometry as outdated.
+     * Must be called after a change to a building, floor or seat.
+     */
+    void invalidate();
+}
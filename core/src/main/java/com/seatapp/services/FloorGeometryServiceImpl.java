@@ -0,0 +1,110 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Building;
+import com.seatapp.domain.Floor;
+import com.seatapp.domain.FloorGeometry;
+import com.seatapp.domain.Seat;
+import com.seatapp.exceptions.EntityNotFoundException;
+import com.seatapp.repositories.BuildingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class FloorGeometryServiceImpl implements FloorGeometryService {
+    /**
+     * Represents the building repository.
+     */
+    private final BuildingRepository buildingRepository;
+
+    /**
+     * Represents the version of the floor plans,
+     * raised on every change to a building, floor or seat.
+     * It starts from the start time, so versions are not reused
+     * after a restart.
+     */
+    private final AtomicLong version =
+            new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Represents the cached geometry by floor id.
+     */
+    private final Map<Long, FloorGeometry> geometries =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates a service with the specified repository.
+     *
+     * @param buildingRepository The building repository.
+     */
+    @Autowired
+    public FloorGeometryServiceImpl(
+            final BuildingRepository buildingRepository) {
+        this.buildingRepository = buildingRepository;
+    }
+
+    /**
+     * Gets the geometry of a floor: its walls and the position
+     * and size of its seats. The geometry is read from the database
+     * once per version and shared between callers.
+     *
+     * @param buildingId the building id
+     * @param floorId    the floor id
+     * @return the geometry with the version it was read from
+     */
+    @Override
+    public FloorGeometry getGeometry(final long buildingId,
+                                     final long floorId) {
+        long currentVersion = version.get();
+        FloorGeometry geometry = geometries.get(floorId);
+        if (geometry == null || geometry.getVersion() != currentVersion) {
+            geometry = new FloorGeometry(currentVersion,
+                    loadGeometry(buildingId, floorId));
+            geometries.put(floorId, geometry);
+        } else if (geometry.getBuilding().getId() != buildingId) {
+            throw new EntityNotFoundException("This floor does not exist.");
+        }
+        return geometry;
+    }
+
+    /**
+     * Marks all the cached geometry as outdated.
+     * Must be called after a change to a building, floor or seat.
+     */
+    @Override
+    public void invalidate() {
+        version.incrementAndGet();
+        geometries.clear();
+    }
+
+    /**
+     * Reads the geometry of a floor from the database.
+     *
+     * @param buildingId the building id
+     * @param floorId    the floor id
+     * @return the building with only the floor and its seats
+     * without reservations
+     */
+    private Building loadGeometry(final long buildingId,
+                                  final long floorId) {
+        Building building = buildingRepository
+                .findGeometryByIdAndFloorId(buildingId, floorId);
+        Floor floor = building.getFloors().get(0);
+        List<Seat> seats = floor.getSeats().stream()
+                .map(seat -> new Seat(seat.getId(), seat.getName(),
+                        seat.isAvailable(),
+                        seat.getXCoordinates(),
+                        seat.getYCoordinates(),
+                        seat.getWidth(),
+                        seat.getHeight(),
+                        List.of()))
+                .toList();
+        return new Building(building.getId(), building.getName(),
+                List.of(new Floor(floor.getId(), floor.getName(),
+                        List.copyOf(floor.getPoints()), seats)));
+    }
+}
@@ -2,8 +2,12 @@ package com.seatapp.services;
 
 
 import com.seatapp.domain.Floor;
+import com.seatapp.domain.FreeSeat;
 import com.seatapp.domain.Seat;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface FloorService {
     /**
      * Adds the seat to the floor.
@@ -21,4 +25,17 @@ public interface FloorService {
      * @return the found floor
      */
     Floor findById(long floorId);
+
+    /**
+     * Finds the available seats of the floor without a non cancelled
+     * reservation during the period, the seats with the longest
+     * free time around the period first.
+     *
+     * @param floorId the floor id
+     * @param from    the start of the period
+     * @param to      the end of the period, on the same day
+     * @return the free seats
+     */
+    List<FreeSeat> findFreeSeats(long floorId, LocalDateTime from,
+                                 LocalDateTime to);
 }
@@ -1,13 +1,20 @@
 package com.seatapp.services;
 
+import com.seatapp.domain.DayOccupancy;
 import com.seatapp.domain.Floor;
+import com.seatapp.domain.FreeSeat;
+import com.seatapp.domain.Reservation;
 import com.seatapp.domain.Seat;
+import com.seatapp.domain.SlotOccupancy;
 import com.seatapp.repositories.FloorRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 class FloorServiceImpl implements FloorService {
@@ -16,14 +23,30 @@ class FloorServiceImpl implements FloorService {
      */
     private final FloorRepository floorRepository;
 
+    /**
+     * Represents the cache of the floor geometry.
+     */
+    private final FloorGeometryService floorGeometryService;
+
+    /**
+     * Represents the occupancy of the seats per day.
+     */
+    private final OccupancyService occupancyService;
+
     /**
      * Creates a service with the specified repository.
      *
-     * @param floorRepository the floor repository
+     * @param floorRepository      the floor repository
+     * @param floorGeometryService the cache of the floor geometry
+     * @param occupancyService     the occupancy of the seats per day
      */
     @Autowired
-    FloorServiceImpl(final FloorRepository floorRepository) {
+    FloorServiceImpl(final FloorRepository floorRepository,
+                     final FloorGeometryService floorGeometryService,
+                     final OccupancyService occupancyService) {
         this.floorRepository = floorRepository;
+        this.floorGeometryService = floorGeometryService;
+        this.occupancyService = occupancyService;
     }
 
     /**
@@ -39,7 +62,9 @@ class FloorServiceImpl implements FloorService {
         List<Seat> seats = new ArrayList<>(floor.getSeats());
         seats.add(seat);
         floor.setSeats(seats);
-        return floorRepository.save(floor);
+        Floor savedFloor = floorRepository.save(floor);
+        floorGeometryService.invalidate();
+        return savedFloor;
     }
 
     /**
@@ -52,4 +77,131 @@ class FloorServiceImpl implements FloorService {
     public Floor findById(final long floorId) {
         return floorRepository.findById(floorId);
     }
+
+    /**
+     * Finds the available seats of the floor without a non cancelled
+     * reservation during the period, the seats with the longest
+     * free time around the period first. The free time is read from
+     * the occupancy of the seats on the day instead of their
+     * reservations.
+     *
+     * @param floorId the floor id
+     * @param from    the start of the period
+     * @param to      the end of the period, on the same day
+     * @return the free seats
+     */
+    @Override
+    public List<FreeSeat> findFreeSeats(final long floorId,
+                                        final LocalDateTime from,
+                                        final LocalDateTime to) {
+        checkPeriod(from, to);
+        long occupancyVersion = occupancyService.getVersion();
+        List<Seat> seats = floorRepository
+                .findByIdWithReservationsByDate(floorId, from.toLocalDate())
+                .getSeats();
+        return rankFreeSeats(seats, from, to, occupancyVersion);
+    }
+
+    /**
+     * Checks that the period of a free seat search
+     * ends after its start, on the same day.
+     *
+     * @param from the start of the period
+     * @param to   the end of the period
+     */
+    static void checkPeriod(final LocalDateTime from,
+                            final LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException(
+                    "The start has to be before the end.");
+        }
+        if (to.isAfter(from.toLocalDate().plusDays(1).atStartOfDay())) {
+            throw new IllegalArgumentException(
+                    "The start and end have to be on the same day.");
+        }
+    }
+
+    /**
+     * Ranks the available seats without a non cancelled reservation
+     * during the period, the seats with the longest free time
+     * around the period first. The slots of the seats only rule out
+     * the seats booked inside the period; when a slot at the edge of
+     * the period is occupied, the reservations of the seat tell if it
+     * is free.
+     *
+     * @param seats            the seats with their reservations of the day
+     * @param from             the start of the period
+     * @param to               the end of the period, on the same day
+     * @param occupancyVersion the occupancy version read
+     *                         before the seats were loaded
+     * @return the free seats
+     */
+    List<FreeSeat> rankFreeSeats(final List<Seat> seats,
+                                 final LocalDateTime from,
+                                 final LocalDateTime to,
+                                 final long occupancyVersion) {
+        DayOccupancy occupancy = occupancyService.getDayOccupancy(
+                from.toLocalDate(), seats, occupancyVersion);
+
+        List<FreeSeat> freeSeats = new ArrayList<>();
+        for (Seat seat : seats) {
+            SlotOccupancy slots = occupancy.getOfSeat(seat);
+            if (!seat.isAvailable() || !slots.isFreeInside(from, to)) {
+                continue;
+            }
+            findFreeTime(seat, slots, from, to).ifPresent(freeSeats::add);
+        }
+        freeSeats.sort(Comparator.comparing(FreeSeat::getFreeTime)
+                .reversed()
+                .thenComparing(freeSeat -> freeSeat.getSeat().getId()));
+        return freeSeats;
+    }
+
+    /**
+     * Finds the free time of a seat around the period. The free slots
+     * around the period give its bounds to the slot, the reservations
+     * which end or start in the occupied slots next to them give the
+     * exact moments.
+     *
+     * @param seat  the seat with its reservations of the day
+     * @param slots the occupancy of the seat on the day
+     * @param from  the start of the period
+     * @param to    the end of the period
+     * @return the free seat, empty when a non cancelled reservation
+     * overlaps with the period
+     */
+    private static Optional<FreeSeat> findFreeTime(final Seat seat,
+                                                   final SlotOccupancy slots,
+                                                   final LocalDateTime from,
+                                                   final LocalDateTime to) {
+        LocalDateTime slotsFreeFrom = slots.freeFrom(from);
+        LocalDateTime slotsFreeUntil = slots.freeUntil(to);
+        LocalDateTime boundaryStart = slotsFreeFrom
+                .minusMinutes(SlotOccupancy.SLOT_MINUTES);
+        LocalDateTime boundaryEnd = slotsFreeUntil
+                .plusMinutes(SlotOccupancy.SLOT_MINUTES);
+        LocalDateTime freeFrom = null;
+        LocalDateTime freeUntil = null;
+        for (Reservation reservation : seat.getReservations()) {
+            if (reservation.isCancelled()) {
+                continue;
+            }
+            LocalDateTime start = reservation.getStartDateTime();
+            LocalDateTime end = reservation.getEndDateTime();
+            if (start.isBefore(to) && end.isAfter(from)) {
+                return Optional.empty();
+            }
+            if (!end.isAfter(from) && end.isAfter(boundaryStart)
+                    && (freeFrom == null || end.isAfter(freeFrom))) {
+                freeFrom = end;
+            }
+            if (!start.isBefore(to) && start.isBefore(boundaryEnd)
+                    && (freeUntil == null || start.isBefore(freeUntil))) {
+                freeUntil = start;
+            }
+        }
+        return Optional.of(new FreeSeat(seat,
+                freeFrom == null ? slotsFreeFrom : freeFrom,
+                freeUntil == null ? slotsFreeUntil : freeUntil));
+    }
 }
@@ -0,0 +1,158 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Building;
+import com.seatapp.domain.Floor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The building service used when the booking engine is enabled.
+ * The floor plan of a day is made of the cached geometry of the floor
+ * and the seats of the floor in the engine, the other requests
+ * go to the database and keep the engine up to date.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = BookingEngine.ENABLED_PROPERTY,
+        havingValue = "true")
+class InMemoryBuildingService implements BuildingService {
+    /**
+     * Represents the building service on the database.
+     */
+    private final BuildingServiceImpl buildingService;
+
+    /**
+     * Represents the booking engine.
+     */
+    private final BookingEngine bookingEngine;
+
+    /**
+     * Represents the cache of the floor geometry.
+     */
+    private final FloorGeometryService floorGeometryService;
+
+    /**
+     * Creates a service on the booking engine.
+     *
+     * @param buildingService      the building service on the database
+     * @param bookingEngine        the booking engine
+     * @param floorGeometryService the cache of the floor geometry
+     */
+    @Autowired
+    InMemoryBuildingService(final BuildingServiceImpl buildingService,
+                            final BookingEngine bookingEngine,
+                            final FloorGeometryService floorGeometryService) {
+        this.buildingService = buildingService;
+        this.bookingEngine = bookingEngine;
+        this.floorGeometryService = floorGeometryService;
+    }
+
+    /**
+     * Get all the buildings.
+     *
+     * @return a list of the found buildings
+     */
+    @Override
+    public List<Building> getAll() {
+        return buildingService.getAll();
+    }
+
+    /**
+     * Gets the building with only the floor and the seats of the floor
+     * with their reservations starting on the date.
+     * The days before the current day are read from the database.
+     *
+     * @param buildingId the building id
+     * @param floorId    the floor id
+     * @param date       the date for filtering the reservations
+     * @return the found building
+     */
+    @Override
+    public Building getByIdAndFloorIdAndDate(final long buildingId,
+                                             final long floorId,
+                                             final LocalDate date) {
+        if (date.isBefore(LocalDate.now())) {
+            return buildingService.getByIdAndFloorIdAndDate(buildingId,
+                    floorId, date);
+        }
+        Building geometry = floorGeometryService
+                .getGeometry(buildingId, floorId).getBuilding();
+        Floor floor = geometry.getFloors().get(0);
+        return new Building(geometry.getId(), geometry.getName(),
+                List.of(new Floor(floor.getId(), floor.getName(),
+                        floor.getPoints(), bookingEngine
+                        .getSeatsOfFloorWithReservationsOn(floorId, date))));
+    }
+
+    /**
+     * Gets the building by building id and floor id.
+     *
+     * @param buildingId the building id
+     * @param floorId    the floor id
+     * @return the found building
+     */
+    @Override
+    public Building getByIdAndFloorId(final long buildingId,
+                                      final long floorId) {
+        return buildingService.getByIdAndFloorId(buildingId, floorId);
+    }
+
+    /**
+     * get building by building id.
+     *
+     * @param buildingId the building id
+     * @return the found building
+     */
+    @Override
+    public Building getById(final long buildingId) {
+        return buildingService.getById(buildingId);
+    }
+
+    /**
+     * Creates a building and puts the seats of its floors in the engine.
+     *
+     * @param building the building that will be created.
+     * @return the created building
+     */
+    @Override
+    public Building createBuilding(final Building building) {
+        return bookingEngine.writeSeats(() ->
+                putSeats(buildingService.createBuilding(building)));
+    }
+
+    /**
+     * Changes an existing building and puts the seats of its floors
+     * in the engine.
+     *
+     * @param buildingId      the id of the building
+     * @param changedBuilding the building with the changes
+     *                        for the existing building
+     * @return the changed building
+     */
+    @Override
+    public Building updateBuilding(final Long buildingId,
+                                   final Building changedBuilding) {
+        return bookingEngine.writeSeats(() ->
+                putSeats(buildingService.updateBuilding(buildingId,
+                        changedBuilding)));
+    }
+
+    /**
+     * Puts the seats of the floors of a saved building in the engine,
+     * on the floor they are placed on.
+     *
+     * @param building the saved building
+     * @return the building
+     */
+    private Building putSeats(final Building building) {
+        building.getFloors().forEach(floor -> floor.getSeats()
+                .forEach(seat -> bookingEngine.putSeat(floor.getId(),
+                        seat)));
+        return building;
+    }
+}
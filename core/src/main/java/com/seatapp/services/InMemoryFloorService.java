@@ -0,0 +1,109 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Floor;
+import com.seatapp.domain.FreeSeat;
+import com.seatapp.domain.Seat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The floor service used when the booking engine is enabled.
+ * The free seats of a floor are read from the group of the floor
+ * in the engine, the other requests go to the database
+ * and keep the engine up to date.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = BookingEngine.ENABLED_PROPERTY,
+        havingValue = "true")
+class InMemoryFloorService implements FloorService {
+    /**
+     * Represents the floor service on the database.
+     */
+    private final FloorServiceImpl floorService;
+
+    /**
+     * Represents the booking engine.
+     */
+    private final BookingEngine bookingEngine;
+
+    /**
+     * Represents the occupancy of the seats per day.
+     */
+    private final OccupancyService occupancyService;
+
+    /**
+     * Creates a service on the booking engine.
+     *
+     * @param floorService     the floor service on the database
+     * @param bookingEngine    the booking engine
+     * @param occupancyService the occupancy of the seats per day
+     */
+    @Autowired
+    InMemoryFloorService(final FloorServiceImpl floorService,
+                         final BookingEngine bookingEngine,
+                         final OccupancyService occupancyService) {
+        this.floorService = floorService;
+        this.bookingEngine = bookingEngine;
+        this.occupancyService = occupancyService;
+    }
+
+    /**
+     * Adds the seat to the floor and moves it to the floor
+     * in the engine.
+     *
+     * @param floor the floor on which the seat will be added
+     * @param seat  the seat that will be added to the floor
+     * @return the floor with the added seat
+     */
+    @Override
+    public Floor addSeat(final Floor floor, final Seat seat) {
+        return bookingEngine.writeSeats(() -> {
+            Floor savedFloor = floorService.addSeat(floor, seat);
+            bookingEngine.putSeat(savedFloor.getId(), seat);
+            return savedFloor;
+        });
+    }
+
+    /**
+     * Get the floor by the id.
+     *
+     * @param floorId the floor id
+     * @return the found floor
+     */
+    @Override
+    public Floor findById(final long floorId) {
+        return floorService.findById(floorId);
+    }
+
+    /**
+     * Finds the free seats of the floor during the period.
+     * The days before the current day are read from the database.
+     *
+     * @param floorId the floor id
+     * @param from    the start of the period
+     * @param to      the end of the period, on the same day
+     * @return the free seats
+     */
+    @Override
+    public List<FreeSeat> findFreeSeats(final long floorId,
+                                        final LocalDateTime from,
+                                        final LocalDateTime to) {
+        FloorServiceImpl.checkPeriod(from, to);
+        LocalDate date = from.toLocalDate();
+        if (date.isBefore(LocalDate.now())) {
+            return floorService.findFreeSeats(floorId, from, to);
+        }
+        long occupancyVersion = occupancyService.getVersion();
+        List<Seat> seats = bookingEngine
+                .getSeatsOfFloorWithReservationsOn(floorId, date);
+        return floorService.rankFreeSeats(seats, from, to,
+                occupancyVersion);
+    }
+}
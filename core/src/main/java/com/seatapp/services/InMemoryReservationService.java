@@ -0,0 +1,117 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.KeysetPage;
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.SeatChange;
+import com.seatapp.domain.SeatReservation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * The reservation service used when the booking engine is enabled.
+ * Active reservations are cancelled in the engine, the reservations
+ * of a user are read from the database, where a cancel shows up
+ * once it is written behind.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = BookingEngine.ENABLED_PROPERTY,
+        havingValue = "true")
+class InMemoryReservationService implements ReservationService {
+    /**
+     * Represents the reservation service on the database.
+     */
+    private final ReservationServiceImpl reservationService;
+
+    /**
+     * Represents the booking engine.
+     */
+    private final BookingEngine bookingEngine;
+
+    /**
+     * Represents the occupancy of the seats per day.
+     */
+    private final OccupancyService occupancyService;
+
+    /**
+     * Represents the publisher of the changes of the seats.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates a service on the booking engine.
+     *
+     * @param reservationService The reservation service on the database.
+     * @param bookingEngine      The booking engine.
+     * @param occupancyService   The occupancy of the seats per day.
+     * @param eventPublisher     The publisher of the seat changes.
+     */
+    @Autowired
+    InMemoryReservationService(
+            final ReservationServiceImpl reservationService,
+            final BookingEngine bookingEngine,
+            final OccupancyService occupancyService,
+            final ApplicationEventPublisher eventPublisher) {
+        this.reservationService = reservationService;
+        this.bookingEngine = bookingEngine;
+        this.occupancyService = occupancyService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Cancels a reservation by setting
+     * the cancel value to true.
+     * A reservation which is no longer active
+     * is cancelled in the database.
+     *
+     * @param reservationId the reservation id of which
+     *                      it will be cancelled
+     * @param email         the email of the user who made
+     *                      a reservation
+     */
+    @Override
+    public void cancelReservation(final long reservationId,
+                                  final String email) {
+        Long seatId = bookingEngine.getSeatIdOf(reservationId);
+        Reservation reservation = bookingEngine.cancel(reservationId);
+        if (reservation == null) {
+            reservationService.cancelReservation(reservationId, email);
+        } else {
+            occupancyService.release(reservation);
+            eventPublisher.publishEvent(SeatChange.ofReservation(seatId,
+                    reservation));
+        }
+    }
+
+    /**
+     * Gets the reservations of the user which start
+     * after the hour before the current day.
+     *
+     * @param email the email of the user who made the reservations
+     * @return the reservations ordered by their start time
+     */
+    @Override
+    public List<SeatReservation> getAllByUser(final String email) {
+        return reservationService.getAllByUser(email);
+    }
+
+    /**
+     * Gets a page of the upcoming reservations of the user.
+     *
+     * @param email the email of the user who made the reservations
+     * @param after the cursor of the page, null for the first page
+     * @param limit the maximum amount of reservations of the page
+     * @return the page of reservations ordered by their start time
+     */
+    @Override
+    public KeysetPage<SeatReservation> getPageByUser(final String email,
+                                                     final String after,
+                                                     final int limit) {
+        return reservationService.getPageByUser(email, after, limit);
+    }
+}
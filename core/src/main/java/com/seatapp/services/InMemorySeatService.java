@@ -0,0 +1,244 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.KeysetPage;
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.SeatChange;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The seat service used when the booking engine is enabled.
+ * Reservations, check ins, the availability and the seats with their
+ * reservations of a day are handled by the engine, the other
+ * requests go to the database and keep the engine up to date.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = BookingEngine.ENABLED_PROPERTY,
+        havingValue = "true")
+class InMemorySeatService implements SeatService {
+    /**
+     * Represents the seat service on the database.
+     */
+    private final SeatServiceImpl seatService;
+
+    /**
+     * Represents the booking engine.
+     */
+    private final BookingEngine bookingEngine;
+
+    /**
+     * Represents the occupancy of the seats per day.
+     */
+    private final OccupancyService occupancyService;
+
+    /**
+     * Represents the publisher of the changes of the seats.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates a service on the booking engine.
+     *
+     * @param seatService      The seat service on the database.
+     * @param bookingEngine    The booking engine.
+     * @param occupancyService The occupancy of the seats per day.
+     * @param eventPublisher   The publisher of the seat changes.
+     */
+    @Autowired
+    InMemorySeatService(final SeatServiceImpl seatService,
+                        final BookingEngine bookingEngine,
+                        final OccupancyService occupancyService,
+                        final ApplicationEventPublisher eventPublisher) {
+        this.seatService = seatService;
+        this.bookingEngine = bookingEngine;
+        this.occupancyService = occupancyService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Saves a newSeat to the database and adds it to the engine.
+     * The seat is on no floor until it is added to a floor.
+     *
+     * @param newSeat The new seat containing the name.
+     * @return The saved new seat.
+     */
+    @Override
+    public Seat createSeat(final Seat newSeat) {
+        return bookingEngine.writeSeats(() -> {
+            Seat savedSeat = seatService.createSeat(newSeat);
+            bookingEngine.putSeat(null, savedSeat);
+            return savedSeat;
+        });
+    }
+
+    /**
+     * Saves many seats on a floor to the database at once
+     * and adds them to the engine.
+     *
+     * @param floorId the id of the floor the seats are placed on.
+     * @param seats   the new seats.
+     * @return the saved seats in the same order.
+     */
+    @Override
+    public List<Seat> createSeats(final long floorId,
+                                  final List<Seat> seats) {
+        return bookingEngine.writeSeats(() -> {
+            List<Seat> savedSeats = seatService.createSeats(floorId, seats);
+            savedSeats.forEach(seat -> bookingEngine.putSeat(floorId, seat));
+            return savedSeats;
+        });
+    }
+
+    /**
+     * Deletes the seat with the specified id
+     * and removes it from the engine.
+     *
+     * @param seatId the id of the to be deleted seat.
+     */
+    @Override
+    public void delete(final Long seatId) {
+        bookingEngine.writeSeats(() -> {
+            seatService.delete(seatId);
+            bookingEngine.removeSeat(seatId);
+        });
+    }
+
+    /**
+     * Disables a seat for reservations.
+     *
+     * @param seatId the id of the to be disabled seat.
+     */
+    @Override
+    public void changeAvailability(final Long seatId) {
+        bookingEngine.changeAvailability(seatId);
+        eventPublisher.publishEvent(SeatChange.ofSeat(seatId));
+    }
+
+    /**
+     * Gets all the seats from database.
+     *
+     * @return a list of seats
+     */
+    @Override
+    public List<Seat> getAll() {
+        return seatService.getAll();
+    }
+
+    /**
+     * Gets a page of the seats ordered by their id.
+     *
+     * @param after the cursor of the page, null for the first page
+     * @param limit the maximum amount of seats of the page
+     * @return the page of seats
+     */
+    @Override
+    public KeysetPage<Seat> getPage(final String after, final int limit) {
+        return seatService.getPage(after, limit);
+    }
+
+    /**
+     * Gives all the seats from database to the action,
+     * one seat at a time.
+     *
+     * @param action the action done for each seat
+     */
+    @Override
+    public void forEachSeat(final Consumer<Seat> action) {
+        seatService.forEachSeat(action);
+    }
+
+    /**
+     * Reserves the seat with the specified id.
+     *
+     * @param seatId         is the id of the to be reserved seat.
+     * @param newReservation is the newReservation details.
+     * @return the saved reservation.
+     */
+    @Override
+    public Reservation reserve(final Long seatId,
+                               final Reservation newReservation) {
+        if (newReservation == null) {
+            throw new IllegalArgumentException("ReservationDto cannot be null");
+        }
+
+        Reservation reservation = bookingEngine.reserve(seatId,
+                newReservation);
+        occupancyService.book(seatId, reservation);
+        eventPublisher.publishEvent(SeatChange.ofNewReservation(seatId,
+                reservation));
+        return reservation;
+    }
+
+    /**
+     * Gets all the seats with their reservations from the given date.
+     * The days before the current day are read from the database.
+     *
+     * @param date is the date of the wanted reservations.
+     * @return the list of seats.
+     */
+    @Override
+    public List<Seat> getAllWithReservationsByDate(final LocalDate date) {
+        if (date.isBefore(LocalDate.now())) {
+            return seatService.getAllWithReservationsByDate(date);
+        }
+        return bookingEngine.getSeatsWithReservationsOn(date);
+    }
+
+    /**
+     * Gives all the seats with their reservations from the given date
+     * to the action, one seat at a time.
+     * The days before the current day are read from the database.
+     *
+     * @param date   is the date of the wanted reservations.
+     * @param action the action done for each seat
+     */
+    @Override
+    public void forEachSeatWithReservationsByDate(
+            final LocalDate date, final Consumer<Seat> action) {
+        if (date.isBefore(LocalDate.now())) {
+            seatService.forEachSeatWithReservationsByDate(date, action);
+        } else {
+            bookingEngine.forEachSeatWithReservationsOn(date, action);
+        }
+    }
+
+    /**
+     * Checks in on the reservation of the seat.
+     *
+     * @param seatId   the seatId from the seat where you check in.
+     * @param username username of the person wanting to check in.
+     */
+    @Override
+    public void checkInOnSeat(final Long seatId, final String username) {
+        Reservation checkedIn = bookingEngine.checkIn(seatId, username);
+        eventPublisher.publishEvent(SeatChange.ofReservation(seatId,
+                checkedIn));
+    }
+
+    /**
+     * Update the seat with id by the object seat
+     * and changes its details in the engine.
+     *
+     * @param seatId the seat id of the seat that will be updated
+     * @param seat the seat with the data to update the given seat with id
+     * @return the updated seat
+     */
+    @Override
+    public Seat updateSeat(final Long seatId,
+                           final Seat seat) {
+        return bookingEngine.writeSeats(() -> {
+            Seat savedSeat = seatService.updateSeat(seatId, seat);
+            bookingEngine.putSeat(null, savedSeat);
+            return savedSeat;
+        });
+    }
+}
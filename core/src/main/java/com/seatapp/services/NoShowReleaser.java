@@ -0,0 +1,253 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.SeatChange;
+import com.seatapp.repositories.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Releases the reservations which are not checked in a while after
+ * their start. Every reservation waits in a delay queue ordered by its
+ * deadline, so a tick only takes the reservations which are due
+ * and cancels them with one statement, instead of scanning all
+ * the reservations. The reservations of a running application
+ * are queued when they are made, the others once on startup.
+ */
+@Service
+class NoShowReleaser {
+    /**
+     * The logger of the releaser.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(NoShowReleaser.class);
+
+    /**
+     * Represents the reservation repository.
+     */
+    private final ReservationRepository reservationRepository;
+
+    /**
+     * Represents the occupancy of the seats per day.
+     */
+    private final OccupancyService occupancyService;
+
+    /**
+     * Represents the booking engine, when it is enabled.
+     */
+    private final Optional<BookingEngine> bookingEngine;
+
+    /**
+     * Represents the publisher of the changes of the seats.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Represents the minutes after the start of a reservation
+     * after which it is released when it is not checked in.
+     */
+    private final long releaseMinutes;
+
+    /**
+     * Represents the seconds between two ticks.
+     */
+    private final long tickSeconds;
+
+    /**
+     * Represents the reservations waiting for their deadline.
+     */
+    private final DelayQueue<NoShow> deadlines = new DelayQueue<>();
+
+    /**
+     * Represents the thread which runs the ticks.
+     */
+    private final ScheduledExecutorService ticks =
+            Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * Creates the releaser.
+     *
+     * @param reservationRepository the reservation repository
+     * @param occupancyService      the occupancy of the seats per day
+     * @param bookingEngine         the booking engine, when it is enabled
+     * @param eventPublisher        the publisher of the seat changes
+     * @param releaseMinutes        the minutes after the start after which
+     *                              a reservation is released
+     * @param tickSeconds           the seconds between two ticks
+     */
+    @Autowired
+    NoShowReleaser(final ReservationRepository reservationRepository,
+                   final OccupancyService occupancyService,
+                   final Optional<BookingEngine> bookingEngine,
+                   final ApplicationEventPublisher eventPublisher,
+                   @Value("${no.show.release.minutes:30}")
+                   final long releaseMinutes,
+                   @Value("${no.show.tick.seconds:60}")
+                   final long tickSeconds) {
+        this.reservationRepository = reservationRepository;
+        this.occupancyService = occupancyService;
+        this.bookingEngine = bookingEngine;
+        this.eventPublisher = eventPublisher;
+        this.releaseMinutes = releaseMinutes;
+        this.tickSeconds = tickSeconds;
+    }
+
+    /**
+     * Queues the reservations which are not checked in yet
+     * and starts the ticks.
+     */
+    @PostConstruct
+    void load() {
+        reservationRepository
+                .findAllNotCheckedInEndingAfter(LocalDateTime.now())
+                .forEach(seatReservation -> schedule(
+                        seatReservation.getSeatId(),
+                        seatReservation.getReservation()));
+        ticks.scheduleWithFixedDelay(this::tick, tickSeconds, tickSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the ticks.
+     */
+    @PreDestroy
+    void shutdown() {
+        ticks.shutdownNow();
+    }
+
+    /**
+     * Queues a new reservation.
+     *
+     * @param change the change of a seat
+     */
+    @EventListener
+    public void onSeatChange(final SeatChange change) {
+        if (change.getNewReservation() != null) {
+            schedule(change.getSeatId(), change.getNewReservation());
+        }
+    }
+
+    /**
+     * Releases the due reservations which are not checked in.
+     *
+     * @return the amount of due reservations
+     */
+    int releaseDue() {
+        List<NoShow> due = new ArrayList<>();
+        deadlines.drainTo(due);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, NoShow> noShows = new HashMap<>();
+        due.forEach(noShow ->
+                noShows.put(noShow.reservation.getId(), noShow));
+        List<Long> ids = List.copyOf(noShows.keySet());
+        List<Reservation> released;
+        if (bookingEngine.isPresent()) {
+            released = bookingEngine.get().releaseNoShows(ids);
+        } else {
+            released = reservationRepository.cancelAllNotCheckedIn(ids)
+                    .stream()
+                    .map(id -> noShows.get(id).reservation)
+                    .toList();
+        }
+        released.forEach(reservation -> {
+            occupancyService.release(reservation);
+            eventPublisher.publishEvent(SeatChange.ofReservation(
+                    noShows.get(reservation.getId()).seatId, reservation));
+        });
+        return due.size();
+    }
+
+    /**
+     * Runs a tick, an error is logged and does not stop the next ticks.
+     */
+    private void tick() {
+        try {
+            releaseDue();
+        } catch (RuntimeException e) {
+            LOGGER.error("The no shows could not be released", e);
+        }
+    }
+
+    /**
+     * Queues a reservation until its deadline.
+     *
+     * @param seatId      the id of the seat of the reservation
+     * @param reservation the reservation
+     */
+    private void schedule(final long seatId,
+                          final Reservation reservation) {
+        if (reservation.getId() != null) {
+            deadlines.add(new NoShow(seatId, reservation,
+                    reservation.getStartDateTime()
+                            .plusMinutes(releaseMinutes)));
+        }
+    }
+
+    /**
+     * A reservation waiting for the deadline to check in.
+     */
+    private static final class NoShow implements Delayed {
+        /**
+         * The id of the seat of the reservation.
+         */
+        private final long seatId;
+
+        /**
+         * The reservation.
+         */
+        private final Reservation reservation;
+
+        /**
+         * The time after which the reservation is released.
+         */
+        private final LocalDateTime deadline;
+
+        /**
+         * Creates a reservation waiting for its deadline.
+         *
+         * @param seatId      the id of the seat of the reservation
+         * @param reservation the reservation
+         * @param deadline    the deadline
+         */
+        NoShow(final long seatId, final Reservation reservation,
+               final LocalDateTime deadline) {
+            this.seatId = seatId;
+            this.reservation = reservation;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(),
+                    deadline));
+        }
+
+        @Override
+        public int compareTo(final Delayed other) {
+            return deadline.compareTo(((NoShow) other).deadline);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.DayOccupancy;
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Seat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface OccupancyService {
+    /**
+     * Gives the version of the occupancy, which changes on every
+     * booking or release. It has to be read before the seats are
+     * loaded, so occupancy built from outdated seats is not kept.
+     *
+     * @return the current version
+     */
+    long getVersion();
+
+    /**
+     * Gets the occupancy of the seats during a day. The occupancy of a
+     * seat is kept after it is built from its reservations and is
+     * updated on every booking.
+     *
+     * @param date          the day
+     * @param seats         the seats with their reservations of the day
+     * @param loadedVersion the version read before the seats were loaded
+     * @return the occupancy of the seats
+     */
+    DayOccupancy getDayOccupancy(LocalDate date, List<Seat> seats,
+                                 long loadedVersion);
+
+    /**
+     * Adds a new reservation to the occupancy of its seat.
+     *
+     * @param seatId      the id of the reserved seat
+     * @param reservation the new reservation
+     */
+    void book(long seatId, Reservation reservation);
+
+    /**
+     * Removes the occupancy of the days of a reservation which
+     * no longer occupies its seat, so it is built again.
+     *
+     * @param reservation the cancelled or released reservation
+     */
+    void release(Reservation reservation);
+}
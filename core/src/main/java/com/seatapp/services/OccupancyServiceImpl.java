@@ -0,0 +1,127 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.DayOccupancy;
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.SlotOccupancy;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Service
+public class OccupancyServiceImpl implements OccupancyService {
+    /**
+     * Represents the version of the occupancy,
+     * raised on every booking or release.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Represents the occupancy of the seats by day and seat id.
+     * Only today and the days after it are kept.
+     */
+    private final Map<LocalDate, Map<Long, SlotOccupancy>> days =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Gives the version of the occupancy, which changes on every
+     * booking or release.
+     *
+     * @return the current version
+     */
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Gets the occupancy of the seats during a day. The occupancy of a
+     * seat is kept after it is built from its reservations, unless the
+     * occupancy changed while the seats were loaded.
+     *
+     * @param date          the day
+     * @param seats         the seats with their reservations of the day
+     * @param loadedVersion the version read before the seats were loaded
+     * @return the occupancy of the seats
+     */
+    @Override
+    public DayOccupancy getDayOccupancy(final LocalDate date,
+                                        final List<Seat> seats,
+                                        final long loadedVersion) {
+        LocalDate today = LocalDate.now();
+        days.keySet().removeIf(day -> day.isBefore(today));
+        boolean keep = !date.isBefore(today)
+                && version.get() == loadedVersion;
+        Map<Long, SlotOccupancy> kept = keep
+                ? days.computeIfAbsent(date, d -> new ConcurrentHashMap<>())
+                : new HashMap<>();
+
+        Map<Long, SlotOccupancy> occupancies = new HashMap<>();
+        for (Seat seat : seats) {
+            if (seat.getId() != null) {
+                occupancies.put(seat.getId(), kept.computeIfAbsent(
+                        seat.getId(), id -> SlotOccupancy.ofDay(
+                                seat.getReservations(), date)));
+            }
+        }
+        if (keep && version.get() != loadedVersion) {
+            occupancies.forEach(kept::remove);
+        }
+        return new DayOccupancy(date, occupancies);
+    }
+
+    /**
+     * Adds a new reservation to the occupancy of its seat
+     * on every day the reservation covers.
+     *
+     * @param seatId      the id of the reserved seat
+     * @param reservation the new reservation
+     */
+    @Override
+    public void book(final long seatId, final Reservation reservation) {
+        version.incrementAndGet();
+        forEachDay(reservation, day -> {
+            Map<Long, SlotOccupancy> seats = days.get(day);
+            if (seats != null) {
+                seats.computeIfPresent(seatId, (id, occupancy) ->
+                        occupancy.withBooking(
+                                reservation.getStartDateTime(),
+                                reservation.getEndDateTime()));
+            }
+        });
+    }
+
+    /**
+     * Removes the occupancy of the days of a reservation which
+     * no longer occupies its seat, so it is built again.
+     *
+     * @param reservation the cancelled or released reservation
+     */
+    @Override
+    public void release(final Reservation reservation) {
+        version.incrementAndGet();
+        forEachDay(reservation, days::remove);
+    }
+
+    /**
+     * Runs an action for every day a reservation covers.
+     *
+     * @param reservation the reservation
+     * @param action      the action for a day
+     */
+    private static void forEachDay(final Reservation reservation,
+                                   final Consumer<LocalDate> action) {
+        LocalDateTime end = reservation.getEndDateTime();
+        for (LocalDate day = reservation.getStartDateTime().toLocalDate();
+             day.atStartOfDay().isBefore(end); day = day.plusDays(1)) {
+            action.accept(day);
+        }
+    }
+}
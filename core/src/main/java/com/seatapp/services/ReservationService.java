@@ -1,5 +1,9 @@
 package com.seatapp.services;
 
+import com.seatapp.domain.KeysetPage;
+import com.seatapp.domain.SeatReservation;
+
+import java.util.List;
 
 public interface ReservationService {
     /**
@@ -12,4 +16,25 @@ public interface ReservationService {
      *                      a reservation
      */
     void cancelReservation(long reservationId, String email);
+
+    /**
+     * Gets the upcoming reservations of the user
+     * with the seat they are made on.
+     *
+     * @param email the email of the user who made the reservations
+     * @return the reservations ordered by their start time
+     */
+    List<SeatReservation> getAllByUser(String email);
+
+    /**
+     * Gets a page of the upcoming reservations of the user
+     * with the seat they are made on.
+     *
+     * @param email the email of the user who made the reservations
+     * @param after the cursor of the page, null for the first page
+     * @param limit the maximum amount of reservations of the page
+     * @return the page of reservations ordered by their start time
+     */
+    KeysetPage<SeatReservation> getPageByUser(String email, String after,
+                                              int limit);
 }
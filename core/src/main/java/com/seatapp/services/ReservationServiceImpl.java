@@ -1,27 +1,56 @@
 package com.seatapp.services;
 
+import com.seatapp.domain.KeysetPage;
 import com.seatapp.domain.Reservation;
+import com.seatapp.domain.SeatChange;
+import com.seatapp.domain.SeatReservation;
 import com.seatapp.repositories.ReservationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
 @Service
 public class ReservationServiceImpl implements ReservationService {
+    /**
+     * Separates the start time and the id in the key of a reservation.
+     */
+    private static final char KEY_SEPARATOR = '|';
 
     /**
      * Represents the reservation repository.
      */
     private final ReservationRepository reservationRepository;
 
+    /**
+     * Represents the occupancy of the seats per day.
+     */
+    private final OccupancyService occupancyService;
+
+    /**
+     * Represents the publisher of the changes of the seats.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Creates a service with the specified repository.
      *
      * @param reservationRepository The reservation repository.
+     * @param occupancyService      The occupancy of the seats per day.
+     * @param eventPublisher        The publisher of the seat changes.
      */
     @Autowired
     public ReservationServiceImpl(
-            final ReservationRepository reservationRepository) {
+            final ReservationRepository reservationRepository,
+            final OccupancyService occupancyService,
+            final ApplicationEventPublisher eventPublisher) {
         this.reservationRepository = reservationRepository;
+        this.occupancyService = occupancyService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -37,7 +66,73 @@ public class ReservationServiceImpl implements ReservationService {
     public void cancelReservation(final long reservationId,
                                   final String email) {
         Reservation reservation = reservationRepository.findById(reservationId);
+        long seatId = reservationRepository.findSeatIdById(reservationId);
         reservation.setCancelled(true);
         reservationRepository.save(reservation);
+        occupancyService.release(reservation);
+        eventPublisher.publishEvent(SeatChange.ofReservation(seatId,
+                reservation));
+    }
+
+    /**
+     * Gets the reservations of the user which start
+     * after the hour before the current day.
+     *
+     * @param email the email of the user who made the reservations
+     * @return the reservations ordered by their start time
+     */
+    @Override
+    public List<SeatReservation> getAllByUser(final String email) {
+        return reservationRepository.findAllByUserFrom(email,
+                upcomingFrom());
+    }
+
+    /**
+     * Gets a page of the upcoming reservations of the user.
+     * The cursor holds the start time and the id
+     * of the last reservation of the previous page.
+     *
+     * @param email the email of the user who made the reservations
+     * @param after the cursor of the page, null for the first page
+     * @param limit the maximum amount of reservations of the page
+     * @return the page of reservations ordered by their start time
+     */
+    @Override
+    public KeysetPage<SeatReservation> getPageByUser(final String email,
+                                                     final String after,
+                                                     final int limit) {
+        KeysetPage.checkLimit(limit);
+        LocalDateTime afterStart = null;
+        Long afterId = null;
+        if (after != null) {
+            String key = KeysetPage.decodeCursor(after);
+            int separator = key.lastIndexOf(KEY_SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("The cursor is not valid");
+            }
+            try {
+                afterStart = LocalDateTime.parse(key.substring(0, separator));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(
+                        "The cursor is not valid", e);
+            }
+            afterId = Long.valueOf(key.substring(separator + 1));
+        }
+        return KeysetPage.of(reservationRepository.findPageByUserFrom(
+                        email, upcomingFrom(), afterStart, afterId,
+                        limit + 1), limit,
+                seatReservation -> seatReservation.getReservation()
+                        .getStartDateTime().toString() + KEY_SEPARATOR
+                        + seatReservation.getReservation().getId());
+    }
+
+    /**
+     * Gives the time after which reservations are upcoming,
+     * the hour before the current day.
+     *
+     * @return the time after which the reservations start
+     */
+    private LocalDateTime upcomingFrom() {
+        return LocalDate.now().atStartOfDay().minusHours(1);
     }
 }
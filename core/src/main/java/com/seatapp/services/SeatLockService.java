@@ -0,0 +1,17 @@
+package com.seatapp.services;
+
+import java.util.function.Supplier;
+
+public interface SeatLockService {
+    /**
+     * Runs the action while holding the lock of the seat.
+     * Actions on the same seat run one after the other,
+     * actions on other seats can run at the same time.
+     *
+     * @param seatId the id of the seat to lock
+     * @param action the action to run while the seat is locked
+     * @param <T>    the type of the result of the action
+     * @return the result of the action
+     */
+    <T> T withSeatLock(long seatId, Supplier<T> action);
+}
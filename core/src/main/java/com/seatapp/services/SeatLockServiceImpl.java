@@ -0,0 +1,66 @@
+package com.seatapp.services;
+
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Service
+public class SeatLockServiceImpl implements SeatLockService {
+    /**
+     * The amount of bits of the stripe index.
+     */
+    private static final int STRIPE_BITS = 8;
+
+    /**
+     * The multiplier used to spread the seat ids over the stripes.
+     */
+    private static final long SPREAD = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The locks of which each guards the seats hashed to it.
+     */
+    private final ReentrantLock[] locks;
+
+    /**
+     * Creates the striped locks.
+     */
+    public SeatLockServiceImpl() {
+        this.locks = new ReentrantLock[1 << STRIPE_BITS];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs the action while holding the lock of the seat.
+     * Actions on the same seat run one after the other,
+     * actions on other seats only wait for each other
+     * when their ids are hashed to the same lock.
+     *
+     * @param seatId the id of the seat to lock
+     * @param action the action to run while the seat is locked
+     * @param <T>    the type of the result of the action
+     * @return the result of the action
+     */
+    @Override
+    public <T> T withSeatLock(final long seatId, final Supplier<T> action) {
+        ReentrantLock lock = lockOf(seatId);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the lock which guards the seat.
+     *
+     * @param seatId the id of the seat
+     * @return the lock of the seat
+     */
+    private ReentrantLock lockOf(final long seatId) {
+        return locks[(int) (seatId * SPREAD >>> (Long.SIZE - STRIPE_BITS))];
+    }
+}
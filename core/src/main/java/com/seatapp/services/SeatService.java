@@ -1,10 +1,12 @@
 package com.seatapp.services;
 
+import com.seatapp.domain.KeysetPage;
 import com.seatapp.domain.Reservation;
 import com.seatapp.domain.Seat;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface SeatService {
     /**
@@ -15,6 +17,15 @@ public interface SeatService {
      */
     Seat createSeat(Seat seat);
 
+    /**
+     * Saves many seats on a floor to the database at once.
+     *
+     * @param floorId the id of the floor the seats are placed on.
+     * @param seats   the new seats.
+     * @return the saved seats in the same order.
+     */
+    List<Seat> createSeats(long floorId, List<Seat> seats);
+
     /**
      * Deletes the seat with the specified id.
      *
@@ -35,14 +46,31 @@ public interface SeatService {
      */
     List<Seat> getAll();
 
+    /**
+     * Gets a page of the seats ordered by their id.
+     *
+     * @param after the cursor of the page, null for the first page
+     * @param limit the maximum amount of seats of the page
+     * @return the page of seats
+     */
+    KeysetPage<Seat> getPage(String after, int limit);
+
+    /**
+     * Gives all the seats from database to the action,
+     * one seat at a time.
+     *
+     * @param action the action done for each seat
+     */
+    void forEachSeat(Consumer<Seat> action);
+
     /**
      * Reserves the seat with the specified id.
      *
      * @param seatId      is the id of the to be reserved seat.
      * @param reservation is the reservation details.
-     * @return the reserved seat.
+     * @return the saved reservation.
      */
-    Seat reserve(Long seatId,
+    Reservation reserve(Long seatId,
                  Reservation reservation);
 
     /**
@@ -54,14 +82,14 @@ public interface SeatService {
     List<Seat> getAllWithReservationsByDate(LocalDate date);
 
     /**
-     * Gets all the seat with their reservations
-     * by the user who reserved them.
+     * Gives all the seats with their reservations from the given date
+     * to the action, one seat at a time.
      *
-     * @param email the email of the user to find
-     *              the seats with the reservations
-     * @return the list of the found seats
+     * @param date   is the date of the wanted reservations.
+     * @param action the action done for each seat
      */
-    List<Seat> getAllByUser(String email);
+    void forEachSeatWithReservationsByDate(LocalDate date,
+                                           Consumer<Seat> action);
 
     /**
      * Checks in on the reservation of the seat.
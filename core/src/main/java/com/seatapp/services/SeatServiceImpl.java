@@ -1,15 +1,21 @@
 package com.seatapp.services;
 
+import com.seatapp.domain.KeysetPage;
 import com.seatapp.domain.Reservation;
 import com.seatapp.domain.Seat;
+import com.seatapp.domain.SeatChange;
+import com.seatapp.repositories.ReservationRepository;
 import com.seatapp.repositories.SeatRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class SeatServiceImpl implements SeatService {
@@ -18,6 +24,36 @@ public class SeatServiceImpl implements SeatService {
      */
     private final SeatRepository seatRepository;
 
+    /**
+     * Represents the reservation repository.
+     */
+    private final ReservationRepository reservationRepository;
+
+    /**
+     * Represents the locks of the seats.
+     */
+    private final SeatLockService seatLockService;
+
+    /**
+     * Represents the transactions in which the reservations are saved.
+     */
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * Represents the cache of the floor geometry.
+     */
+    private final FloorGeometryService floorGeometryService;
+
+    /**
+     * Represents the occupancy of the seats per day.
+     */
+    private final OccupancyService occupancyService;
+
+    /**
+     * Represents the publisher of the changes of the seats.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Time before the start of a
      * reservation where you can check in.
@@ -26,13 +62,35 @@ public class SeatServiceImpl implements SeatService {
     private int minutesBeforeReservation;
 
     /**
-     * Creates a service with the specified repository.
+     * Creates a service with the specified repositories.
      *
-     * @param seatRepository The seat repository.
+     * @param seatRepository        The seat repository.
+     * @param reservationRepository The reservation repository.
+     * @param seatLockService       The locks of the seats.
+     * @param transactionOperations The transactions of the reservations.
+     * @param floorGeometryService  The cache of the floor geometry.
+     * @param occupancyService      The occupancy of the seats per day.
+     * @param eventPublisher        The publisher of the seat changes.
      */
     @Autowired
-    public SeatServiceImpl(final SeatRepository seatRepository) {
+    public SeatServiceImpl(final SeatRepository seatRepository,
+                           final ReservationRepository
+                                   reservationRepository,
+                           final SeatLockService seatLockService,
+                           final TransactionOperations
+                                   transactionOperations,
+                           final FloorGeometryService
+                                   floorGeometryService,
+                           final OccupancyService occupancyService,
+                           final ApplicationEventPublisher
+                                   eventPublisher) {
         this.seatRepository = seatRepository;
+        this.reservationRepository = reservationRepository;
+        this.seatLockService = seatLockService;
+        this.transactionOperations = transactionOperations;
+        this.floorGeometryService = floorGeometryService;
+        this.occupancyService = occupancyService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -43,13 +101,45 @@ public class SeatServiceImpl implements SeatService {
      */
     @Override
     public Seat createSeat(final Seat newSeat) {
+        checkNewSeat(newSeat);
+        Seat savedSeat = seatRepository.save(newSeat);
+        floorGeometryService.invalidate();
+        return savedSeat;
+    }
+
+    /**
+     * Saves many seats on a floor to the database at once.
+     * Every seat is checked before any seat is saved.
+     *
+     * @param floorId the id of the floor the seats are placed on.
+     * @param seats   the new seats.
+     * @return the saved seats in the same order.
+     */
+    @Override
+    public List<Seat> createSeats(final long floorId,
+                                  final List<Seat> seats) {
+        if (seats == null || seats.isEmpty()) {
+            throw new IllegalArgumentException("There are no seats to save.");
+        }
+        seats.forEach(this::checkNewSeat);
+        List<Seat> savedSeats = seatRepository.saveAllOnFloor(floorId,
+                seats);
+        floorGeometryService.invalidate();
+        return savedSeats;
+    }
+
+    /**
+     * Checks if the new seat can be saved.
+     *
+     * @param newSeat the new seat
+     */
+    private void checkNewSeat(final Seat newSeat) {
         if (newSeat == null) {
             throw new IllegalArgumentException("SeatDto cannot be null");
         }
         if (newSeat.getName() == null || newSeat.getName().isBlank()) {
             throw new IllegalArgumentException("The newSeat name is invalid.");
         }
-        return seatRepository.save(newSeat);
     }
 
     /**
@@ -60,6 +150,7 @@ public class SeatServiceImpl implements SeatService {
     @Override
     public void delete(final Long seatId) {
         seatRepository.deleteById(seatId);
+        floorGeometryService.invalidate();
     }
 
     /**
@@ -72,6 +163,7 @@ public class SeatServiceImpl implements SeatService {
         Seat seat = getSeatById(seatId);
         seat.setAvailable(!seat.isAvailable());
         seatRepository.save(seat);
+        eventPublisher.publishEvent(SeatChange.ofSeat(seatId));
     }
 
     /**
@@ -84,6 +176,34 @@ public class SeatServiceImpl implements SeatService {
         return seatRepository.findAll();
     }
 
+    /**
+     * Gets a page of the seats ordered by their id.
+     * The cursor holds the id of the last seat of the previous page.
+     *
+     * @param after the cursor of the page, null for the first page
+     * @param limit the maximum amount of seats of the page
+     * @return the page of seats
+     */
+    @Override
+    public KeysetPage<Seat> getPage(final String after, final int limit) {
+        KeysetPage.checkLimit(limit);
+        Long afterId = after == null
+                ? null : Long.valueOf(KeysetPage.decodeCursor(after));
+        return KeysetPage.of(seatRepository.findPage(afterId, limit + 1),
+                limit, seat -> seat.getId().toString());
+    }
+
+    /**
+     * Gives all the seats from database to the action,
+     * one seat at a time.
+     *
+     * @param action the action done for each seat
+     */
+    @Override
+    public void forEachSeat(final Consumer<Seat> action) {
+        seatRepository.forEach(action);
+    }
+
     /**
      * Gets a seat from database with the given id.
      *
@@ -96,27 +216,51 @@ public class SeatServiceImpl implements SeatService {
 
     /**
      * Reserves the seat with the specified id.
+     * Only the reservations which have not ended yet are loaded
+     * for the conflict check, because a new reservation
+     * has to start in the future.
+     * The seat is locked while the reservation is checked and saved,
+     * so concurrent reservations on the same seat cannot overlap.
      *
      * @param seatId         is the id of the to be reserved seat.
      * @param newReservation is the newReservation details.
-     * @return the reserved seat.
+     * @return the saved reservation.
      */
     @Override
-    public Seat reserve(final Long seatId,
-                        final Reservation newReservation) {
+    public Reservation reserve(final Long seatId,
+                               final Reservation newReservation) {
         if (newReservation == null) {
             throw new IllegalArgumentException("ReservationDto cannot be null");
         }
 
-        Seat seat = getSeatById(seatId);
+        Reservation reservation = seatLockService.withSeatLock(seatId, () ->
+                transactionOperations.execute(status ->
+                        insertReservation(seatId, newReservation)));
+        occupancyService.book(seatId, reservation);
+        eventPublisher.publishEvent(SeatChange.ofNewReservation(seatId,
+                reservation));
+        return reservation;
+    }
+
+    /**
+     * Checks the reservation against the reservations of the seat
+     * which have not ended yet and inserts it.
+     *
+     * @param seatId         is the id of the to be reserved seat.
+     * @param newReservation is the newReservation details.
+     * @return the saved reservation.
+     */
+    private Reservation insertReservation(final Long seatId,
+                                          final Reservation newReservation) {
+        Seat seat = seatRepository.findByIdWithReservationsEndingAfter(
+                seatId, LocalDateTime.now());
         if (!seat.isAvailable()) {
             throw new IllegalArgumentException(
                     "You can't reserve when the seat is unavailable");
         }
 
         seat.addReservation(newReservation);
-        seat = seatRepository.save(seat);
-        return seat;
+        return reservationRepository.insertForSeat(seatId, newReservation);
     }
 
     /**
@@ -127,41 +271,20 @@ public class SeatServiceImpl implements SeatService {
      */
     @Override
     public List<Seat> getAllWithReservationsByDate(final LocalDate date) {
-        List<Seat> foundSeats = getAll();
-        for (Seat s : foundSeats) {
-            s.setReservations(s.getReservations().stream()
-                    .filter(reservation -> reservation.getStartDateTime()
-                            .toLocalDate().equals(date))
-                    .filter(reservation -> !reservation.isCancelled())
-                    .toList());
-        }
-        return foundSeats;
+        return seatRepository.findAllWithReservationsByDate(date);
     }
 
     /**
-     * Gets all the seat with their reservations
-     * by the user who reserved them.
+     * Gives all the seats with their reservations from the given date
+     * to the action, one seat at a time.
      *
-     * @param email the email of the user to find
-     *              the seats with the reservations
-     * @return the list of the found seats
+     * @param date   is the date of the wanted reservations.
+     * @param action the action done for each seat
      */
     @Override
-    public List<Seat> getAllByUser(final String email) {
-        List<Seat> foundSeats = getAll();
-        for (Seat s : foundSeats) {
-            s.setReservations(s.getReservations().stream()
-                    .filter(reservation -> reservation.getUser().getEmail()
-                            .equals(email))
-                    .filter(reservation ->
-                            LocalDate.now()
-                                    .atTime(0, 0)
-                                    .minusHours(1)
-                                    .isBefore(reservation.getStartDateTime()))
-                    .filter(reservation -> !reservation.isCancelled())
-                    .toList());
-        }
-        return foundSeats;
+    public void forEachSeatWithReservationsByDate(
+            final LocalDate date, final Consumer<Seat> action) {
+        seatRepository.forEachWithReservationsByDate(date, action);
     }
 
     /**
@@ -172,11 +295,31 @@ public class SeatServiceImpl implements SeatService {
      */
     @Override
     public void checkInOnSeat(final Long seatId, final String username) {
+        Reservation checkedIn = seatLockService.withSeatLock(seatId, () ->
+                transactionOperations.execute(status ->
+                        checkInReservation(seatId, username)));
+        eventPublisher.publishEvent(SeatChange.ofReservation(seatId,
+                checkedIn));
+    }
+
+    /**
+     * Checks in on the current reservation of the seat and writes
+     * the check in on that reservation only, when it is not released
+     * in the meantime.
+     *
+     * @param seatId   the seatId from the seat where you check in.
+     * @param username username of the person wanting to check in.
+     * @return the checked in reservation
+     */
+    private Reservation checkInReservation(final Long seatId,
+                                           final String username) {
         Seat seat = getSeatById(seatId);
 
         Reservation reservation = seat.getReservations().stream()
+                .filter(res -> !res.isCancelled())
                 .filter(res -> {
-                    LocalDateTime startCheckInTime = res.getStartDateTime()
+                    LocalDateTime startCheckInTime = res
+                            .getStartDateTime()
                             .minusMinutes(minutesBeforeReservation);
                     return LocalDateTime.now().isAfter(startCheckInTime);
                 })
@@ -187,7 +330,12 @@ public class SeatServiceImpl implements SeatService {
                                 + " time or after the end time."));
 
         reservation.checkIn(username);
-        seatRepository.save(seat);
+        if (!reservationRepository.checkInIfNotCancelled(
+                reservation.getId())) {
+            throw new IllegalArgumentException(
+                    "This reservation is already released.");
+        }
+        return reservation;
     }
 
     /**
@@ -206,6 +354,8 @@ public class SeatServiceImpl implements SeatService {
         foundSeat.setYCoordinates(seat.getYCoordinates());
         foundSeat.setWidth(seat.getWidth());
         foundSeat.setHeight(seat.getHeight());
-        return seatRepository.save(foundSeat);
+        Seat savedSeat = seatRepository.save(foundSeat);
+        floorGeometryService.invalidate();
+        return savedSeat;
     }
 }
@@ -1,9 +1,11 @@
 package com.seatapp.services;
 
+import com.seatapp.domain.KeysetPage;
 import com.seatapp.domain.Role;
 import com.seatapp.domain.User;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
     /**
@@ -29,6 +31,23 @@ public interface UserService {
      */
     List<User> getAll();
 
+    /**
+     * Gets a page of the users ordered by their email.
+     *
+     * @param after the cursor of the page, null for the first page
+     * @param limit the maximum amount of users of the page
+     * @return the page of users
+     */
+    KeysetPage<User> getPage(String after, int limit);
+
+    /**
+     * Gives all the users from database to the action,
+     * one user at a time.
+     *
+     * @param action the action done for each user
+     */
+    void forEachUser(Consumer<User> action);
+
     /**
      * Creates a new User.
      *
@@ -1,5 +1,6 @@
 package com.seatapp.services;
 
+import com.seatapp.domain.KeysetPage;
 import com.seatapp.domain.Role;
 import com.seatapp.domain.User;
 import com.seatapp.repositories.UserRepository;
@@ -7,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 
 @Service
@@ -58,6 +60,34 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * Gets a page of the users ordered by their email.
+     * The cursor holds the email of the last user of the previous page.
+     *
+     * @param after the cursor of the page, null for the first page
+     * @param limit the maximum amount of users of the page
+     * @return the page of users
+     */
+    @Override
+    public KeysetPage<User> getPage(final String after, final int limit) {
+        KeysetPage.checkLimit(limit);
+        String afterEmail = after == null
+                ? null : KeysetPage.decodeCursor(after);
+        return KeysetPage.of(userRepository.findPage(afterEmail, limit + 1),
+                limit, User::getEmail);
+    }
+
+    /**
+     * Gives all the users from database to the action,
+     * one user at a time.
+     *
+     * @param action the action done for each user
+     */
+    @Override
+    public void forEachUser(final Consumer<User> action) {
+        userRepository.forEach(action);
+    }
+
     /**
      * Creates a new User.
      *
@@ -0,0 +1,481 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Floor;
+import com.seatapp.domain.FreeSeat;
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.SeatReservation;
+import com.seatapp.domain.User;
+import com.seatapp.repositories.BuildingRepository;
+import com.seatapp.repositories.FloorRepository;
+import com.seatapp.repositories.ReservationRepository;
+import com.seatapp.repositories.SeatRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = BookingEngine.ENABLED_PROPERTY + "=true")
+class BookingEngineTests {
+    /**
+     * The milliseconds to wait for a change to be written behind.
+     */
+    private static final int WRITE_TIMEOUT = 5000;
+
+    /**
+     * The days after the current day on which the reservations start.
+     */
+    private static final int DAYS_AHEAD = 2;
+
+    /**
+     * The hour on which the reservations start.
+     */
+    private static final int START_HOUR = 9;
+
+    /**
+     * The hour on which the reservations end.
+     */
+    private static final int END_HOUR = 17;
+
+    /**
+     * The minutes after the current time on which
+     * a reservation which can be checked in on starts.
+     */
+    private static final int MINUTES_TO_START = 5;
+
+    /**
+     * The size in megabytes of a journal file made by a test.
+     */
+    private static final int JOURNAL_SIZE_MB = 1;
+
+    /**
+     * The minutes between two snapshots of an engine made by a test.
+     */
+    private static final int SNAPSHOT_MINUTES = 5;
+
+    /**
+     * The user who makes the reservations.
+     */
+    private static final User VALID_USER = new User("User1",
+            "User@Test.be", "User1", Role.USER);
+
+    /**
+     * Gives the ids of the seats and reservations,
+     * which are kept by the engine between the tests.
+     */
+    private static final AtomicLong IDS = new AtomicLong();
+
+    /**
+     * The directory of the booking journal of the tests.
+     */
+    @TempDir
+    private static Path journalDirectory;
+
+    /**
+     * Represents the seat repository.
+     */
+    @MockBean(name = "seatRepositoryImpl")
+    private SeatRepository seatRepository;
+
+    /**
+     * Represents the reservation repository.
+     */
+    @MockBean(name = "reservationRepositoryImpl")
+    private ReservationRepository reservationRepository;
+
+    /**
+     * Represents the floor repository.
+     */
+    @MockBean(name = "floorRepositoryImpl")
+    private FloorRepository floorRepository;
+
+    /**
+     * Represents the seat service.
+     */
+    @Autowired
+    private SeatService seatService;
+
+    /**
+     * Represents the floor service.
+     */
+    @Autowired
+    private FloorService floorService;
+
+    /**
+     * Represents the reservation service.
+     */
+    @Autowired
+    private ReservationService reservationService;
+
+    /**
+     * Represents the booking engine.
+     */
+    @Autowired
+    private BookingEngine bookingEngine;
+
+    /**
+     * Keeps the booking journal of the tests in a new directory.
+     *
+     * @param registry the properties of the tests
+     */
+    @DynamicPropertySource
+    static void journalProperties(final DynamicPropertyRegistry registry) {
+        registry.add("booking.journal.directory",
+                () -> journalDirectory.toString());
+    }
+
+    @Test
+    void overlappingReservationIsRejectedWithoutReadingTheSeat() {
+        // Arrange
+        long seatId = createSeat();
+        LocalDateTime start = LocalDate.now().plusDays(DAYS_AHEAD)
+                .atTime(START_HOUR, 0);
+        seatService.reserve(seatId, new Reservation(start,
+                start.withHour(END_HOUR), VALID_USER));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> seatService.reserve(seatId, new Reservation(
+                        start.plusHours(1), start.withHour(END_HOUR),
+                        VALID_USER)));
+        verify(reservationRepository, times(1))
+                .insertForSeat(anyLong(), any(Reservation.class));
+        verify(seatRepository, never())
+                .findByIdWithReservationsEndingAfter(anyLong(),
+                        any(LocalDateTime.class));
+    }
+
+    @Test
+    void seatsOfADayAreReadFromMemory() {
+        // Arrange
+        long seatId = createSeat();
+        LocalDate date = LocalDate.now().plusDays(DAYS_AHEAD);
+        Reservation reservation = seatService.reserve(seatId,
+                new Reservation(date.atTime(START_HOUR, 0),
+                        date.atTime(END_HOUR, 0), VALID_USER));
+
+        // Act
+        List<Seat> seats = seatService.getAllWithReservationsByDate(date);
+
+        // Assert
+        Seat seat = seats.stream()
+                .filter(found -> found.getId() == seatId)
+                .findFirst().orElseThrow();
+        assertEquals(List.of(reservation.getId()), seat.getReservations()
+                .stream().map(Reservation::getId).toList());
+        verify(seatRepository, never())
+                .findAllWithReservationsByDate(any(LocalDate.class));
+    }
+
+    @Test
+    void checkInIsWrittenBehind() {
+        // Arrange
+        long seatId = createSeat();
+        LocalDateTime start = LocalDateTime.now()
+                .plusMinutes(MINUTES_TO_START);
+        seatService.reserve(seatId, new Reservation(start,
+                start.plusHours(1), VALID_USER));
+
+        // Act
+        seatService.checkInOnSeat(seatId, VALID_USER.getEmail());
+
+        // Assert
+        verify(reservationRepository, timeout(WRITE_TIMEOUT))
+                .save(argThat(Reservation::isCheckedIn));
+        assertThrows(IllegalArgumentException.class,
+                () -> seatService.checkInOnSeat(seatId,
+                        VALID_USER.getEmail()));
+    }
+
+    @Test
+    void cancelledReservationFreesTheSeat() {
+        // Arrange
+        long seatId = createSeat();
+        LocalDateTime start = LocalDate.now().plusDays(DAYS_AHEAD)
+                .atTime(START_HOUR, 0);
+        Reservation reservation = seatService.reserve(seatId,
+                new Reservation(start, start.withHour(END_HOUR),
+                        VALID_USER));
+
+        // Act
+        reservationService.cancelReservation(reservation.getId(),
+                VALID_USER.getEmail());
+
+        // Assert
+        verify(reservationRepository, timeout(WRITE_TIMEOUT))
+                .save(argThat(Reservation::isCancelled));
+        assertNotNull(seatService.reserve(seatId, new Reservation(start,
+                start.withHour(END_HOUR), VALID_USER)).getId());
+    }
+
+    @Test
+    void noShowIsReleasedUnlessCheckedIn() {
+        // Arrange
+        long seatId = createSeat();
+        long checkedInSeatId = createSeat();
+        LocalDateTime start = LocalDateTime.now()
+                .plusMinutes(MINUTES_TO_START);
+        Reservation noShow = seatService.reserve(seatId,
+                new Reservation(start, start.plusHours(1), VALID_USER));
+        Reservation checkedIn = seatService.reserve(checkedInSeatId,
+                new Reservation(start, start.plusHours(1), VALID_USER));
+        seatService.checkInOnSeat(checkedInSeatId, VALID_USER.getEmail());
+
+        // Act
+        List<Reservation> released = bookingEngine.releaseNoShows(
+                List.of(noShow.getId(), checkedIn.getId()));
+
+        // Assert
+        assertEquals(List.of(noShow.getId()), released.stream()
+                .map(Reservation::getId).toList());
+        verify(reservationRepository, timeout(WRITE_TIMEOUT))
+                .cancelAllNotCheckedIn(List.of(noShow.getId()));
+        assertNotNull(seatService.reserve(seatId, new Reservation(start,
+                start.plusHours(1), VALID_USER)).getId());
+    }
+
+    @Test
+    void freeSeatsOfAFloorAreReadFromMemory() {
+        // Arrange
+        long seatId = createSeat();
+        long floorId = IDS.incrementAndGet();
+        when(floorRepository.save(any(Floor.class)))
+                .thenAnswer(i -> i.getArgument(0));
+        floorService.addSeat(new Floor(floorId, "Floor", List.of(),
+                new ArrayList<>()), new Seat(seatId, "Seat" + seatId,
+                true, 0, 0, 0, 0, new ArrayList<>()));
+        LocalDateTime start = LocalDate.now().plusDays(DAYS_AHEAD)
+                .atTime(START_HOUR, 0);
+        Reservation reservation = seatService.reserve(seatId,
+                new Reservation(start, start.withHour(END_HOUR),
+                        VALID_USER));
+        List<FreeSeat> reserved = floorService.findFreeSeats(floorId,
+                start, start.withHour(END_HOUR));
+
+        // Act
+        reservationService.cancelReservation(reservation.getId(),
+                VALID_USER.getEmail());
+
+        // Assert
+        assertEquals(List.of(), reserved);
+        assertEquals(List.of(seatId), floorService.findFreeSeats(floorId,
+                        start, start.withHour(END_HOUR)).stream()
+                .map(freeSeat -> freeSeat.getSeat().getId()).toList());
+        verify(floorRepository, never()).findByIdWithReservationsByDate(
+                anyLong(), any(LocalDate.class));
+    }
+
+    @Test
+    void restartAddsTheReservationsTheJournalMissed(
+            @TempDir final Path directory) {
+        // Arrange
+        long seatId = IDS.incrementAndGet();
+        LocalDateTime start = LocalDate.now().plusDays(DAYS_AHEAD)
+                .atTime(START_HOUR, 0);
+        BookingJournal journal = new BookingJournal(directory.toString(),
+                JOURNAL_SIZE_MB);
+        journal.replay(mock(BookingEvents.class));
+        journal.seatSaved(1, new Seat(seatId, "Seat" + seatId, true,
+                0, 0, 0, 0, List.of()));
+        journal.pending(seatId);
+        journal.force();
+        SeatRepository storedSeats = mock(SeatRepository.class);
+        ReservationRepository storedReservations =
+                mock(ReservationRepository.class);
+        when(storedReservations.findAllOfSeatsEndingAfter(
+                eq(List.of(seatId)), any(LocalDateTime.class)))
+                .thenReturn(List.of(new SeatReservation(seatId,
+                        "Seat" + seatId, new Reservation(
+                        IDS.incrementAndGet(), start,
+                        start.withHour(END_HOUR), false, VALID_USER,
+                        false))));
+        BookingEngine restarted = restart(directory, storedSeats,
+                storedReservations);
+
+        // Act
+        restarted.load();
+
+        // Assert
+        try {
+            assertThrows(IllegalArgumentException.class,
+                    () -> restarted.reserve(seatId, new Reservation(start,
+                            start.withHour(END_HOUR), VALID_USER)));
+            verify(storedSeats, never()).forEach(any());
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    @Test
+    void restartWithSettledWritesDoesNotReadTheDatabase(
+            @TempDir final Path directory) {
+        // Arrange
+        long seatId = IDS.incrementAndGet();
+        LocalDateTime start = LocalDate.now().plusDays(DAYS_AHEAD)
+                .atTime(START_HOUR, 0);
+        BookingJournal journal = new BookingJournal(directory.toString(),
+                JOURNAL_SIZE_MB);
+        journal.replay(mock(BookingEvents.class));
+        journal.pending(BookingEngine.ALL_SEATS);
+        journal.seatSaved(1, new Seat(seatId, "Seat" + seatId, true,
+                0, 0, 0, 0, List.of()));
+        journal.settled(BookingEngine.ALL_SEATS);
+        journal.pending(seatId);
+        journal.reserved(seatId, new Reservation(IDS.incrementAndGet(),
+                start, start.withHour(END_HOUR), false, VALID_USER, false));
+        journal.settled(seatId);
+        journal.force();
+        SeatRepository storedSeats = mock(SeatRepository.class);
+        ReservationRepository storedReservations =
+                mock(ReservationRepository.class);
+        BookingEngine restarted = restart(directory, storedSeats,
+                storedReservations);
+
+        // Act
+        restarted.load();
+
+        // Assert
+        try {
+            assertThrows(IllegalArgumentException.class,
+                    () -> restarted.reserve(seatId, new Reservation(start,
+                            start.withHour(END_HOUR), VALID_USER)));
+            verify(storedSeats, never()).forEach(any());
+            verify(storedReservations, never()).findAllOfSeatsEndingAfter(
+                    any(), any(LocalDateTime.class));
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    @Test
+    void restartWritesTheReplayedChangesOnceById(
+            @TempDir final Path directory) {
+        // Arrange
+        long seatId = IDS.incrementAndGet();
+        long missingSeatId = IDS.incrementAndGet();
+        long cancelledId = IDS.incrementAndGet();
+        long checkedInId = IDS.incrementAndGet();
+        LocalDateTime start = LocalDate.now().plusDays(DAYS_AHEAD)
+                .atTime(START_HOUR, 0);
+        BookingJournal journal = new BookingJournal(directory.toString(),
+                JOURNAL_SIZE_MB);
+        journal.replay(mock(BookingEvents.class));
+        journal.seatSaved(1, new Seat(seatId, "Seat" + seatId, true,
+                0, 0, 0, 0, List.of()));
+        Reservation cancelled = new Reservation(cancelledId, start,
+                start.withHour(END_HOUR), false, VALID_USER, false);
+        journal.reserved(seatId, cancelled);
+        cancelled.setCancelled(true);
+        journal.cancelled(seatId, cancelled);
+        Reservation checkedIn = new Reservation(checkedInId, start,
+                start.withHour(END_HOUR), true, VALID_USER, false);
+        journal.reserved(seatId, checkedIn);
+        journal.checkedIn(seatId, checkedIn);
+        journal.checkedIn(missingSeatId, new Reservation(
+                IDS.incrementAndGet(), start, start.withHour(END_HOUR),
+                true, VALID_USER, false));
+        journal.availabilityChanged(seatId, false);
+        journal.availabilityChanged(seatId, true);
+        journal.availabilityChanged(missingSeatId, false);
+        journal.force();
+        SeatRepository storedSeats = mock(SeatRepository.class);
+        ReservationRepository storedReservations =
+                mock(ReservationRepository.class);
+        BookingEngine restarted = restart(directory, storedSeats,
+                storedReservations);
+
+        // Act
+        restarted.load();
+
+        // Assert
+        try {
+            verify(storedReservations, timeout(WRITE_TIMEOUT))
+                    .cancelAll(List.of(cancelledId));
+            verify(storedReservations, timeout(WRITE_TIMEOUT))
+                    .checkInAll(List.of(checkedInId));
+            verify(storedSeats, timeout(WRITE_TIMEOUT))
+                    .updateAvailability(List.of(seatId), true);
+            verify(storedSeats, never())
+                    .updateAvailability(any(), eq(false));
+            verify(storedReservations, never())
+                    .save(any(Reservation.class));
+            verify(storedSeats, never()).save(any(Seat.class));
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    /**
+     * Creates an engine which restarts from the journal in a directory.
+     *
+     * @param directory          the directory of the journal
+     * @param storedSeats        the seats in the database
+     * @param storedReservations the reservations in the database
+     * @return the engine, which is not loaded yet
+     */
+    private BookingEngine restart(final Path directory,
+                                  final SeatRepository storedSeats,
+                                  final ReservationRepository
+                                          storedReservations) {
+        BookingEngine restarted = new BookingEngine(storedSeats,
+                storedReservations, mock(BuildingRepository.class),
+                new SeatLockServiceImpl(),
+                TransactionOperations.withoutTransaction(),
+                new BookingJournal(directory.toString(), JOURNAL_SIZE_MB));
+        ReflectionTestUtils.setField(restarted, "snapshotMinutes",
+                SNAPSHOT_MINUTES);
+        return restarted;
+    }
+
+    /**
+     * Creates a seat through the service, so the engine knows it,
+     * and makes the repository give ids to new reservations.
+     *
+     * @return the id of the seat
+     */
+    private long createSeat() {
+        long seatId = IDS.incrementAndGet();
+        when(seatRepository.save(any(Seat.class)))
+                .thenAnswer(i -> {
+                    Seat seat = i.getArgument(0);
+                    seat.setId(seatId);
+                    return seat;
+                });
+        when(reservationRepository.insertForSeat(anyLong(),
+                any(Reservation.class)))
+                .thenAnswer(i -> {
+                    Reservation reservation = i.getArgument(1);
+                    reservation.setId(IDS.incrementAndGet());
+                    return reservation;
+                });
+        seatService.createSeat(new Seat("Seat" + seatId));
+        return seatId;
+    }
+}
@@ -0,0 +1,225 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class BookingJournalTests {
+    /**
+     * The size of the journal files in megabytes.
+     */
+    private static final int SIZE_MB = 1;
+
+    /**
+     * The id of the seat of the events.
+     */
+    private static final long SEAT_ID = 7;
+
+    /**
+     * The id of the floor of the seat.
+     */
+    private static final long FLOOR_ID = 3;
+
+    /**
+     * The id of the reservation of the events.
+     */
+    private static final long RESERVATION_ID = 11;
+
+    /**
+     * The start of the reservation.
+     */
+    private static final LocalDateTime START =
+            LocalDateTime.of(2030, 1, 2, 9, 0);
+
+    /**
+     * The end of the reservation.
+     */
+    private static final LocalDateTime END =
+            LocalDateTime.of(2030, 1, 2, 17, 0);
+
+    /**
+     * The amount of reservations which do not fit in one journal file.
+     */
+    private static final int MANY_RESERVATIONS = 20_000;
+
+    /**
+     * The user who made the reservation.
+     */
+    private static final User USER = new User("user@test.be", null,
+            "User", Role.USER);
+
+    @Test
+    void eventsAreReplayedAfterARestart(@TempDir final Path directory) {
+        // Arrange
+        BookingJournal journal = new BookingJournal(directory.toString(),
+                SIZE_MB);
+        journal.replay(new Recorder());
+        Reservation reservation = new Reservation(RESERVATION_ID, START,
+                END, false, USER, false);
+        journal.seatSaved(FLOOR_ID, new Seat(SEAT_ID, "A1", true, 0, 0,
+                1, 1, List.of()));
+        journal.pending(SEAT_ID);
+        journal.reserved(SEAT_ID, reservation);
+        journal.settled(SEAT_ID);
+        reservation.setCheckedIn(true);
+        journal.checkedIn(SEAT_ID, reservation);
+        journal.availabilityChanged(SEAT_ID, false);
+
+        // Act
+        Recorder recorder = new Recorder();
+        boolean replayed = new BookingJournal(directory.toString(), SIZE_MB)
+                .replay(recorder);
+
+        // Assert
+        assertTrue(replayed);
+        assertEquals(List.of(
+                "seatSaved 3 7 A1 true",
+                "pending 7",
+                "reserved 7 11 " + START + " " + END
+                        + " false user@test.be USER",
+                "settled 7",
+                "checkedIn 7 11 " + START + " " + END
+                        + " true user@test.be USER",
+                "availabilityChanged 7 false"), recorder.events);
+    }
+
+    @Test
+    void snapshotReplacesTheJournalBeforeIt(@TempDir final Path directory)
+            throws Exception {
+        // Arrange
+        BookingJournal journal = new BookingJournal(directory.toString(),
+                SIZE_MB);
+        journal.replay(new Recorder());
+        journal.availabilityChanged(SEAT_ID, false);
+
+        // Act
+        journal.snapshot(() -> events -> events.seatDeleted(SEAT_ID),
+                () -> { });
+        journal.availabilityChanged(SEAT_ID, true);
+        Recorder recorder = new Recorder();
+        new BookingJournal(directory.toString(), SIZE_MB).replay(recorder);
+
+        // Assert
+        assertEquals(List.of("seatDeleted 7", "availabilityChanged 7 true"),
+                recorder.events);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertFalse(files.anyMatch(file -> file.getFileName()
+                    .toString().equals("journal-1.bin")));
+        }
+    }
+
+    @Test
+    void fullJournalContinuesInTheNextFile(@TempDir final Path directory) {
+        // Arrange
+        BookingJournal journal = new BookingJournal(directory.toString(),
+                SIZE_MB);
+        journal.replay(new Recorder());
+
+        // Act
+        for (long id = 0; id < MANY_RESERVATIONS; id++) {
+            journal.reserved(SEAT_ID, new Reservation(id, START, END,
+                    false, USER, false));
+        }
+        Recorder recorder = new Recorder();
+        new BookingJournal(directory.toString(), SIZE_MB).replay(recorder);
+
+        // Assert
+        assertEquals(MANY_RESERVATIONS, recorder.events.size());
+    }
+
+    @Test
+    void emptyDirectoryHasNothingToReplay(@TempDir final Path directory) {
+        // Act
+        boolean replayed = new BookingJournal(directory.toString(), SIZE_MB)
+                .replay(new Recorder());
+
+        // Assert
+        assertFalse(replayed);
+    }
+
+    /**
+     * Records the replayed events as text.
+     */
+    private static final class Recorder implements BookingEvents {
+        /**
+         * The replayed events.
+         */
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void seatSaved(final long floorId, final Seat seat) {
+            events.add("seatSaved " + floorId + " " + seat.getId() + " "
+                    + seat.getName() + " " + seat.isAvailable());
+        }
+
+        @Override
+        public void seatDeleted(final long seatId) {
+            events.add("seatDeleted " + seatId);
+        }
+
+        @Override
+        public void reserved(final long seatId,
+                             final Reservation reservation) {
+            events.add("reserved " + seatId + " " + text(reservation));
+        }
+
+        @Override
+        public void cancelled(final long seatId,
+                              final Reservation reservation) {
+            events.add("cancelled " + seatId + " " + text(reservation));
+        }
+
+        @Override
+        public void checkedIn(final long seatId,
+                              final Reservation reservation) {
+            events.add("checkedIn " + seatId + " " + text(reservation));
+        }
+
+        @Override
+        public void availabilityChanged(final long seatId,
+                                        final boolean available) {
+            events.add("availabilityChanged " + seatId + " " + available);
+        }
+
+        @Override
+        public void pending(final long seatId) {
+            events.add("pending " + seatId);
+        }
+
+        @Override
+        public void settled(final long seatId) {
+            events.add("settled " + seatId);
+        }
+
+        /**
+         * Gives the reservation as text.
+         *
+         * @param reservation the reservation
+         * @return the text
+         */
+        private String text(final Reservation reservation) {
+            return reservation.getId() + " "
+                    + reservation.getStartDateTime() + " "
+                    + reservation.getEndDateTime() + " "
+                    + reservation.isCheckedIn() + " "
+                    + reservation.getUser().getEmail() + " "
+                    + reservation.getUser().getRole();
+        }
+    }
+}
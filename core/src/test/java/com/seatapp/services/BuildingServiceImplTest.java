@@ -70,7 +70,8 @@ class BuildingServiceImplTest {
         Seat seat = new Seat("A1");
         seat.setReservations(List.of(reservation));
 
-        when(buildingRepository.findById(1L))
+        when(buildingRepository.findByIdAndFloorIdAndDate(1L, 2L,
+                LocalDate.now()))
                 .thenReturn(new Building(1L, BUILDING_NAME1,
                         List.of(new Floor(2L, FLOOR_NAME1,
                                 new ArrayList<>(), List.of(seat)))));
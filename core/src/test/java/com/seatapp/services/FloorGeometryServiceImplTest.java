@@ -0,0 +1,97 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Building;
+import com.seatapp.domain.Floor;
+import com.seatapp.domain.FloorGeometry;
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.User;
+import com.seatapp.exceptions.EntityNotFoundException;
+import com.seatapp.repositories.BuildingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class FloorGeometryServiceImplTest {
+    /**
+     * Represents the building repository.
+     */
+    @MockBean(name = "buildingRepositoryImpl")
+    private BuildingRepository buildingRepository;
+
+    /**
+     * Represents the floor geometry service.
+     */
+    @Autowired
+    private FloorGeometryServiceImpl floorGeometryService;
+
+    @BeforeEach
+    void setup() {
+        Seat seat = new Seat("A1");
+        seat.setReservations(List.of(new Reservation(
+                LocalDate.now().atTime(0, 0),
+                LocalDate.now().plusDays(1).atTime(0, 0),
+                new User())));
+        when(buildingRepository.findGeometryByIdAndFloorId(1L, 2L))
+                .thenReturn(new Building(1L, "Building 1",
+                        List.of(new Floor(2L, "Floor 1",
+                                new ArrayList<>(), List.of(seat)))));
+        floorGeometryService.invalidate();
+    }
+
+    @Test
+    void getGeometryIsReadOncePerVersion() {
+        // Act
+        FloorGeometry first = floorGeometryService.getGeometry(1L, 2L);
+        FloorGeometry second = floorGeometryService.getGeometry(1L, 2L);
+
+        // Assert
+        assertSame(first, second);
+        Seat seat = first.getBuilding().getFloors().get(0).getSeats().get(0);
+        assertEquals("A1", seat.getName());
+        assertTrue(seat.getReservations().isEmpty());
+        verify(buildingRepository, times(1))
+                .findGeometryByIdAndFloorId(1L, 2L);
+    }
+
+    @Test
+    void getGeometryIsReadAgainAfterInvalidate() {
+        // Arrange
+        FloorGeometry first = floorGeometryService.getGeometry(1L, 2L);
+
+        // Act
+        floorGeometryService.invalidate();
+        FloorGeometry second = floorGeometryService.getGeometry(1L, 2L);
+
+        // Assert
+        assertNotEquals(first.getVersion(), second.getVersion());
+        verify(buildingRepository, times(2))
+                .findGeometryByIdAndFloorId(1L, 2L);
+    }
+
+    @Test
+    void getGeometryOfOtherBuilding() {
+        // Arrange
+        floorGeometryService.getGeometry(1L, 2L);
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class,
+                () -> floorGeometryService.getGeometry(3L, 2L));
+    }
+}
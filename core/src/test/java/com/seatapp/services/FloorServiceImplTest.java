@@ -2,6 +2,7 @@ package com.seatapp.services;
 
 import com.seatapp.domain.Seat;
 import com.seatapp.domain.Floor;
+import com.seatapp.domain.FreeSeat;
 import com.seatapp.domain.Reservation;
 import com.seatapp.domain.User;
 import com.seatapp.repositories.FloorRepository;
@@ -12,10 +13,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -32,6 +35,45 @@ class FloorServiceImplTest {
     @Autowired
     private FloorServiceImpl floorService;
 
+    /**
+     * The start of the searched period.
+     */
+    private static final LocalDateTime FROM =
+            LocalDate.now().plusDays(1).atTime(9, 0);
+
+    /**
+     * The end of the searched period.
+     */
+    private static final LocalDateTime TO =
+            LocalDate.now().plusDays(1).atTime(17, 0);
+
+    /**
+     * The id of the floor with the seats.
+     */
+    private static final long FLOOR_ID = 4L;
+
+    /**
+     * The id of the first seat on the floor.
+     */
+    private static final long SEAT_ID = 9_101L;
+
+    /**
+     * The id of the seat booked right before the searched period,
+     * apart from the seats of the other tests.
+     */
+    private static final long BACK_TO_BACK_SEAT_ID = 9_201L;
+
+    /**
+     * The minutes of the booking at the start of the day's period.
+     */
+    private static final int BOOKED_MINUTES = 10;
+
+    /**
+     * The id of the seat booked just outside of the searched period,
+     * apart from the seats of the other tests.
+     */
+    private static final long NEIGHBOURING_SEAT_ID = 9_301L;
+
     @Test
     void findFloorByIdTest() {
         // Arrange
@@ -73,4 +115,98 @@ class FloorServiceImplTest {
         //Assert
         assertEquals(1, floor.getSeats().size());
     }
+
+    @Test
+    void findFreeSeatsRanksLongestFreeTimeFirst() {
+        // Arrange
+        Seat booked = new Seat("A1");
+        booked.setId(SEAT_ID);
+        booked.setReservations(List.of(new Reservation(FROM.minusHours(1),
+                FROM.plusHours(1), new User())));
+        Seat unavailable = new Seat("A2");
+        unavailable.setId(SEAT_ID + 1);
+        unavailable.setAvailable(false);
+        unavailable.setReservations(new ArrayList<>());
+        Seat shortFree = new Seat("A3");
+        shortFree.setId(SEAT_ID + 2);
+        shortFree.setReservations(List.of(new Reservation(TO,
+                TO.plusHours(1), new User())));
+        Seat allDayFree = new Seat("A4");
+        allDayFree.setId(SEAT_ID + 3);
+        allDayFree.setReservations(new ArrayList<>());
+
+        when(floorRepository.findByIdWithReservationsByDate(FLOOR_ID,
+                FROM.toLocalDate()))
+                .thenReturn(new Floor(FLOOR_ID, "Floor 1",
+                        new ArrayList<>(), List.of(booked, unavailable,
+                        shortFree, allDayFree)));
+
+        // Act
+        List<FreeSeat> freeSeats = floorService.findFreeSeats(FLOOR_ID,
+                FROM, TO);
+
+        // Assert
+        assertEquals(List.of("A4", "A3"), freeSeats.stream()
+                .map(freeSeat -> freeSeat.getSeat().getName()).toList());
+        assertEquals(TO, freeSeats.get(1).getFreeUntil());
+    }
+
+    @Test
+    void findFreeSeatsOverTwoDaysThrows() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> floorService
+                .findFreeSeats(FLOOR_ID, FROM, TO.plusDays(1)));
+    }
+
+    @Test
+    void findFreeSeatsIncludesSeatBookedRightBeforeThePeriod() {
+        // Arrange
+        LocalDateTime bookedUntil = FROM.plusMinutes(BOOKED_MINUTES);
+        Seat seat = new Seat("B1");
+        seat.setId(BACK_TO_BACK_SEAT_ID);
+        seat.setReservations(List.of(new Reservation(FROM, bookedUntil,
+                new User())));
+        when(floorRepository.findByIdWithReservationsByDate(FLOOR_ID,
+                FROM.toLocalDate()))
+                .thenReturn(new Floor(FLOOR_ID, "Floor 1",
+                        new ArrayList<>(), List.of(seat)));
+
+        // Act
+        List<FreeSeat> freeSeats = floorService.findFreeSeats(FLOOR_ID,
+                bookedUntil, TO);
+        List<FreeSeat> overlapping = floorService.findFreeSeats(FLOOR_ID,
+                bookedUntil.minusMinutes(1), TO);
+
+        // Assert
+        assertEquals(1, freeSeats.size());
+        assertEquals(bookedUntil, freeSeats.get(0).getFreeFrom());
+        assertEquals(List.of(), overlapping);
+    }
+
+    @Test
+    void findFreeSeatsGivesExactTimesAroundFreeSlots() {
+        // Arrange
+        LocalDateTime bookedUntil = FROM.minusMinutes(BOOKED_MINUTES);
+        LocalDateTime bookedFrom = TO.plusMinutes(BOOKED_MINUTES);
+        Seat seat = new Seat("C1");
+        seat.setId(NEIGHBOURING_SEAT_ID);
+        seat.setReservations(List.of(
+                new Reservation(bookedUntil.minusHours(1), bookedUntil,
+                        new User()),
+                new Reservation(bookedFrom, bookedFrom.plusHours(1),
+                        new User())));
+        when(floorRepository.findByIdWithReservationsByDate(FLOOR_ID,
+                FROM.toLocalDate()))
+                .thenReturn(new Floor(FLOOR_ID, "Floor 1",
+                        new ArrayList<>(), List.of(seat)));
+
+        // Act
+        List<FreeSeat> freeSeats = floorService.findFreeSeats(FLOOR_ID,
+                FROM, TO);
+
+        // Assert
+        assertEquals(1, freeSeats.size());
+        assertEquals(bookedUntil, freeSeats.get(0).getFreeFrom());
+        assertEquals(bookedFrom, freeSeats.get(0).getFreeUntil());
+    }
 }
@@ -0,0 +1,55 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.KeysetPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class KeysetPageTests {
+    /**
+     * The limit of the pages in the tests.
+     */
+    private static final int LIMIT = 2;
+
+    @Test
+    void pageWithMoreItemsHasCursorOfLastItem() {
+        // Arrange
+        List<String> fetched = List.of("a", "b", "c");
+
+        // Act
+        KeysetPage<String> page = KeysetPage.of(fetched, LIMIT,
+                item -> item);
+
+        // Assert
+        assertEquals(List.of("a", "b"), page.getItems());
+        assertEquals("b", KeysetPage.decodeCursor(page.getNextCursor()));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        // Arrange
+        List<String> fetched = List.of("a", "b");
+
+        // Act
+        KeysetPage<String> page = KeysetPage.of(fetched, LIMIT,
+                item -> item);
+
+        // Assert
+        assertEquals(fetched, page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void limitOutOfRangeIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetPage.checkLimit(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetPage.checkLimit(KeysetPage.MAX_LIMIT + 1));
+    }
+}
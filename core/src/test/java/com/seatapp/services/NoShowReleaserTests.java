@@ -0,0 +1,146 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.SeatChange;
+import com.seatapp.domain.User;
+import com.seatapp.repositories.ReservationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "no.show.release.minutes=0")
+@RecordApplicationEvents
+class NoShowReleaserTests {
+    /**
+     * The id of the seat of the reservations.
+     */
+    private static final long SEAT_ID = 8_001L;
+
+    /**
+     * The id of the reservation which started.
+     */
+    private static final long STARTED_ID = 8_002L;
+
+    /**
+     * The id of the reservation which starts later.
+     */
+    private static final long LATER_ID = 8_003L;
+
+    /**
+     * The id of the seat of the reservation which was checked in.
+     */
+    private static final long CHECKED_IN_SEAT_ID = 8_004L;
+
+    /**
+     * The id of the reservation which was checked in.
+     */
+    private static final long CHECKED_IN_ID = 8_005L;
+
+    /**
+     * The user who makes the reservations.
+     */
+    private static final User VALID_USER = new User("User1",
+            "User@Test.be", "User1", Role.USER);
+
+    /**
+     * Represents the reservation repository.
+     */
+    @MockBean(name = "reservationRepositoryImpl")
+    private ReservationRepository reservationRepository;
+
+    /**
+     * Represents the publisher of the seat changes.
+     */
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Represents the releaser.
+     */
+    @Autowired
+    private NoShowReleaser noShowReleaser;
+
+    /**
+     * Represents the events published during a test.
+     */
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    void startedReservationIsReleased() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().minusMinutes(1);
+        Reservation reservation = new Reservation(start,
+                start.plusHours(1), VALID_USER);
+        reservation.setId(STARTED_ID);
+        eventPublisher.publishEvent(SeatChange.ofNewReservation(SEAT_ID,
+                reservation));
+
+        // Act
+        noShowReleaser.releaseDue();
+
+        // Assert
+        verify(reservationRepository).cancelAllNotCheckedIn(
+                argThat(ids -> ids.contains(STARTED_ID)));
+    }
+
+    @Test
+    void reservationIsKeptUntilItsDeadline() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusHours(1);
+        Reservation reservation = new Reservation(start,
+                start.plusHours(1), VALID_USER);
+        reservation.setId(LATER_ID);
+        eventPublisher.publishEvent(SeatChange.ofNewReservation(SEAT_ID,
+                reservation));
+
+        // Act
+        noShowReleaser.releaseDue();
+
+        // Assert
+        verify(reservationRepository, never()).cancelAllNotCheckedIn(
+                argThat(ids -> ids.contains(LATER_ID)));
+    }
+
+    @Test
+    void onlyCancelledReservationsAreReleased() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().minusMinutes(1);
+        Reservation noShow = new Reservation(start,
+                start.plusHours(1), VALID_USER);
+        noShow.setId(STARTED_ID);
+        Reservation checkedIn = new Reservation(start,
+                start.plusHours(1), VALID_USER);
+        checkedIn.setId(CHECKED_IN_ID);
+        eventPublisher.publishEvent(SeatChange.ofNewReservation(SEAT_ID,
+                noShow));
+        eventPublisher.publishEvent(SeatChange.ofNewReservation(
+                CHECKED_IN_SEAT_ID, checkedIn));
+        when(reservationRepository.cancelAllNotCheckedIn(anyList()))
+                .thenReturn(List.of(STARTED_ID));
+
+        // Act
+        noShowReleaser.releaseDue();
+
+        // Assert
+        assertEquals(List.of(SEAT_ID), applicationEvents
+                .stream(SeatChange.class)
+                .filter(change -> change.getNewReservation() == null)
+                .map(SeatChange::getSeatId).toList());
+    }
+}
@@ -0,0 +1,110 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.DayOccupancy;
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class OccupancyServiceImplTest {
+    /**
+     * An hour used in the tests.
+     */
+    private static final int HOUR9 = 9;
+    /**
+     * An hour used in the tests.
+     */
+    private static final int HOUR10 = 10;
+    /**
+     * The id of the seat in the tests.
+     */
+    private static final long SEAT_ID = 900L;
+    /**
+     * Username used in the tests.
+     */
+    private static final User VALID_USER =
+            new User("User1", "User@Test.be", "User1", Role.USER);
+
+    /**
+     * Represents the occupancy service.
+     */
+    @Autowired
+    private OccupancyServiceImpl occupancyService;
+
+    @Test
+    void occupancyIsKeptAndBooked() {
+        // Arrange
+        LocalDate day = LocalDate.now().plusDays(2);
+        Seat seat = new Seat(SEAT_ID, "A1", true, 0, 0, 0, 0,
+                new ArrayList<>());
+        DayOccupancy first = occupancyService.getDayOccupancy(day,
+                List.of(seat), occupancyService.getVersion());
+
+        // Act
+        occupancyService.book(SEAT_ID, new Reservation(
+                day.atTime(HOUR9, 0), day.atTime(HOUR10, 0), VALID_USER));
+        DayOccupancy second = occupancyService.getDayOccupancy(day,
+                List.of(seat), occupancyService.getVersion());
+
+        // Assert
+        assertTrue(first.getOfSeat(seat).isEmpty());
+        assertFalse(second.getOfSeat(seat).isEmpty());
+        assertSame(second.getOfSeat(seat), occupancyService.getDayOccupancy(
+                day, List.of(seat), occupancyService.getVersion())
+                .getOfSeat(seat));
+    }
+
+    @Test
+    void occupancyLoadedBeforeBookingIsNotKept() {
+        // Arrange
+        LocalDate day = LocalDate.now().plusDays(3);
+        Seat seat = new Seat(SEAT_ID, "A1", true, 0, 0, 0, 0,
+                new ArrayList<>());
+        long loadedVersion = occupancyService.getVersion();
+        occupancyService.book(SEAT_ID, new Reservation(
+                day.atTime(HOUR9, 0), day.atTime(HOUR10, 0), VALID_USER));
+
+        // Act
+        occupancyService.getDayOccupancy(day, List.of(seat), loadedVersion);
+        seat.setReservations(List.of(new Reservation(day.atTime(HOUR9, 0),
+                day.atTime(HOUR10, 0), VALID_USER)));
+        DayOccupancy occupancy = occupancyService.getDayOccupancy(day,
+                List.of(seat), occupancyService.getVersion());
+
+        // Assert
+        assertFalse(occupancy.getOfSeat(seat).isEmpty());
+    }
+
+    @Test
+    void releaseBuildsTheDayAgain() {
+        // Arrange
+        LocalDate day = LocalDate.now().plusDays(4);
+        Reservation reservation = new Reservation(day.atTime(HOUR9, 0),
+                day.atTime(HOUR10, 0), VALID_USER);
+        Seat seat = new Seat(SEAT_ID, "A1", true, 0, 0, 0, 0,
+                new ArrayList<>(List.of(reservation)));
+        occupancyService.getDayOccupancy(day, List.of(seat),
+                occupancyService.getVersion());
+
+        // Act
+        occupancyService.release(reservation);
+        seat.setReservations(new ArrayList<>());
+        DayOccupancy occupancy = occupancyService.getDayOccupancy(day,
+                List.of(seat), occupancyService.getVersion());
+
+        // Assert
+        assertTrue(occupancy.getOfSeat(seat).isEmpty());
+    }
+}
@@ -0,0 +1,156 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.ReservationIndex;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ReservationIndexTests {
+    /**
+     * An hour used in the tests.
+     */
+    private static final int HOUR9 = 9;
+    /**
+     * An hour used in the tests.
+     */
+    private static final int HOUR10 = 10;
+    /**
+     * An hour used in the tests.
+     */
+    private static final int HOUR11 = 11;
+    /**
+     * An hour used in the tests.
+     */
+    private static final int HOUR12 = 12;
+    /**
+     * An hour used in the tests.
+     */
+    private static final int HOUR13 = 13;
+    /**
+     * The amount of days used in the history test.
+     */
+    private static final int HISTORY_DAYS = 1000;
+    /**
+     * Username used in the tests.
+     */
+    private static final User VALID_USER =
+            new User("User1",
+                    "User@Test.be",
+                    "User1", Role.ADMIN);
+    /**
+     * The day used in the tests.
+     */
+    private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+
+    @Test
+    void overlappingTimeslotIsNotFree() {
+        // Arrange
+        ReservationIndex index = new ReservationIndex(List.of(
+                new Reservation(TOMORROW.atTime(HOUR10, 0),
+                        TOMORROW.atTime(HOUR12, 0), VALID_USER)));
+
+        // Act & Assert
+        assertFalse(index.isFree(TOMORROW.atTime(HOUR9, 0),
+                TOMORROW.atTime(HOUR11, 0)));
+        assertFalse(index.isFree(TOMORROW.atTime(HOUR11, 0),
+                TOMORROW.atTime(HOUR13, 0)));
+        assertFalse(index.isFree(TOMORROW.atTime(HOUR10, 0),
+                TOMORROW.atTime(HOUR11, 0)));
+    }
+
+    @Test
+    void adjacentTimeslotIsFree() {
+        // Arrange
+        ReservationIndex index = new ReservationIndex(List.of(
+                new Reservation(TOMORROW.atTime(HOUR10, 0),
+                        TOMORROW.atTime(HOUR12, 0), VALID_USER)));
+
+        // Act & Assert
+        assertTrue(index.isFree(TOMORROW.atTime(HOUR9, 0),
+                TOMORROW.atTime(HOUR10, 0)));
+        assertTrue(index.isFree(TOMORROW.atTime(HOUR12, 0),
+                TOMORROW.atTime(HOUR13, 0)));
+    }
+
+    @Test
+    void cancelledReservationsAreNotIndexed() {
+        // Arrange
+        Reservation cancelled = new Reservation(TOMORROW.atTime(HOUR10, 0),
+                TOMORROW.atTime(HOUR12, 0), VALID_USER);
+        cancelled.setCancelled(true);
+        ReservationIndex index = new ReservationIndex();
+
+        // Act
+        index.add(cancelled);
+
+        // Assert
+        assertEquals(0, index.size());
+        assertTrue(index.isFree(TOMORROW.atTime(HOUR10, 0),
+                TOMORROW.atTime(HOUR12, 0)));
+    }
+
+    @Test
+    void addReservationOnSeatWithLongHistory() {
+        // Arrange
+        List<Reservation> history = new ArrayList<>();
+        for (int day = HISTORY_DAYS; day > 0; day--) {
+            LocalDate date = LocalDate.now().minusDays(day);
+            history.add(new Reservation(date.atTime(HOUR10, 0),
+                    date.atTime(HOUR12, 0), VALID_USER));
+        }
+        Seat seat = new Seat("Test", history);
+
+        // Act
+        seat.addReservation(new Reservation(TOMORROW.atTime(HOUR10, 0),
+                TOMORROW.atTime(HOUR12, 0), VALID_USER));
+
+        // Assert
+        assertEquals(HISTORY_DAYS + 1, seat.getReservations().size());
+        assertFalse(new Reservation(TOMORROW.atTime(HOUR11, 0),
+                TOMORROW.atTime(HOUR13, 0), VALID_USER)
+                .isValidNewReservation(
+                        new ReservationIndex(seat.getReservations())));
+    }
+
+    @Test
+    void reservationCancelledInTheListCanBeReservedAgain() {
+        // Arrange
+        Seat seat = new Seat("Test");
+        Reservation reservation = new Reservation(TOMORROW.atTime(HOUR10, 0),
+                TOMORROW.atTime(HOUR12, 0), VALID_USER);
+        seat.addReservation(reservation);
+        reservation.setCancelled(true);
+
+        // Act
+        seat.addReservation(new Reservation(TOMORROW.atTime(HOUR11, 0),
+                TOMORROW.atTime(HOUR13, 0), VALID_USER));
+
+        // Assert
+        assertEquals(2, seat.getReservations().size());
+    }
+
+    @Test
+    void indexIsNotBuiltFromAnotherListOfTheSameSize() {
+        // Arrange
+        List<Reservation> reservations = List.of(new Reservation(
+                TOMORROW.atTime(HOUR10, 0), TOMORROW.atTime(HOUR12, 0),
+                VALID_USER));
+        ReservationIndex index = new ReservationIndex(reservations);
+
+        // Act & Assert
+        assertTrue(index.isBuiltFrom(reservations));
+        assertFalse(index.isBuiltFrom(new ArrayList<>(reservations)));
+    }
+}
@@ -1,6 +1,8 @@
 package com.seatapp.services;
 
 import com.seatapp.domain.Reservation;
+import com.seatapp.domain.SeatChange;
+import com.seatapp.domain.SeatReservation;
 import com.seatapp.domain.User;
 import com.seatapp.repositories.ReservationRepository;
 import org.junit.jupiter.api.Test;
@@ -8,14 +10,25 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
+@RecordApplicationEvents
 class ReservationServiceImplTest {
+    /**
+     * The id of the seat of the cancelled reservation.
+     */
+    private static final long SEAT_ID = 7L;
+
     /**
      * Represents the reservation repository.
      */
@@ -28,6 +41,12 @@ class ReservationServiceImplTest {
     @Autowired
     private ReservationServiceImpl reservationService;
 
+    /**
+     * Represents the events published during a test.
+     */
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Test
     void createSeatTest() {
         // Arrange
@@ -39,6 +58,7 @@ class ReservationServiceImplTest {
                         false,
                         new User(),
                         true));
+        when(reservationRepository.findSeatIdById(1L)).thenReturn(SEAT_ID);
         when(reservationRepository.save(Mockito.any(Reservation.class)))
                 .thenAnswer(i -> {
                     Reservation reservation = i.getArgument(0);
@@ -53,4 +73,48 @@ class ReservationServiceImplTest {
         Reservation reservation = reservationRepository.findById(1L);
         assertTrue(reservation.isCancelled());
     }
+
+    @Test
+    void cancelPublishesTheSeatOfTheReservation() {
+        // Arrange
+        when(reservationRepository.findById(1L))
+                .thenReturn(new Reservation(1L,
+                        LocalDateTime.now(),
+                        LocalDateTime.now(),
+                        false,
+                        new User(),
+                        false));
+        when(reservationRepository.findSeatIdById(1L)).thenReturn(SEAT_ID);
+
+        //Act
+        reservationService.cancelReservation(1L, "test@cronos.be");
+
+        //Assert
+        assertEquals(List.of(SEAT_ID), applicationEvents
+                .stream(SeatChange.class)
+                .map(SeatChange::getSeatId).toList());
+    }
+
+    @Test
+    void getAllByUserTest() {
+        // Arrange
+        SeatReservation seatReservation = new SeatReservation(1L, "Test",
+                new Reservation(1L,
+                        LocalDateTime.now(),
+                        LocalDateTime.now(),
+                        false,
+                        new User(),
+                        false));
+        when(reservationRepository.findAllByUserFrom("test@cronos.be",
+                LocalDate.now().atStartOfDay().minusHours(1)))
+                .thenReturn(List.of(seatReservation));
+
+        //Act
+        List<SeatReservation> reservations =
+                reservationService.getAllByUser("test@cronos.be");
+
+        //Assert
+        assertEquals(1, reservations.size());
+        assertEquals("Test", reservations.get(0).getSeatName());
+    }
 }
@@ -0,0 +1,161 @@
+package com.seatapp.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class SeatLockServiceImplTest {
+    /**
+     * The amount of threads booking at the same time.
+     */
+    private static final int THREADS = 8;
+
+    /**
+     * The amount of bookings each thread makes.
+     */
+    private static final int BOOKINGS_PER_THREAD = 20;
+
+    /**
+     * The seconds to wait for a booking which has to happen.
+     */
+    private static final int TIMEOUT_SECONDS = 60;
+
+    /**
+     * The milliseconds to wait for a booking which must not happen.
+     */
+    private static final int BLOCKED_MILLIS = 200;
+
+    /**
+     * A seat id used in the tests.
+     */
+    private static final long SEAT_ID = 1L;
+
+    /**
+     * A seat id which is hashed to another lock than SEAT_ID.
+     */
+    private static final long OTHER_SEAT_ID = 2L;
+
+    /**
+     * Represents the seat lock service.
+     */
+    @Autowired
+    private SeatLockServiceImpl seatLockService;
+
+    /**
+     * A counter which is only changed while holding a seat lock.
+     */
+    private long counter;
+
+    @Test
+    void bookingsOnSameSeatRunOneAfterTheOther() throws Exception {
+        // Arrange
+        counter = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                for (int i = 0; i < BOOKINGS_PER_THREAD; i++) {
+                    seatLockService.withSeatLock(SEAT_ID, () -> {
+                        long value = counter;
+                        Thread.yield();
+                        counter = value + 1;
+                        return null;
+                    });
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals((long) THREADS * BOOKINGS_PER_THREAD, counter);
+    }
+
+    @Test
+    void bookingOnSameSeatWaitsForTheLock() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch firstHoldsLock = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch secondHoldsLock = new CountDownLatch(1);
+        Future<?> first = executor.submit(() ->
+                holdLock(SEAT_ID, firstHoldsLock, releaseFirst));
+        assertTrue(firstHoldsLock.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // Act
+        Future<?> second = executor.submit(() ->
+                holdLock(SEAT_ID, secondHoldsLock, new CountDownLatch(0)));
+
+        // Assert
+        assertFalse(secondHoldsLock.await(BLOCKED_MILLIS,
+                TimeUnit.MILLISECONDS));
+        releaseFirst.countDown();
+        assertTrue(secondHoldsLock.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    @Test
+    void bookingsOnDifferentSeatsRunAtTheSameTime() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch bothHoldLock = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        Future<?> first = executor.submit(() ->
+                holdLock(SEAT_ID, bothHoldLock, release));
+        Future<?> second = executor.submit(() ->
+                holdLock(OTHER_SEAT_ID, bothHoldLock, release));
+
+        // Assert
+        assertTrue(bothHoldLock.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        release.countDown();
+        first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    /**
+     * Holds the lock of the seat until it is released.
+     *
+     * @param seatId  the id of the seat to lock
+     * @param locked  counted down once the lock is held
+     * @param release awaited while holding the lock
+     * @return nothing
+     */
+    private Void holdLock(final long seatId, final CountDownLatch locked,
+                          final CountDownLatch release) {
+        return seatLockService.withSeatLock(seatId, () -> {
+            locked.countDown();
+            try {
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,166 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.User;
+import com.seatapp.repositories.ReservationRepository;
+import com.seatapp.repositories.SeatRepository;
+import com.seatapp.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+class SeatReservationConcurrencyTests {
+    /**
+     * The amount of users reserving the same seat at the same time.
+     */
+    private static final int THREADS = 16;
+
+    /**
+     * The seconds to wait for all the reservations to finish.
+     */
+    private static final int TIMEOUT_SECONDS = 60;
+
+    /**
+     * The hour on which the reservations start.
+     */
+    private static final int START_HOUR = 9;
+
+    /**
+     * The hour on which the reservations end.
+     */
+    private static final int END_HOUR = 17;
+
+    /**
+     * The minutes since the start of the reservation checked in on.
+     */
+    private static final int STARTED_MINUTES = 10;
+
+    /**
+     * Represents the seat service.
+     */
+    @Autowired
+    private SeatService seatService;
+
+    /**
+     * Represents the seat repository, spied on to release
+     * a reservation while it is checked in on.
+     */
+    @SpyBean
+    private SeatRepository seatRepository;
+
+    /**
+     * Represents the reservation repository.
+     */
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    /**
+     * Represents the user repository.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentReservationsOnSameSeatBookOnce() throws Exception {
+        // Arrange
+        Long seatId = seatRepository.save(
+                new Seat("Concurrent", new ArrayList<>())).getId();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String email = "concurrent" + i + "@test.be";
+            users.add(userRepository.save(
+                    new User(email, email, email, Role.USER)));
+        }
+        LocalDate date = LocalDate.now().plusDays(1);
+        LocalDateTime start = date.atTime(START_HOUR, 0);
+        LocalDateTime end = date.atTime(END_HOUR, 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (User user : users) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                try {
+                    seatService.reserve(seatId,
+                            new Reservation(start, end, user));
+                    successes.incrementAndGet();
+                } catch (IllegalArgumentException | DataAccessException
+                         | TransactionException e) {
+                    failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(1, successes.get());
+        assertEquals(THREADS - 1, failures.get());
+        Seat seat = seatRepository.findById(seatId);
+        assertEquals(1, seat.getReservations().size());
+        assertTrue(executor.awaitTermination(TIMEOUT_SECONDS,
+                TimeUnit.SECONDS));
+    }
+
+    @Test
+    void releaseDuringCheckInIsNotUndone() {
+        // Arrange
+        Long seatId = seatRepository.save(
+                new Seat("Interleaved", new ArrayList<>())).getId();
+        String email = "interleaved@test.be";
+        User user = userRepository.save(
+                new User(email, email, email, Role.USER));
+        LocalDateTime now = LocalDateTime.now();
+        Long reservationId = reservationRepository.insertForSeat(seatId,
+                new Reservation(now.minusMinutes(STARTED_MINUTES),
+                        now.plusHours(1), user)).getId();
+        doAnswer(invocation -> {
+            Object seat = invocation.callRealMethod();
+            CompletableFuture.runAsync(() -> reservationRepository
+                            .cancelAllNotCheckedIn(List.of(reservationId)))
+                    .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return seat;
+        }).when(seatRepository).findById(seatId);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> seatService.checkInOnSeat(seatId, email));
+        Reservation reservation = reservationRepository
+                .findById(reservationId);
+        assertTrue(reservation.isCancelled());
+        assertFalse(reservation.isCheckedIn());
+    }
+}
@@ -0,0 +1,144 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.Seat;
+import com.seatapp.domain.User;
+import com.seatapp.repositories.SeatRepository;
+import com.seatapp.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "seat.lock.database=true")
+class SeatRowLockConcurrencyTests {
+    /**
+     * The amount of users reserving the same seat at the same time.
+     */
+    private static final int THREADS = 16;
+
+    /**
+     * The seconds to wait for all the reservations to finish.
+     */
+    private static final int TIMEOUT_SECONDS = 60;
+
+    /**
+     * The hour on which the reservations start.
+     */
+    private static final int START_HOUR = 9;
+
+    /**
+     * The hour on which the reservations end.
+     */
+    private static final int END_HOUR = 17;
+
+    /**
+     * Represents the seat service.
+     */
+    @Autowired
+    private SeatService seatService;
+
+    /**
+     * Represents the seat repository.
+     */
+    @Autowired
+    private SeatRepository seatRepository;
+
+    /**
+     * Represents the user repository.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Represents the seat lock service, which runs the actions without
+     * locking, so only the lock on the seat row keeps them apart.
+     */
+    @MockBean
+    private SeatLockService seatLockService;
+
+    @BeforeEach
+    void runActionsWithoutLock() {
+        when(seatLockService.withSeatLock(anyLong(), any()))
+                .thenAnswer(invocation -> invocation
+                        .getArgument(1, Supplier.class).get());
+    }
+
+    @Test
+    void concurrentReservationsOnSameSeatBookOnceByRowLock()
+            throws Exception {
+        // Arrange
+        Long seatId = seatRepository.save(
+                new Seat("RowLocked", new ArrayList<>())).getId();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String email = "rowlocked" + i + "@test.be";
+            users.add(userRepository.save(
+                    new User(email, email, email, Role.USER)));
+        }
+        LocalDate date = LocalDate.now().plusDays(1);
+        LocalDateTime start = date.atTime(START_HOUR, 0);
+        LocalDateTime end = date.atTime(END_HOUR, 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (User user : users) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                try {
+                    seatService.reserve(seatId,
+                            new Reservation(start, end, user));
+                    successes.incrementAndGet();
+                } catch (IllegalArgumentException | DataAccessException
+                         | TransactionException e) {
+                    failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        verify(seatLockService, times(THREADS))
+                .withSeatLock(anyLong(), any());
+        assertEquals(1, successes.get());
+        assertEquals(THREADS - 1, failures.get());
+        Seat seat = seatRepository.findById(seatId);
+        assertEquals(1, seat.getReservations().size());
+        assertTrue(executor.awaitTermination(TIMEOUT_SECONDS,
+                TimeUnit.SECONDS));
+    }
+}
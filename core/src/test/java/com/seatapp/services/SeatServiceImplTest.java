@@ -5,6 +5,7 @@ import com.seatapp.domain.Role;
 import com.seatapp.domain.Seat;
 import com.seatapp.domain.User;
 import com.seatapp.exceptions.EntityNotFoundException;
+import com.seatapp.repositories.ReservationRepository;
 import com.seatapp.repositories.SeatRepository;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -25,7 +26,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -36,6 +41,12 @@ class SeatServiceImplTest {
     @MockBean(name = "seatRepositoryImpl")
     private SeatRepository seatRepository;
 
+    /**
+     * Represents the reservation repository.
+     */
+    @MockBean(name = "reservationRepositoryImpl")
+    private ReservationRepository reservationRepository;
+
     /**
      * Represents the seat service.
      */
@@ -48,19 +59,14 @@ class SeatServiceImplTest {
     private static final int HOURS_ADDED3 = 3;
 
     /**
-     * Hours added in the tests.
+     * Minutes removed in the tests.
      */
-    private static final int HOURS_ADDED25 = 25;
+    private static final int MINUTES_REMOVED10 = 10;
 
     /**
-     * Hours added in the tests.
+     * The id of the reservation checked in on in the tests.
      */
-    private static final int HOURS_ADDED28 = 28;
-
-    /**
-     * Minutes removed in the tests.
-     */
-    private static final int MINUTES_REMOVED10 = 10;
+    private static final long RESERVATION_ID = 5L;
 
     /**
      * Username used in the tests.
@@ -92,6 +98,31 @@ class SeatServiceImplTest {
         assertEquals(expectedSeat.getName(), savedSeat.getName());
     }
 
+    @Test
+    void createSeatsTest() {
+        // Arrange
+        List<Seat> seats = List.of(new Seat("A1"), new Seat("A2"));
+        when(seatRepository.saveAllOnFloor(2L, seats)).thenReturn(seats);
+
+        //Act
+        List<Seat> savedSeats = seatService.createSeats(2L, seats);
+
+        //Assert
+        assertEquals(2, savedSeats.size());
+        verify(seatRepository).saveAllOnFloor(2L, seats);
+    }
+
+    @Test
+    void createSeatsWithOneInvalidSeatSavesNone() {
+        // Arrange
+        List<Seat> seats = List.of(new Seat("A1"), new Seat(""));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> seatService.createSeats(2L, seats));
+        verify(seatRepository, never()).saveAllOnFloor(anyLong(), anyList());
+    }
+
     @Test
     void createSeatTestWithNull() {
         // Arrange
@@ -198,11 +229,8 @@ class SeatServiceImplTest {
                 LocalDateTime.now().plusHours(HOURS_ADDED3), new User()));
 
         Seat badSeat = new Seat("bad");
-        badSeat.addReservation(new Reservation(
-                LocalDateTime.now().plusHours(HOURS_ADDED25),
-                LocalDateTime.now().plusHours(HOURS_ADDED28), new User()));
-        given(seatRepository.findAll()).willReturn(
-                List.of(correctSeat, badSeat));
+        given(seatRepository.findAllWithReservationsByDate(LocalDate.now()))
+                .willReturn(List.of(correctSeat, badSeat));
 
         // Act
         List<Seat> seats =
@@ -217,35 +245,57 @@ class SeatServiceImplTest {
     @Test
     void reserveSeatTest() {
         // Arrange
-        when(seatRepository.findById(1L))
+        when(seatRepository.findByIdWithReservationsEndingAfter(
+                Mockito.eq(1L), Mockito.any(LocalDateTime.class)))
                 .thenReturn(new Seat("Test"));
-        when(seatRepository.save(Mockito.any(Seat.class)))
+        when(reservationRepository.insertForSeat(Mockito.eq(1L),
+                Mockito.any(Reservation.class)))
                 .thenAnswer(i -> {
-                    Seat seat = i.getArgument(0);
-                    seat.setId(1L);
-                    return seat;
+                    Reservation reservation = i.getArgument(1);
+                    reservation.setId(2L);
+                    return reservation;
                 });
 
         // Act
-        Seat seat = seatService.reserve(1L,
+        Reservation reservation = seatService.reserve(1L,
                 new Reservation(LocalDateTime.now().plusHours(1),
                         LocalDateTime.now().plusHours(HOURS_ADDED3),
                         new User()));
 
         // Assert
-        assertEquals("Test", seat.getName());
+        assertEquals(2L, reservation.getId());
+        Mockito.verify(seatRepository, Mockito.never())
+                .save(Mockito.any(Seat.class));
+    }
+
+    @Test
+    void reserveReservedSeatTest() {
+        // Arrange
+        Seat seat = new Seat("Test");
+        seat.getReservations().add(new Reservation(
+                LocalDateTime.now().plusHours(1),
+                LocalDateTime.now().plusHours(HOURS_ADDED3),
+                new User()));
+        when(seatRepository.findByIdWithReservationsEndingAfter(
+                Mockito.eq(1L), Mockito.any(LocalDateTime.class)))
+                .thenReturn(seat);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                seatService.reserve(1L,
+                        new Reservation(LocalDateTime.now().plusHours(2),
+                                LocalDateTime.now().plusHours(HOURS_ADDED3),
+                                new User())));
+        Mockito.verify(reservationRepository, Mockito.never())
+                .insertForSeat(Mockito.any(), Mockito.any());
     }
 
     @Test
     void reserveSeatTestStartTimeAfterEndTime() {
         // Arrange
-        when(seatRepository.findById(1L)).thenReturn(new Seat("Test"));
-        when(seatRepository.save(Mockito.any(Seat.class)))
-                .thenAnswer(i -> {
-                    Seat seat = i.getArgument(0);
-                    seat.setId(1L);
-                    return seat;
-                });
+        when(seatRepository.findByIdWithReservationsEndingAfter(
+                Mockito.eq(1L), Mockito.any(LocalDateTime.class)))
+                .thenReturn(new Seat("Test"));
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () ->
@@ -259,15 +309,10 @@ class SeatServiceImplTest {
     @Test
     void reserveUnavailableSeatTest() {
         // Arrange
-        when(seatRepository.findById(1L)).thenReturn(new Seat(1L,
-                "Test", false, 0, 0,
-                0, 0, new ArrayList<>()));
-        when(seatRepository.save(Mockito.any(Seat.class)))
-                .thenAnswer(i -> {
-                    Seat seat = i.getArgument(0);
-                    seat.setId(1L);
-                    return seat;
-                });
+        when(seatRepository.findByIdWithReservationsEndingAfter(
+                Mockito.eq(1L), Mockito.any(LocalDateTime.class)))
+                .thenReturn(new Seat(1L, "Test", false, 0, 0,
+                        0, 0, new ArrayList<>()));
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () ->
@@ -295,19 +340,50 @@ class SeatServiceImplTest {
         //given
         Seat seat = new Seat("Seat1");
         seat.setId(1L);
-        seat.getReservations().add(new Reservation(
+        Reservation reservation = new Reservation(
                 LocalDateTime.now().minusMinutes(MINUTES_REMOVED10),
                 LocalDateTime.now().plusHours(1),
-                VALID_USER));
+                VALID_USER);
+        reservation.setId(RESERVATION_ID);
+        seat.getReservations().add(reservation);
 
         given(seatRepository.findById(
                 seat.getId())).willReturn(seat);
+        given(reservationRepository.checkInIfNotCancelled(RESERVATION_ID))
+                .willReturn(true);
 
         //act
         seatService.checkInOnSeat(seat.getId(), VALID_USER.getEmail());
 
         //assert
         assertTrue(seat.getReservations().get(0).isCheckedIn());
+        verify(reservationRepository).checkInIfNotCancelled(RESERVATION_ID);
+        verify(seatRepository, never()).save(Mockito.any(Seat.class));
+    }
+
+    @Test
+    void checkInOnReleasedReservationThrows() {
+        //given
+        Seat seat = new Seat("Seat1");
+        seat.setId(1L);
+        Reservation reservation = new Reservation(
+                LocalDateTime.now().minusMinutes(MINUTES_REMOVED10),
+                LocalDateTime.now().plusHours(1),
+                VALID_USER);
+        reservation.setId(RESERVATION_ID);
+        seat.getReservations().add(reservation);
+
+        given(seatRepository.findById(
+                seat.getId())).willReturn(seat);
+        given(reservationRepository.checkInIfNotCancelled(RESERVATION_ID))
+                .willReturn(false);
+        Long seatId = seat.getId();
+        String username = VALID_USER.getEmail();
+
+        //act & assert
+        assertThrows(IllegalArgumentException.class,
+                () -> seatService.checkInOnSeat(seatId, username));
+        verify(seatRepository, never()).save(Mockito.any(Seat.class));
     }
 
     @Test
@@ -337,34 +413,6 @@ class SeatServiceImplTest {
         assertTrue(actualMessage.contains(expectedMessage));
     }
 
-    @Test
-    void getAllByUser() {
-        //given
-        Seat seat1 = new Seat("Test");
-        seat1.getReservations().add(new Reservation(1L,
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                false,
-                new User("test", "", "", Role.USER),
-                false));
-        seat1.getReservations().add(new Reservation(1L,
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                false,
-                new User("someone else", "", "", Role.USER),
-                false));
-        seat1.setId(1L);
-
-        given(seatRepository.findAll()).willReturn(List.of(seat1));
-
-        //act
-        List<Seat> seats = seatService.getAllByUser("test");
-
-        //assert
-        assertEquals(1L, seats.get(0).getReservations().get(0).getId());
-        assertEquals(1, seats.get(0).getReservations().size());
-    }
-
     @Test
     void changeAvailability() {
         //given
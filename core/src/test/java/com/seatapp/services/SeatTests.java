@@ -7,9 +7,15 @@ import com.seatapp.domain.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
@@ -38,6 +44,14 @@ class SeatTests {
      * An hour used in the tests.
      */
     private static final int DATE_HOUR16 = 16;
+    /**
+     * The amount of reservations added in the large input test.
+     */
+    private static final int MANY_RESERVATIONS = 10_000;
+    /**
+     * The seed of the random order of the large input test.
+     */
+    private static final long SHUFFLE_SEED = 42L;
     /**
      * Username used in the tests.
      */
@@ -92,5 +106,29 @@ class SeatTests {
 
         assertEquals(1, seat.getReservations().size());
     }
-}
 
+    @Test
+    void addReservationKeepsManyReservationsInStartTimeOrder() {
+        // Arrange
+        Seat seat = new Seat("Test");
+        LocalDateTime firstStart = LocalDate.now().plusDays(1).atStartOfDay();
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = 0; i < MANY_RESERVATIONS; i++) {
+            LocalDateTime start = firstStart.plusHours(i);
+            reservations.add(new Reservation(start, start.plusMinutes(1),
+                    VALID_USER));
+        }
+        Collections.shuffle(reservations, new Random(SHUFFLE_SEED));
+
+        // Act
+        reservations.forEach(seat::addReservation);
+
+        // Assert
+        List<Reservation> found = seat.getReservations();
+        assertEquals(MANY_RESERVATIONS, found.size());
+        for (int i = 1; i < found.size(); i++) {
+            assertFalse(found.get(i).getStartDateTime()
+                    .isBefore(found.get(i - 1).getStartDateTime()));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.seatapp.services;
+
+import com.seatapp.domain.Reservation;
+import com.seatapp.domain.Role;
+import com.seatapp.domain.SlotOccupancy;
+import com.seatapp.domain.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class SlotOccupancyTests {
+    /**
+     * An hour used in the tests.
+     */
+    private static final int HOUR9 = 9;
+    /**
+     * An hour used in the tests.
+     */
+    private static final int HOUR10 = 10;
+    /**
+     * An hour used in the tests.
+     */
+    private static final int HOUR12 = 12;
+    /**
+     * An hour used in the tests.
+     */
+    private static final int HOUR14 = 14;
+    /**
+     * A minute used in the tests.
+     */
+    private static final int MINUTE20 = 20;
+    /**
+     * The amount of slots in a day.
+     */
+    private static final int SLOTS_PER_DAY = 96;
+    /**
+     * The amount of slots in an hour.
+     */
+    private static final int SLOTS_PER_HOUR = 4;
+    /**
+     * Username used in the tests.
+     */
+    private static final User VALID_USER =
+            new User("User1", "User@Test.be", "User1", Role.USER);
+    /**
+     * The day used in the tests.
+     */
+    private static final LocalDate DAY = LocalDate.now().plusDays(1);
+
+    @Test
+    void emptyDayIsFree() {
+        // Act
+        SlotOccupancy occupancy = SlotOccupancy.ofDay(List.of(), DAY);
+
+        // Assert
+        assertTrue(occupancy.isEmpty());
+        assertFalse(occupancy.isFull());
+        assertEquals(SLOTS_PER_DAY, occupancy.countFreeSlots());
+    }
+
+    @Test
+    void reservationOccupiesItsSlots() {
+        // Arrange
+        Reservation reservation = new Reservation(DAY.atTime(HOUR9, 0),
+                DAY.atTime(HOUR10, 0), VALID_USER);
+
+        // Act
+        SlotOccupancy occupancy = SlotOccupancy.ofDay(
+                List.of(reservation), DAY);
+
+        // Assert
+        assertFalse(occupancy.isEmpty());
+        assertEquals(SLOTS_PER_DAY - SLOTS_PER_HOUR,
+                occupancy.countFreeSlots());
+        assertFalse(occupancy.isFree(DAY.atTime(HOUR9, MINUTE20),
+                DAY.atTime(HOUR12, 0)));
+        assertTrue(occupancy.isFree(DAY.atTime(HOUR10, 0),
+                DAY.atTime(HOUR12, 0)));
+    }
+
+    @Test
+    void cancelledReservationIsIgnored() {
+        // Arrange
+        Reservation reservation = new Reservation(DAY.atTime(HOUR9, 0),
+                DAY.atTime(HOUR10, 0), VALID_USER);
+        reservation.setCancelled(true);
+
+        // Act
+        SlotOccupancy occupancy = SlotOccupancy.ofDay(
+                List.of(reservation), DAY);
+
+        // Assert
+        assertTrue(occupancy.isEmpty());
+    }
+
+    @Test
+    void bookingWholeDayIsFull() {
+        // Arrange
+        SlotOccupancy occupancy = SlotOccupancy.ofDay(List.of(), DAY);
+
+        // Act
+        SlotOccupancy booked = occupancy.withBooking(
+                DAY.minusDays(1).atTime(HOUR12, 0),
+                DAY.plusDays(1).atTime(HOUR9, 0));
+
+        // Assert
+        assertTrue(booked.isFull());
+        assertTrue(occupancy.isEmpty());
+    }
+
+    @Test
+    void freeTimeRunsUpToTheReservations() {
+        // Arrange
+        SlotOccupancy occupancy = SlotOccupancy.ofDay(List.of(
+                new Reservation(DAY.atTime(HOUR9, 0),
+                        DAY.atTime(HOUR10, 0), VALID_USER),
+                new Reservation(DAY.atTime(HOUR14, 0),
+                        DAY.atTime(HOUR14, MINUTE20), VALID_USER)), DAY);
+
+        // Act & Assert
+        assertEquals(DAY.atTime(HOUR10, 0),
+                occupancy.freeFrom(DAY.atTime(HOUR12, 0)));
+        assertEquals(DAY.atTime(HOUR14, 0),
+                occupancy.freeUntil(DAY.atTime(HOUR12, 0)));
+        assertEquals(DAY.atStartOfDay(),
+                occupancy.freeFrom(DAY.atTime(HOUR9, 0)));
+        assertEquals(DAY.plusDays(1).atStartOfDay(),
+                occupancy.freeUntil(DAY.atTime(HOUR14, MINUTE20)));
+    }
+
+    @Test
+    void partlyBookedEdgeSlotIsNotInsideThePeriod() {
+        // Arrange
+        SlotOccupancy occupancy = SlotOccupancy.ofDay(List.of(
+                new Reservation(DAY.atTime(HOUR9, 0),
+                        DAY.atTime(HOUR9, MINUTE20), VALID_USER)), DAY);
+
+        // Act
+        boolean freeInside = occupancy.isFreeInside(
+                DAY.atTime(HOUR9, MINUTE20), DAY.atTime(HOUR12, 0));
+
+        // Assert
+        assertTrue(freeInside);
+        assertFalse(occupancy.isFree(DAY.atTime(HOUR9, MINUTE20),
+                DAY.atTime(HOUR12, 0)));
+        assertFalse(occupancy.isFreeInside(DAY.atTime(HOUR9, 0),
+                DAY.atTime(HOUR12, 0)));
+    }
+}